@@ -25,7 +25,9 @@
 *
 */
 
+import number.ComplexArray;
 import number.ComplexNumber;
+import number.NumberFormatter;
 import number.NumberSetFactory;
 
 /*
@@ -61,6 +63,26 @@ System.out.println("cos" + c1 + " = " + c1.cos());
 System.out.println("tan" + c1 + " = " + c1.tan());
 System.out.println("exp" + c1 + " = " + c1.exp());
 System.out.println();
+System.out.println("IN PLACE METHODS:");
+ComplexNumber sum = new ComplexNumber(0.0, 0.0);
+for(int i = 1; i <= 4; i++) sum.fmaAssign(c1, c2);
+System.out.println("4 * " + c1 + " * " + c2 + " = " + sum);
+ComplexNumber.div(sum, c2, sum);
+System.out.println("previous / " + c2 + " = " + sum);
+System.out.println();
+
+System.out.println("ARRAY METHODS:");
+ComplexArray z = ComplexArray.interleaved(new double[] { 1.0, 2.0, 3.0, -1.0, 0.0, 1.0 });
+ComplexArray w = new ComplexArray(z.length());
+ComplexArray.mul(z, c2, w);
+System.out.println(z + " * " + c2 + " = " + w);
+System.out.println("conjugated = " + w.conjugateAssign());
+System.out.println();
+StringBuilder s = new StringBuilder("formatted: ");
+new NumberFormatter().append(c2, s).append(" and ");
+new NumberFormatter(4).append(c2, s);
+System.out.println(s);
+System.out.println();
 System.out.println("bye.");
 }
 }
@@ -26,6 +26,7 @@
 */
 
 import number.IntegerNumber;
+import number.IntegerArray;
 import number.NaturalNumber;
 import number.NumberSetFactory;
 
@@ -52,6 +53,8 @@ System.out.println("abs(" + z1 + ") = " + z1.abs());
 System.out.println("clone(" + z1 + ") = " + (IntegerNumber)z1.clone());
 System.out.println(z1 + " == " + z2 + " is " + z1.equals(z2));
 System.out.println(z2 + " == " + z2 + " is " + z2.equals(z2));
+IntegerArray v = IntegerArray.wrap(new int[] { -2, 5, -7 });
+System.out.println("abs(" + v + ") = " + IntegerArray.abs(v, new IntegerArray(v.length())));
 System.out.println();
 System.out.println("bye.");
 }
@@ -26,6 +26,7 @@
 */
 
 import number.NaturalNumber;
+import number.NaturalArray;
 import number.NumberSetFactory;
 
 /*
@@ -47,6 +48,8 @@ System.out.println("factorial(" + a + ") = " + a.factorial());
 System.out.println("clone(" + b + ") = " + (NaturalNumber)b.clone());
 System.out.println(a + " == " + b + " is " + a.equals(b));
 System.out.println(a + " == " + a + " is " + a.equals(a));
+NaturalArray v = NaturalArray.wrap(new int[] { 1, 2, 3, 4 });
+System.out.println(v + " * " + v + " = " + NaturalArray.mul(v, v, new NaturalArray(v.length())));
 
 System.out.println();
 System.out.println("bye.");
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* TestParallel.java
+*
+* Author: Ismael Mosquera Rivera
+*
+*/
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import number.ComplexNumber;
+import number.ParallelOps;
+import number.RationalNumber;
+import number.RealFunction;
+
+/*
+* This example demonstrates the ParallelOps class,
+* and measures how the time to evaluate a function over a large array scales with the number of threads.
+*
+*/
+public class TestParallel
+{
+public static void main(String[] args)
+{
+int n = 1 << 22;
+double[] x = new double[n];
+for(int i = 0; i < n; i++) x[i] = (i % 1000) / 100.0;
+
+System.out.println("FUNCTIONS AND LAMBDAS:");
+ParallelOps p = new ParallelOps();
+double[] y = new double[n];
+p.apply(RealFunction.SIN, x, y, 0, n);
+System.out.println("sum of sin(x) = " + p.sum(y, 0, n));
+p.apply(v -> v * v, y);
+System.out.println("sum of sin(x)^2 = " + p.sum(y, 0, n));
+System.out.println();
+
+System.out.println("IN PLACE UPDATES:");
+ComplexNumber[] z = new ComplexNumber[1000];
+for(int i = 0; i < z.length; i++) z[i] = new ComplexNumber(i, 1.0);
+ComplexNumber w = new ComplexNumber(0.0, 1.0);
+new ParallelOps(100).forEach(z, c -> c.mulAssign(w));
+System.out.println("i * (999 + i) = " + z[999]);
+RationalNumber[] q = new RationalNumber[1000];
+for(int i = 0; i < q.length; i++) q[i] = new RationalNumber(i, 6);
+new ParallelOps(100).forEach(q, r -> r.reduceAssign());
+System.out.println("999/6 reduced = " + q[999]);
+System.out.println();
+
+System.out.println("OTHER EXECUTORS:");
+ExecutorService service = Executors.newFixedThreadPool(4);
+double[] e = new double[n];
+new ParallelOps(service, ParallelOps.DEFAULT_CHUNK_SIZE).apply(RealFunction.EXP, x, e, 0, n);
+service.shutdown();
+double[] e1 = new double[n];
+RealFunction.EXP.apply(x, e1, 0, n);
+System.out.println("same result as one thread: " + Arrays.equals(e, e1));
+System.out.println();
+
+System.out.println("SCALING:");
+int cores = Runtime.getRuntime().availableProcessors();
+double[] s1 = null;
+double t1 = 0.0;
+for(int threads = 1; threads <= cores; threads++)
+{
+ForkJoinPool pool = new ForkJoinPool(threads);
+ParallelOps po = new ParallelOps(pool, ParallelOps.DEFAULT_CHUNK_SIZE);
+double[] s = new double[n];
+double best = Double.MAX_VALUE;
+for(int rep = 0; rep < 10; rep++)
+{
+long t = System.nanoTime();
+po.apply(RealFunction.TAN, x, s, 0, n);
+best = Math.min(best, (System.nanoTime() - t) / 1.0e6);
+}
+pool.shutdown();
+if(s1 == null)
+{
+s1 = s;
+t1 = best;
+}
+System.out.printf("%d threads: tan of %d values in %.1f ms, speedup %.2f, same result: %b\r\n", threads, n, best, t1 / best, Arrays.equals(s, s1));
+}
+
+System.out.println();
+System.out.println("bye.");
+}
+}
+
+// END
@@ -0,0 +1,3 @@
+@echo off
+javac -d bin -classpath .;..\..\lib\number-set.jar TestParallel.java 
+
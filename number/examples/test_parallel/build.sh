@@ -0,0 +1,5 @@
+#
+# Simple script to build test parallel example
+#
+cls
+javac -d bin -classpath .:../../lib/number-set.jar TestParallel.java 
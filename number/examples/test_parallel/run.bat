@@ -0,0 +1,4 @@
+@echo off
+cls
+cd bin
+java -ea -cp .;..\..\..\lib\number-set.jar TestParallel > out.txt
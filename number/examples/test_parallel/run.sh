@@ -0,0 +1,7 @@
+#
+# Simple script to run test parallel
+#
+cls
+cd bin
+java -ea -classpath .:../../../lib/number-set.jar TestParallel >& out.txt
+
@@ -26,6 +26,10 @@
 */
 
 import number.IntegerNumber;
+import number.NumberCodec;
+import number.NumberFile;
+import number.NumberLayout;
+import number.RationalArray;
 import number.RationalNumber;
 import number.NumberSetFactory;
 
@@ -35,7 +39,7 @@ import number.NumberSetFactory;
 */
 public class TestRational
 {
-public static void main(String[] args)
+public static void main(String[] args) throws java.io.IOException
 {
 RationalNumber q1 = NumberSetFactory.rational(3, 4);
 RationalNumber q2 = NumberSetFactory.rational(1, 2);
@@ -56,6 +60,29 @@ System.out.println("clone(" + q1 + ") = " + (RationalNumber)q1.clone());
 System.out.println(q1 + " == " + q2 + " is " + q1.equals(q2));
 System.out.println(q1 + " == " + q1 + " is " + q1.equals(q1));
 System.out.println();
+RationalNumber sum = new RationalNumber(0, 1);
+RationalNumber h = new RationalNumber(1, 2);
+for(int i = 0; i < 3; i++) sum.fmaAssign(h, h).reduceAssign();
+System.out.println("3 * " + h + " * " + h + " = " + sum);
+RationalArray v = RationalArray.wrap(new int[] { 1, 2, 2, -6, 3, 4 });
+System.out.println(v + " + " + v + " = " + RationalArray.add(v, v, new RationalArray(v.length())).normalizeAssign());
+java.nio.file.Path path = java.nio.file.Files.createTempFile("rational", ".nset");
+try(NumberFile f = NumberFile.create(path, v.length(), new String[] { "q" }, new NumberLayout[] { NumberLayout.RATIONAL }))
+{
+for(int i = 0; i < v.length(); i++) f.column("q").setRational(i, v.getNumerator(i), v.getDenominator(i));
+}
+try(NumberFile f = NumberFile.open(path))
+{
+System.out.println("sum of the column read from the file = " + f.column("q").sum());
+}
+java.nio.file.Files.delete(path);
+java.nio.ByteBuffer b = java.nio.ByteBuffer.allocate(64);
+NumberCodec.VARINT.encode(v, b);
+NumberCodec.VARINT.encodeTagged(q2, b);
+System.out.println(v.length() + " rationals and a tagged one encoded as varints in " + b.position() + " bytes");
+b.flip();
+System.out.println("decoded: " + NumberCodec.VARINT.decode(b, new RationalArray(v.length())) + " and " + NumberCodec.VARINT.decodeTagged(b));
+System.out.println();
 System.out.println("bye.");
 }
 }
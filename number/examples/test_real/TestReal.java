@@ -28,6 +28,15 @@
 import number.IntegerNumber;
 import number.NaturalNumber;
 import number.RealNumber;
+import number.RealMath;
+import number.RealArray;
+import number.RealFunction;
+import number.RealVectorOps;
+import number.StreamEvaluator;
+import number.NumberArena;
+import number.NumberLayout;
+import number.OffHeapArray;
+import number.PowerTable;
 import number.NumberSetFactory;
 
 /*
@@ -36,7 +45,7 @@ import number.NumberSetFactory;
 */
 public class TestReal
 {
-public static void main(String[] args)
+public static void main(String[] args) throws java.io.IOException
 {
 RealNumber r1 = NumberSetFactory.real(6.0);
 RealNumber r2 = NumberSetFactory.real(3.0);
@@ -60,6 +69,7 @@ System.out.println("decimal part (" + r1 + ") = " + r1.decPart());
 r1.set(-12.57);
 System.out.println("abs(" + r1 + ") = " + r1.abs());
 System.out.println("fmod(3*pi, 2*pi) = " + RealNumber.fmod(new RealNumber(3.0*RealNumber.pi), new RealNumber(2.0*RealNumber.pi)));
+System.out.println("remainder(3*pi, 2*pi) = " + RealNumber.remainder(new RealNumber(3.0*RealNumber.pi), new RealNumber(2.0*RealNumber.pi)));
 System.out.println("sign(" + r1 + ") = " + r1.sign());
 System.out.println("neg(" + r1 + ") = " + r1.neg());
 r1.set(2.6);
@@ -74,6 +84,7 @@ r2.set(4.0);
 System.out.println("square(" + r1 + ") = " + r1.square());
 System.out.printf("hypot(3, 4) = %.1f\r\n", RealNumber.hypot(r1, r2).get());
 System.out.println("factorial(120) = " + RealNumber.factorial(new IntegerNumber(120)));
+System.out.println("binomial(52, 5) = " + RealNumber.binomial(new IntegerNumber(52), new IntegerNumber(5)));
 System.out.println();
 
 System.out.println("ANALITIC METHODS:");
@@ -83,6 +94,12 @@ System.out.printf("2^6 = %.1f\r\n", r1.pow(r2).get());
 r1.set(-2.0);
 r2.set(-2.0);
 System.out.printf("-2^-2 = %.2f\r\n", r1.pow(r2).get());
+PowerTable t = new PowerTable(1.5);
+System.out.printf("1.5^10 = %f, 1.5^-3 = %f\r\n", t.pow(10), t.pow(-3));
+// large exponents and a subnormal result, correctly rounded
+System.out.println("1.0000004439850831^781991508 = " + RealMath.pow(1.0000004439850831, 781991508) + " (6.07829162098602E150)");
+System.out.println("1.0000000026641434^982954004 = " + new PowerTable(1.0000000026641434).pow(982954004) + " (13.718295364248883)");
+System.out.println("(-1.0071804889757163)^-99388 = " + RealMath.pow(-1.0071804889757163, -99388) + " (1.483419361113774E-309)");
 r1.set(0.0);
 System.out.println("exp(" + r1 + ") = " + r1.exp());
 r1.set(1.0);
@@ -98,6 +115,7 @@ r1.set(1.0/1000.0);
 System.out.printf("log10(1/1000) = %.1f\r\n", r1.log10().get());
 r1.set(2.0);
 System.out.println("sqrt(" + r1 + ") = " + r1.sqrt());
+System.out.println("sqrtNewton(" + r1 + ") = " + r1.sqrtNewton());
 r1.set(125.0);
 System.out.printf("curt(125) = %.1f\r\n", r1.curt().get());
 r1.set(2.0);
@@ -114,6 +132,8 @@ r1.set(RealNumber.pi/8.0);
 r2 = r1.cos();
 System.out.println("cos(pi/8.0) = " + r2);
 System.out.printf("acos(%f) = %f radians, = %.2f degrees.\r\n", r2.get(), r2.acos().get(), r2.acos().toDegrees().get());
+RealNumber[] sc = r1.sincos();
+System.out.println("sincos(pi/8.0) = " + sc[0] + ", " + sc[1]);
 r1.set(3.0/4.0*RealNumber.pi);
 r2 = r1.tan();
 System.out.printf("tan(3/4*pi) = %.1f\r\n", r2.get());
@@ -121,6 +141,12 @@ System.out.printf("atan(%.1f) = %f radians, %.2f degrees.\r\n", r2.get(), r2.ata
 r1.set(4.0);
 r2.set(3.0);
 System.out.printf("atan2(4, 3) = %f radians, %.2f degrees.\r\n", RealNumber.atan2(r1, r2).get(), RealNumber.atan2(r1, r2).toDegrees().get());
+r2.set(-3.0);
+System.out.printf("atan2(4, -3) = %f radians, %.2f degrees.\r\n", RealNumber.atan2(r1, r2).get(), RealNumber.atan2(r1, r2).toDegrees().get());
+// signed zeros and subnormals, as StrictMath.atan2
+System.out.println("atan2(-4.9E-324, 3) = " + RealMath.atan2(-Double.MIN_VALUE, 3.0) + ", atan2(4.9E-324, 3) = " + RealMath.atan2(Double.MIN_VALUE, 3.0));
+System.out.println("atan2(-0.0, 3) = " + RealMath.atan2(-0.0, 3.0) + ", atan2(-0.0, -3) = " + RealMath.atan2(-0.0, -3.0) + ", atan2(-4.9E-324, -3) = " + RealMath.atan2(-Double.MIN_VALUE, -3.0));
+System.out.println("abs(-0.0) = " + RealMath.abs(-0.0));
 System.out.println();
 
 System.out.println("HYPERBOLIC METHODS:");
@@ -128,10 +154,44 @@ r1.set(1.0/4.0);
 System.out.println("cosh(1/4) = " + r1.cosh());
 r1.set(3.0/2.0);
 System.out.println("sinh(3/2) = " + r1.sinh());
+RealNumber sh = new RealNumber();
+RealNumber ch = new RealNumber();
+RealNumber.sinhcosh(r1, sh, ch);
+System.out.println("sinhcosh(3/2) = " + sh + ", " + ch);
 r1.set(4.0/3.0);
 r2 = r1.tanh();
 System.out.println("tanh(4/3) = " + r2);
 System.out.printf("atanh(%f) = %f\r\n", r2.get(), r2.atanh().get());
+r1.set(2.0);
+System.out.println("asinh(2) = " + r1.asinh());
+System.out.println("acosh(2) = " + r1.acosh());
+System.out.println();
+
+System.out.println("PRIMITIVE METHODS:");
+System.out.println("RealMath.sin(pi/6) * RealMath.exp(1) = " + RealMath.sin(RealMath.PI/6.0) * RealMath.exp(1.0));
+double[] x = { 0.0, 0.5, 1.0, 1.5, 2.0 };
+double[] y = new double[x.length];
+RealVectorOps.exp(x, y, 0, x.length);
+System.out.println("RealVectorOps.exp(0, 0.5, 1, 1.5, 2) = " + java.util.Arrays.toString(y));
+RealArray v = RealArray.wrap(x);
+System.out.println("sum of sqrt(0, 0.5, 1, 1.5, 2) = " + v.apply(RealFunction.SQRT).sum());
+try(NumberArena arena = new NumberArena())
+{
+OffHeapArray h = arena.allocate(NumberLayout.REAL, 3);
+h.setDouble(0L, 1.0);
+h.setDouble(1L, 2.0);
+h.setDouble(2L, 3.0);
+h.apply(RealFunction.LOG);
+System.out.println("off-heap log(1, 2, 3) = " + h.getDouble(0L) + ", " + h.getDouble(1L) + ", " + h.getDouble(2L));
+}
+java.nio.file.Path file = java.nio.file.Files.createTempFile("real", ".bin");
+java.nio.ByteBuffer bytes = java.nio.ByteBuffer.allocate(8 * x.length).order(java.nio.ByteOrder.LITTLE_ENDIAN);
+for(double value : x) bytes.putDouble(value);
+java.nio.file.Files.write(file, bytes.array());
+new StreamEvaluator().apply(file, file, RealFunction.SIN);
+bytes = java.nio.ByteBuffer.wrap(java.nio.file.Files.readAllBytes(file)).order(java.nio.ByteOrder.LITTLE_ENDIAN);
+System.out.println("sin of the last value of the file = " + bytes.getDouble(8 * (x.length - 1)));
+java.nio.file.Files.delete(file);
 
 System.out.println();
 System.out.println("bye.");
@@ -0,0 +1,842 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* ComplexArray.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+/**
+* The <code>ComplexArray</code> class stores a sequence of complex numbers packed in double arrays.
+* <p>
+* An array of <code>ComplexNumber</code> objects needs an object for every value, and the operations of that class make a new object for every result.
+* <p>
+* Here the values are kept in double arrays, and the operations work on whole arrays at once, writing their results into a given array,
+* <p>
+* so no object is made for any value.
+* <p>
+* Two layouts are supported, and both of them wrap the user arrays with no copy:
+* <ul>
+* <li>split: the real parts in one array and the imaginary parts in another one, real[i] and imag[i].</li>
+* <li>interleaved: both parts one after the other in a single array, data[2*i] and data[2*i+1].</li>
+* </ul>
+* <p>
+* Internally every part is described by an array, the index of the first value and the distance between two values,
+* <p>
+* so the operations work with both layouts, and even mix them. When all the arrays of an operation use the split layout,
+* <p>
+* the loops read and write plain arrays with the same index, so the JIT compiler can turn them into SIMD instructions.
+* <p>
+* Addition, substraction and multiplication give the same results as the methods of the <code>ComplexNumber</code> class.
+* <p>
+* The division scales the divisor as in Smith's algorithm, so it does not overflow nor underflow when the divisor is very large or very small.
+* <p>
+* example:
+* <p>
+* <code>ComplexArray z = ComplexArray.split(re, im);</code>
+* <p>
+* <code>z.mulAssign(z).conjugateAssign();</code>
+* <p>
+* This class uses assertions, so you must be use the '-ea' modifier when executing, in order to enable assertions.
+* <p>
+* example:
+* <p>
+* <code>java -ea MyApp</code>
+*
+*/
+public final class ComplexArray
+{
+
+/**
+* Constructor.
+* <p>
+* Makes a new array with the split layout and all its values set to zero.
+* <p>
+* @param length number of values.
+*
+*/
+public ComplexArray(int length)
+{
+this(new double[length], 0, new double[length], 0, 1, length);
+}
+
+/**
+* Constructor.
+* <p>
+* Makes a new array with the split layout, holding a copy of the given complex numbers.
+* <p>
+* @param numbers array of <code>ComplexNumber</code> objects.
+*
+*/
+public ComplexArray(ComplexNumber[] numbers)
+{
+this(numbers.length);
+for(int i = 0; i < length; i++) set(i, numbers[i]);
+}
+
+/* private constructor for the layouts */
+private ComplexArray(double[] re, int reOff, double[] im, int imOff, int stride, int length)
+{
+this.re = re;
+this.reOff = reOff;
+this.im = im;
+this.imOff = imOff;
+this.stride = stride;
+this.length = length;
+}
+
+/**
+* Makes a complex array with the split layout, backed by the given arrays with no copy.
+* <p>
+* @param real array with the real parts.
+* @param imag array with the imaginary parts, with the same length.
+* <p>
+* @return A <code>ComplexArray</code> object.
+*
+*/
+public static ComplexArray split(double[] real, double[] imag)
+{
+assert (real != imag && real.length == imag.length): "ComplexArray -> split method: Bad parameter, the arrays must be different and have the same length.";
+return new ComplexArray(real, 0, imag, 0, 1, real.length);
+}
+
+/**
+* Makes a complex array with the interleaved layout, backed by the given array with no copy.
+* <p>
+* @param data array with the real parts at the even indexes and the imaginary parts at the odd ones.
+* <p>
+* @return A <code>ComplexArray</code> object.
+*
+*/
+public static ComplexArray interleaved(double[] data)
+{
+assert (data.length % 2 == 0): "ComplexArray -> interleaved method: Bad parameter, the length of the array must be even.";
+return new ComplexArray(data, 0, data, 1, 2, data.length / 2);
+}
+
+/**
+* Evaluates whether this array uses the interleaved layout.
+* <p>
+* @return true if the real and imaginary parts are in the same array, or false otherwise.
+*
+*/
+public boolean isInterleaved()
+{
+return re == im;
+}
+
+/**
+* Gets the array backing the real parts, with no copy.
+* <p>
+* With the interleaved layout, it is the same array returned by <code>imagArray</code>.
+* <p>
+* @return the array with the real parts.
+*
+*/
+public double[] realArray()
+{
+return re;
+}
+
+/**
+* Gets the array backing the imaginary parts, with no copy.
+* <p>
+* With the interleaved layout, it is the same array returned by <code>realArray</code>.
+* <p>
+* @return the array with the imaginary parts.
+*
+*/
+public double[] imagArray()
+{
+return im;
+}
+
+/**
+* Gets the number of values.
+* <p>
+* @return the length of this array.
+*
+*/
+public int length()
+{
+return length;
+}
+
+/**
+* Gets a real part.
+* <p>
+* @param i index of the value.
+* <p>
+* @return the real part of the value at i.
+*
+*/
+public double getReal(int i)
+{
+return re[reOff + i*stride];
+}
+
+/**
+* Gets an imaginary part.
+* <p>
+* @param i index of the value.
+* <p>
+* @return the imaginary part of the value at i.
+*
+*/
+public double getImag(int i)
+{
+return im[imOff + i*stride];
+}
+
+/**
+* Copies a value into a <code>ComplexNumber</code> object, so that the same object can be used to visit the whole array.
+* <p>
+* @param i index of the value.
+* @param dst A <code>ComplexNumber</code> object to store the value.
+* <p>
+* @return dst, holding the value at i.
+*
+*/
+public ComplexNumber get(int i, ComplexNumber dst)
+{
+dst.set(getReal(i), getImag(i));
+return dst;
+}
+
+/**
+* Sets a value.
+* <p>
+* @param i index of the value.
+* @param real real part.
+* @param imag imaginary part.
+*
+*/
+public void set(int i, double real, double imag)
+{
+re[reOff + i*stride] = real;
+im[imOff + i*stride] = imag;
+}
+
+/**
+* Sets a value from a <code>ComplexNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param c A <code>ComplexNumber</code> object.
+*
+*/
+public void set(int i, ComplexNumber c)
+{
+set(i, c.getReal(), c.getImag());
+}
+
+/**
+* Makes an array of <code>ComplexNumber</code> objects with a copy of the values of this array.
+* <p>
+* @return array of <code>ComplexNumber</code> objects.
+*
+*/
+public ComplexNumber[] toNumbers()
+{
+ComplexNumber[] numbers = new ComplexNumber[length];
+for(int i = 0; i < length; i++) numbers[i] = new ComplexNumber(getReal(i), getImag(i));
+return numbers;
+}
+
+/**
+* Adds the values of another array to the values of this one, in place.
+* <p>
+* @param c A <code>ComplexArray</code> object with the same length.
+* <p>
+* @return this object.
+*
+*/
+public ComplexArray addAssign(ComplexArray c)
+{
+return add(this, c, this);
+}
+
+/**
+* Substracts the values of another array from the values of this one, in place.
+* <p>
+* @param c A <code>ComplexArray</code> object with the same length.
+* <p>
+* @return this object.
+*
+*/
+public ComplexArray subAssign(ComplexArray c)
+{
+return sub(this, c, this);
+}
+
+/**
+* Multiplies the values of this array by the values of another one, in place.
+* <p>
+* @param c A <code>ComplexArray</code> object with the same length.
+* <p>
+* @return this object.
+*
+*/
+public ComplexArray mulAssign(ComplexArray c)
+{
+return mul(this, c, this);
+}
+
+/**
+* Divides the values of this array by the values of another one, in place.
+* <p>
+* @param c A <code>ComplexArray</code> object with the same length.
+* <p>
+* @return this object.
+*
+*/
+public ComplexArray divAssign(ComplexArray c)
+{
+return div(this, c, this);
+}
+
+/**
+* Adds a complex number to every value of this array, in place.
+* <p>
+* @param c A <code>ComplexNumber</code> object.
+* <p>
+* @return this object.
+*
+*/
+public ComplexArray addAssign(ComplexNumber c)
+{
+return add(this, c, this);
+}
+
+/**
+* Substracts a complex number from every value of this array, in place.
+* <p>
+* @param c A <code>ComplexNumber</code> object.
+* <p>
+* @return this object.
+*
+*/
+public ComplexArray subAssign(ComplexNumber c)
+{
+return sub(this, c, this);
+}
+
+/**
+* Multiplies every value of this array by a complex number, in place.
+* <p>
+* @param c A <code>ComplexNumber</code> object.
+* <p>
+* @return this object.
+*
+*/
+public ComplexArray mulAssign(ComplexNumber c)
+{
+return mul(this, c, this);
+}
+
+/**
+* Divides every value of this array by a complex number, in place.
+* <p>
+* @param c A <code>ComplexNumber</code> object.
+* <p>
+* @return this object.
+*
+*/
+public ComplexArray divAssign(ComplexNumber c)
+{
+return div(this, c, this);
+}
+
+/**
+* Multiplies every value of this array by a real factor, in place.
+* <p>
+* @param factor Scale factor as a double value.
+* <p>
+* @return this object.
+*
+*/
+public ComplexArray scaleAssign(double factor)
+{
+return scale(this, factor, this);
+}
+
+/**
+* Replaces every value of this array by its conjugated, in place.
+* <p>
+* @return this object.
+*
+*/
+public ComplexArray conjugateAssign()
+{
+return conjugated(this, this);
+}
+
+/**
+* Static method to add two complex arrays value by value.
+* <p>
+* The destination can be any of the operands.
+* <p>
+* @param a A <code>ComplexArray</code> object.
+* @param b A <code>ComplexArray</code> object.
+* @param dst A <code>ComplexArray</code> object to store the result.
+* <p>
+* @return dst, holding a + b.
+*
+*/
+public static ComplexArray add(ComplexArray a, ComplexArray b, ComplexArray dst)
+{
+assert sameLength(a, b, dst): "ComplexArray -> add method: the arrays must have the same length.";
+int n = dst.length;
+if(isSplit(a, b, dst))
+{
+double[] ar = a.re, ai = a.im, br = b.re, bi = b.im, zr = dst.re, zi = dst.im;
+for(int i = 0; i < n; i++)
+{
+double xr = ar[i], xi = ai[i], yr = br[i], yi = bi[i];
+zr[i] = xr + yr;
+zi[i] = xi + yi;
+}
+}
+else
+{
+for(int i = 0; i < n; i++)
+{
+double xr = a.getReal(i), xi = a.getImag(i), yr = b.getReal(i), yi = b.getImag(i);
+dst.set(i, xr + yr, xi + yi);
+}
+}
+return dst;
+}
+
+/**
+* Static method to substract two complex arrays value by value.
+* <p>
+* The destination can be any of the operands.
+* <p>
+* @param a A <code>ComplexArray</code> object.
+* @param b A <code>ComplexArray</code> object.
+* @param dst A <code>ComplexArray</code> object to store the result.
+* <p>
+* @return dst, holding a - b.
+*
+*/
+public static ComplexArray sub(ComplexArray a, ComplexArray b, ComplexArray dst)
+{
+assert sameLength(a, b, dst): "ComplexArray -> sub method: the arrays must have the same length.";
+int n = dst.length;
+if(isSplit(a, b, dst))
+{
+double[] ar = a.re, ai = a.im, br = b.re, bi = b.im, zr = dst.re, zi = dst.im;
+for(int i = 0; i < n; i++)
+{
+double xr = ar[i], xi = ai[i], yr = br[i], yi = bi[i];
+zr[i] = xr - yr;
+zi[i] = xi - yi;
+}
+}
+else
+{
+for(int i = 0; i < n; i++)
+{
+double xr = a.getReal(i), xi = a.getImag(i), yr = b.getReal(i), yi = b.getImag(i);
+dst.set(i, xr - yr, xi - yi);
+}
+}
+return dst;
+}
+
+/**
+* Static method to multiply two complex arrays value by value.
+* <p>
+* The destination can be any of the operands.
+* <p>
+* @param a A <code>ComplexArray</code> object.
+* @param b A <code>ComplexArray</code> object.
+* @param dst A <code>ComplexArray</code> object to store the result.
+* <p>
+* @return dst, holding a * b.
+*
+*/
+public static ComplexArray mul(ComplexArray a, ComplexArray b, ComplexArray dst)
+{
+assert sameLength(a, b, dst): "ComplexArray -> mul method: the arrays must have the same length.";
+int n = dst.length;
+if(isSplit(a, b, dst))
+{
+double[] ar = a.re, ai = a.im, br = b.re, bi = b.im, zr = dst.re, zi = dst.im;
+for(int i = 0; i < n; i++)
+{
+double xr = ar[i], xi = ai[i], yr = br[i], yi = bi[i];
+zr[i] = xr*yr-xi*yi;
+zi[i] = xr*yi+xi*yr;
+}
+}
+else
+{
+for(int i = 0; i < n; i++)
+{
+double xr = a.getReal(i), xi = a.getImag(i), yr = b.getReal(i), yi = b.getImag(i);
+dst.set(i, xr*yr-xi*yi, xr*yi+xi*yr);
+}
+}
+return dst;
+}
+
+/**
+* Static method to divide two complex arrays value by value.
+* <p>
+* Smith's algorithm divides by the larger part of the divisor first, so no intermediate value overflows nor underflows
+* <p>
+* unless the result itself does. The results can differ in the last bit from the ones of <code>ComplexNumber.div</code>.
+* <p>
+* The destination can be any of the operands.
+* <p>
+* @param a A <code>ComplexArray</code> object.
+* @param b A <code>ComplexArray</code> object.
+* @param dst A <code>ComplexArray</code> object to store the result.
+* <p>
+* @return dst, holding a / b.
+*
+*/
+public static ComplexArray div(ComplexArray a, ComplexArray b, ComplexArray dst)
+{
+assert sameLength(a, b, dst): "ComplexArray -> div method: the arrays must have the same length.";
+for(int i = 0; i < dst.length; i++)
+{
+double xr = a.getReal(i);
+double xi = a.getImag(i);
+double yr = b.getReal(i);
+double yi = b.getImag(i);
+if(Math.abs(yr) >= Math.abs(yi))
+{
+double r = yi / yr;
+double d = yr + yi*r;
+dst.set(i, (xr + xi*r) / d, (xi - xr*r) / d);
+}
+else
+{
+double r = yr / yi;
+double d = yr*r + yi;
+dst.set(i, (xr*r + xi) / d, (xi*r - xr) / d);
+}
+}
+return dst;
+}
+
+/**
+* Static method to add every value of a complex array and a complex number.
+* <p>
+* @param a A <code>ComplexArray</code> object.
+* @param c A <code>ComplexNumber</code> object.
+* @param dst A <code>ComplexArray</code> object to store the result, which can be a.
+* <p>
+* @return dst, holding a + c.
+*
+*/
+public static ComplexArray add(ComplexArray a, ComplexNumber c, ComplexArray dst)
+{
+assert sameLength(a, a, dst): "ComplexArray -> add method: the arrays must have the same length.";
+int n = dst.length;
+double yr = c.getReal();
+double yi = c.getImag();
+if(isSplit(a, a, dst))
+{
+double[] ar = a.re, ai = a.im, zr = dst.re, zi = dst.im;
+for(int i = 0; i < n; i++)
+{
+double xr = ar[i], xi = ai[i];
+zr[i] = xr + yr;
+zi[i] = xi + yi;
+}
+}
+else
+{
+for(int i = 0; i < n; i++)
+{
+double xr = a.getReal(i), xi = a.getImag(i);
+dst.set(i, xr + yr, xi + yi);
+}
+}
+return dst;
+}
+
+/**
+* Static method to substract every value of a complex array and a complex number.
+* <p>
+* @param a A <code>ComplexArray</code> object.
+* @param c A <code>ComplexNumber</code> object.
+* @param dst A <code>ComplexArray</code> object to store the result, which can be a.
+* <p>
+* @return dst, holding a - c.
+*
+*/
+public static ComplexArray sub(ComplexArray a, ComplexNumber c, ComplexArray dst)
+{
+assert sameLength(a, a, dst): "ComplexArray -> sub method: the arrays must have the same length.";
+int n = dst.length;
+double yr = c.getReal();
+double yi = c.getImag();
+if(isSplit(a, a, dst))
+{
+double[] ar = a.re, ai = a.im, zr = dst.re, zi = dst.im;
+for(int i = 0; i < n; i++)
+{
+double xr = ar[i], xi = ai[i];
+zr[i] = xr - yr;
+zi[i] = xi - yi;
+}
+}
+else
+{
+for(int i = 0; i < n; i++)
+{
+double xr = a.getReal(i), xi = a.getImag(i);
+dst.set(i, xr - yr, xi - yi);
+}
+}
+return dst;
+}
+
+/**
+* Static method to multiply every value of a complex array and a complex number.
+* <p>
+* @param a A <code>ComplexArray</code> object.
+* @param c A <code>ComplexNumber</code> object.
+* @param dst A <code>ComplexArray</code> object to store the result, which can be a.
+* <p>
+* @return dst, holding a * c.
+*
+*/
+public static ComplexArray mul(ComplexArray a, ComplexNumber c, ComplexArray dst)
+{
+assert sameLength(a, a, dst): "ComplexArray -> mul method: the arrays must have the same length.";
+int n = dst.length;
+double yr = c.getReal();
+double yi = c.getImag();
+if(isSplit(a, a, dst))
+{
+double[] ar = a.re, ai = a.im, zr = dst.re, zi = dst.im;
+for(int i = 0; i < n; i++)
+{
+double xr = ar[i], xi = ai[i];
+zr[i] = xr*yr-xi*yi;
+zi[i] = xr*yi+xi*yr;
+}
+}
+else
+{
+for(int i = 0; i < n; i++)
+{
+double xr = a.getReal(i), xi = a.getImag(i);
+dst.set(i, xr*yr-xi*yi, xr*yi+xi*yr);
+}
+}
+return dst;
+}
+
+/**
+* Static method to divide every value of a complex array by a complex number.
+* <p>
+* Smith's algorithm is used as in the division of two arrays; the ratio of the parts of c and the scaled divisor are computed once,
+* <p>
+* so the results are the same as dividing by an array holding c in every value.
+* <p>
+* @param a A <code>ComplexArray</code> object.
+* @param c A <code>ComplexNumber</code> object.
+* @param dst A <code>ComplexArray</code> object to store the result, which can be a.
+* <p>
+* @return dst, holding a / c.
+*
+*/
+public static ComplexArray div(ComplexArray a, ComplexNumber c, ComplexArray dst)
+{
+assert sameLength(a, a, dst): "ComplexArray -> div method: the arrays must have the same length.";
+int n = dst.length;
+double yr = c.getReal();
+double yi = c.getImag();
+boolean realFirst = Math.abs(yr) >= Math.abs(yi);
+double r = realFirst ? yi / yr : yr / yi;
+double d = realFirst ? yr + yi*r : yr*r + yi;
+if(isSplit(a, a, dst))
+{
+double[] ar = a.re, ai = a.im, zr = dst.re, zi = dst.im;
+for(int i = 0; i < n; i++)
+{
+double xr = ar[i], xi = ai[i];
+zr[i] = realFirst ? (xr + xi*r) / d : (xr*r + xi) / d;
+zi[i] = realFirst ? (xi - xr*r) / d : (xi*r - xr) / d;
+}
+}
+else
+{
+for(int i = 0; i < n; i++)
+{
+double xr = a.getReal(i), xi = a.getImag(i);
+if(realFirst) dst.set(i, (xr + xi*r) / d, (xi - xr*r) / d);
+else dst.set(i, (xr*r + xi) / d, (xi*r - xr) / d);
+}
+}
+return dst;
+}
+
+/**
+* Static method to scale every value of a complex array by a real factor.
+* <p>
+* @param a A <code>ComplexArray</code> object.
+* @param factor Scale factor as a double value.
+* @param dst A <code>ComplexArray</code> object to store the result, which can be a.
+* <p>
+* @return dst, holding a * factor.
+*
+*/
+public static ComplexArray scale(ComplexArray a, double factor, ComplexArray dst)
+{
+assert sameLength(a, a, dst): "ComplexArray -> scale method: the arrays must have the same length.";
+int n = dst.length;
+if(isSplit(a, a, dst))
+{
+double[] ar = a.re, ai = a.im, zr = dst.re, zi = dst.im;
+for(int i = 0; i < n; i++)
+{
+zr[i] = ar[i]*factor;
+zi[i] = ai[i]*factor;
+}
+}
+else
+{
+for(int i = 0; i < n; i++) dst.set(i, a.getReal(i)*factor, a.getImag(i)*factor);
+}
+return dst;
+}
+
+/**
+* Static method to get the conjugated of every value of a complex array.
+* <p>
+* @param a A <code>ComplexArray</code> object.
+* @param dst A <code>ComplexArray</code> object to store the result, which can be a.
+* <p>
+* @return dst, holding the conjugated values.
+*
+*/
+public static ComplexArray conjugated(ComplexArray a, ComplexArray dst)
+{
+assert sameLength(a, a, dst): "ComplexArray -> conjugated method: the arrays must have the same length.";
+int n = dst.length;
+if(isSplit(a, a, dst))
+{
+double[] ar = a.re, ai = a.im, zr = dst.re, zi = dst.im;
+for(int i = 0; i < n; i++)
+{
+zr[i] = ar[i];
+zi[i] = -ai[i];
+}
+}
+else
+{
+for(int i = 0; i < n; i++) dst.set(i, a.getReal(i), -a.getImag(i));
+}
+return dst;
+}
+
+/**
+* Static method to compute the magnitude, or absolute value, of every value of a complex array.
+* <p>
+* Every result is the same as the one of <code>ComplexNumber.mag</code>.
+* <p>
+* @param a A <code>ComplexArray</code> object.
+* @param dst array to store the magnitudes, with the same length.
+* <p>
+* @return dst.
+*
+*/
+public static double[] mag(ComplexArray a, double[] dst)
+{
+assert (dst.length == a.length): "ComplexArray -> mag method: the arrays must have the same length.";
+for(int i = 0; i < a.length; i++) dst[i] = RealMath.hypot(a.getReal(i), a.getImag(i));
+return dst;
+}
+
+/**
+* Static method to compute the argument of every value of a complex array.
+* <p>
+* Every result is the same as the one of <code>ComplexNumber.arg</code>.
+* <p>
+* @param a A <code>ComplexArray</code> object.
+* @param dst array to store the arguments, with the same length.
+* <p>
+* @return dst.
+*
+*/
+public static double[] arg(ComplexArray a, double[] dst)
+{
+assert (dst.length == a.length): "ComplexArray -> arg method: the arrays must have the same length.";
+for(int i = 0; i < a.length; i++) dst[i] = RealMath.atan2(a.getImag(i), a.getReal(i));
+return dst;
+}
+
+/**
+* Gets a string representation of this array.
+* <p>
+* @return String representation of this array.
+*
+*/
+public String toString()
+{
+StringBuilder s = new StringBuilder("[");
+ComplexNumber c = new ComplexNumber();
+NumberFormatter f = new NumberFormatter(2);
+for(int i = 0; i < length; i++)
+{
+if(i > 0) s.append(", ");
+f.append(get(i, c), s);
+}
+return s.append(']').toString();
+}
+
+
+/* private method to check that the arrays have the same length, for the assertions. */
+private static boolean sameLength(ComplexArray a, ComplexArray b, ComplexArray c)
+{
+return a.length == b.length && a.length == c.length;
+}
+
+/*
+* private method to check whether all the arrays use the split layout from index 0,
+* so that the loops can use the same plain index everywhere.
+*/
+private static boolean isSplit(ComplexArray a, ComplexArray b, ComplexArray c)
+{
+return (a.stride | b.stride | c.stride) == 1 && (a.reOff | a.imOff | b.reOff | b.imOff | c.reOff | c.imOff) == 0;
+}
+
+
+private final double[] re;
+private final int reOff;
+private final double[] im;
+private final int imOff;
+private final int stride;
+private final int length;
+}
+
+// END
@@ -28,9 +28,6 @@
 
 package number;
 
-import java.text.NumberFormat;
-import java.util.Locale;
-
 /**
 * The <code>ComplexNumber</code> class implements the most common operations applied to complex numbers.
 * <p>
@@ -345,6 +342,111 @@ public ComplexNumber exp()
 return exp(this);
 }
 
+/**
+* Adds the complex number passed as parameter to this one, in place.
+* <p>
+* No new object is made; the result is stored in this object.
+* <p>
+* @param c A <code>ComplexNumber</code> object.
+* <p>
+* @return this object, holding this + c.
+*
+*/
+public ComplexNumber addAssign(ComplexNumber c)
+{
+return add(this, c, this);
+}
+
+/**
+* Substracts the complex number passed as parameter from this one, in place.
+* <p>
+* @param c A <code>ComplexNumber</code> object.
+* <p>
+* @return this object, holding this - c.
+*
+*/
+public ComplexNumber subAssign(ComplexNumber c)
+{
+return sub(this, c, this);
+}
+
+/**
+* Multiplies this complex number by the one passed as parameter, in place.
+* <p>
+* @param c A <code>ComplexNumber</code> object.
+* <p>
+* @return this object, holding this * c.
+*
+*/
+public ComplexNumber mulAssign(ComplexNumber c)
+{
+return mul(this, c, this);
+}
+
+/**
+* Divides this complex number by the one passed as parameter, in place.
+* <p>
+* @param c A <code>ComplexNumber</code> object.
+* <p>
+* @return this object, holding this / c.
+*
+*/
+public ComplexNumber divAssign(ComplexNumber c)
+{
+return div(this, c, this);
+}
+
+/**
+* Adds the product of two complex numbers to this one, in place.
+* <p>
+* It is the step of an accumulation loop, sum += a * b, with no new objects.
+* <p>
+* @param a A <code>ComplexNumber</code> object.
+* @param b A <code>ComplexNumber</code> object.
+* <p>
+* @return this object, holding this + a * b.
+*
+*/
+public ComplexNumber fmaAssign(ComplexNumber a, ComplexNumber b)
+{
+return fma(a, b, this, this);
+}
+
+/**
+* Scales this complex number by the factor passed as parameter, in place.
+* <p>
+* @param factor Amount to scale.
+* <p>
+* @return this object, holding this * factor.
+*
+*/
+public ComplexNumber scaleAssign(double factor)
+{
+return scale(this, factor, this);
+}
+
+/**
+* Replaces this complex number by its conjugated.
+* <p>
+* @return this object, holding the conjugated.
+*
+*/
+public ComplexNumber conjugateAssign()
+{
+return conjugated(this, this);
+}
+
+/**
+* Replaces this complex number by its reciprocal.
+* <p>
+* @return this object, holding 1 / this.
+*
+*/
+public ComplexNumber reciprocalAssign()
+{
+return reciprocal(this, this);
+}
+
 /**
 * Gets a clone of this complex number.
 * <p>
@@ -388,11 +490,7 @@ return (_real == c.getReal() && _imag == c.getImag());
 */
 public String toString()
 {
-NumberFormat formatter = NumberFormat.getNumberInstance(Locale.US);
-	formatter.setMinimumFractionDigits(2);
-	formatter.setMaximumFractionDigits(2);
-String s = "( "+formatter.format(_real)+", "+formatter.format(_imag)+"i )";
-return s;
+return FORMATTER.get().format(this);
 }
 
 /**
@@ -406,9 +504,7 @@ return s;
 */
 public static ComplexNumber add(ComplexNumber c1, ComplexNumber c2)
 {
-double real = c1.getReal() + c2.getReal();
-double imag = c1.getImag() + c2.getImag();
-return new ComplexNumber(real, imag);
+return add(c1, c2, new ComplexNumber());
 }
 
 /**
@@ -422,9 +518,7 @@ return new ComplexNumber(real, imag);
 */
 public static ComplexNumber sub(ComplexNumber c1, ComplexNumber c2)
 {
-double real = c1.getReal() - c2.getReal();
-double imag = c1.getImag() - c2.getImag();
-return new ComplexNumber(real, imag);
+return sub(c1, c2, new ComplexNumber());
 }
 
 /**
@@ -438,9 +532,7 @@ return new ComplexNumber(real, imag);
 */
 public static ComplexNumber mul(ComplexNumber c1, ComplexNumber c2)
 {
-double real = c1.getReal()*c2.getReal()-c1.getImag()*c2.getImag();
-double imag = c1.getReal()*c2.getImag()+c1.getImag()*c2.getReal();
-return new ComplexNumber(real, imag);
+return mul(c1, c2, new ComplexNumber());
 }
 
 /**
@@ -454,7 +546,7 @@ return new ComplexNumber(real, imag);
 */
 public static ComplexNumber div(ComplexNumber c1, ComplexNumber c2)
 {
-	return mul(c1, c2.reciprocal());
+	return div(c1, c2, new ComplexNumber());
 }
 
 /**
@@ -481,7 +573,7 @@ return new ComplexNumber(c.getReal()*factor, c.getImag()*factor);
 */
 public static RealNumber mag(ComplexNumber c)
 {
-	return RealNumber.hypot(new RealNumber(c.getReal()), new RealNumber(c.getImag()));
+	return new RealNumber(RealMath.hypot(c.getReal(), c.getImag()));
 }
 
 /**
@@ -494,7 +586,7 @@ public static RealNumber mag(ComplexNumber c)
 */
 public static RealNumber arg(ComplexNumber c)
 {
-return RealNumber.atan2(new RealNumber(c.getImag()), new RealNumber(c.getReal()));
+return new RealNumber(RealMath.atan2(c.getImag(), c.getReal()));
 }
 
 /**
@@ -534,7 +626,17 @@ return new ComplexNumber(c.getReal()/sq, -c.getImag()/sq);
 */
 public static ComplexNumber sin(ComplexNumber c)
 {
-return new ComplexNumber(RealNumber.mul(RealNumber.sin(new RealNumber(c.getReal())),RealNumber.cosh(new RealNumber(c.getImag()))), RealNumber.mul(RealNumber.cos(new RealNumber(c.getReal())), RealNumber.sinh(new RealNumber(c.getImag()))));
+/* sin(a+bi) = sin(a)cosh(b) + i cos(a)sinh(b) */
+double a = c.getReal();
+double b = c.getImag();
+int n = RealMath.quadrant(a);
+double y = RealMath.reduced(a);
+double sin = RealMath.sinReduced(y, n);
+double cos = RealMath.cosReduced(y, n);
+double h = RealMath.hyperbolic(b);
+double sinh = RealMath.sinhOf(b, h);
+double cosh = RealMath.coshOf(b, h);
+return new ComplexNumber(sin*cosh, cos*sinh);
 }
 
 /**
@@ -547,7 +649,17 @@ return new ComplexNumber(RealNumber.mul(RealNumber.sin(new RealNumber(c.getReal(
 */
 public static ComplexNumber cos(ComplexNumber c)
 {
-	return new ComplexNumber(RealNumber.mul(RealNumber.cos(new RealNumber(c.getReal())),RealNumber.cosh(new RealNumber(c.getImag()))), RealNumber.mul(RealNumber.neg(RealNumber.sin(new RealNumber(c.getReal()))), RealNumber.sinh(new RealNumber(c.getImag()))));
+/* cos(a+bi) = cos(a)cosh(b) - i sin(a)sinh(b) */
+double a = c.getReal();
+double b = c.getImag();
+int n = RealMath.quadrant(a);
+double y = RealMath.reduced(a);
+double sin = RealMath.sinReduced(y, n);
+double cos = RealMath.cosReduced(y, n);
+double h = RealMath.hyperbolic(b);
+double sinh = RealMath.sinhOf(b, h);
+double cosh = RealMath.coshOf(b, h);
+return new ComplexNumber(cos*cosh, -sin*sinh);
 }
 
 /**
@@ -560,7 +672,26 @@ public static ComplexNumber cos(ComplexNumber c)
 */
 public static ComplexNumber tan(ComplexNumber c)
 {
-return div(c.sin(), c.cos());
+/*
+* tan(a+bi) = (sin(2a) + i sinh(2b)) / (cos(2a) + cosh(2b))
+* = (sin(a)cos(a) + i sinh(b)cosh(b)) / (cos(a)^2 + sinh(b)^2), which has no cancellation in the denominator.
+*/
+double a = c.getReal();
+double b = c.getImag();
+int n = RealMath.quadrant(a);
+double y = RealMath.reduced(a);
+double sin = RealMath.sinReduced(y, n);
+double cos = RealMath.cosReduced(y, n);
+double h = RealMath.hyperbolic(b);
+double sinh = RealMath.sinhOf(b, h);
+double cosh = RealMath.coshOf(b, h);
+if(b > TANH_LIMIT || b < -TANH_LIMIT)
+{
+/* sinh(b)^2 may overflow, but the imaginary part is 1 to double precision */
+return new ComplexNumber(sin*cos/sinh/sinh, (b < 0.0) ? -1.0 : 1.0);
+}
+double d = cos*cos + sinh*sinh;
+return new ComplexNumber(sin*cos/d, sinh*cosh/d);
 }
 
 /**
@@ -573,12 +704,167 @@ return div(c.sin(), c.cos());
 */
 public static ComplexNumber exp(ComplexNumber c)
 {
-return new ComplexNumber(RealNumber.mul(RealNumber.exp(new RealNumber(c.getReal())), RealNumber.cos(new RealNumber(c.getImag()))), RealNumber.mul(RealNumber.exp(new RealNumber(c.getReal())), RealNumber.sin(new RealNumber(c.getImag()))));
+/* exp(a+bi) = exp(a)(cos(b) + i sin(b)) */
+double b = c.getImag();
+int n = RealMath.quadrant(b);
+double y = RealMath.reduced(b);
+double e = RealMath.exp(c.getReal());
+return new ComplexNumber(e*RealMath.cosReduced(y, n), e*RealMath.sinReduced(y, n));
+}
+
+/**
+* Static method to add two complex numbers, storing the result in a given object.
+* <p>
+* The destination can be any of the operands, and no new object is made.
+* <p>
+* @param c1 A <code>ComplexNumber</code> object.
+* @param c2 A <code>ComplexNumber</code> object.
+* @param dst A <code>ComplexNumber</code> object to store the result.
+* <p>
+* @return dst, holding c1 + c2.
+*
+*/
+public static ComplexNumber add(ComplexNumber c1, ComplexNumber c2, ComplexNumber dst)
+{
+double real = c1.getReal() + c2.getReal();
+double imag = c1.getImag() + c2.getImag();
+dst.set(real, imag);
+return dst;
+}
+
+/**
+* Static method to substract two complex numbers, storing the result in a given object.
+* <p>
+* @param c1 A <code>ComplexNumber</code> object.
+* @param c2 A <code>ComplexNumber</code> object.
+* @param dst A <code>ComplexNumber</code> object to store the result.
+* <p>
+* @return dst, holding c1 - c2.
+*
+*/
+public static ComplexNumber sub(ComplexNumber c1, ComplexNumber c2, ComplexNumber dst)
+{
+double real = c1.getReal() - c2.getReal();
+double imag = c1.getImag() - c2.getImag();
+dst.set(real, imag);
+return dst;
+}
+
+/**
+* Static method to multiply two complex numbers, storing the result in a given object.
+* <p>
+* @param c1 A <code>ComplexNumber</code> object.
+* @param c2 A <code>ComplexNumber</code> object.
+* @param dst A <code>ComplexNumber</code> object to store the result.
+* <p>
+* @return dst, holding c1 * c2.
+*
+*/
+public static ComplexNumber mul(ComplexNumber c1, ComplexNumber c2, ComplexNumber dst)
+{
+double real = c1.getReal()*c2.getReal()-c1.getImag()*c2.getImag();
+double imag = c1.getReal()*c2.getImag()+c1.getImag()*c2.getReal();
+dst.set(real, imag);
+return dst;
+}
+
+/**
+* Static method to divide two complex numbers, storing the result in a given object.
+* <p>
+* c1 is multiplied by the reciprocal of c2, which is kept in local variables.
+* <p>
+* @param c1 A <code>ComplexNumber</code> object.
+* @param c2 A <code>ComplexNumber</code> object.
+* @param dst A <code>ComplexNumber</code> object to store the result.
+* <p>
+* @return dst, holding c1 / c2.
+*
+*/
+public static ComplexNumber div(ComplexNumber c1, ComplexNumber c2, ComplexNumber dst)
+{
+double sq = c2.getReal()*c2.getReal()+c2.getImag()*c2.getImag();
+double a = c2.getReal()/sq;
+double b = -c2.getImag()/sq;
+double real = c1.getReal()*a-c1.getImag()*b;
+double imag = c1.getReal()*b+c1.getImag()*a;
+dst.set(real, imag);
+return dst;
+}
+
+/**
+* Static method to compute c1 * c2 + c3, storing the result in a given object.
+* <p>
+* @param c1 A <code>ComplexNumber</code> object.
+* @param c2 A <code>ComplexNumber</code> object.
+* @param c3 A <code>ComplexNumber</code> object.
+* @param dst A <code>ComplexNumber</code> object to store the result.
+* <p>
+* @return dst, holding c1 * c2 + c3.
+*
+*/
+public static ComplexNumber fma(ComplexNumber c1, ComplexNumber c2, ComplexNumber c3, ComplexNumber dst)
+{
+double real = (c1.getReal()*c2.getReal()-c1.getImag()*c2.getImag()) + c3.getReal();
+double imag = (c1.getReal()*c2.getImag()+c1.getImag()*c2.getReal()) + c3.getImag();
+dst.set(real, imag);
+return dst;
+}
+
+/**
+* Static method to scale a complex number by a factor, storing the result in a given object.
+* <p>
+* @param c A <code>ComplexNumber</code> object to be scaled.
+* @param factor Scale factor as a double value.
+* @param dst A <code>ComplexNumber</code> object to store the result.
+* <p>
+* @return dst, holding c * factor.
+*
+*/
+public static ComplexNumber scale(ComplexNumber c, double factor, ComplexNumber dst)
+{
+dst.set(c.getReal()*factor, c.getImag()*factor);
+return dst;
+}
+
+/**
+* Static method to get the conjugated of a complex number, storing the result in a given object.
+* <p>
+* @param c A <code>ComplexNumber</code> object.
+* @param dst A <code>ComplexNumber</code> object to store the result.
+* <p>
+* @return dst, holding the conjugated of c.
+*
+*/
+public static ComplexNumber conjugated(ComplexNumber c, ComplexNumber dst)
+{
+dst.set(c.getReal(), -c.getImag());
+return dst;
+}
+
+/**
+* Static method to compute the reciprocal of a complex number, storing the result in a given object.
+* <p>
+* @param c A <code>ComplexNumber</code> object.
+* @param dst A <code>ComplexNumber</code> object to store the result.
+* <p>
+* @return dst, holding 1 / c.
+*
+*/
+public static ComplexNumber reciprocal(ComplexNumber c, ComplexNumber dst)
+{
+double sq = c.getReal()*c.getReal()+c.getImag()*c.getImag();
+dst.set(c.getReal()/sq, -c.getImag()/sq);
+return dst;
 }
 
 
 private double _real; // real part
 private double _imag; // imaginary part
+
+/* past this imaginary part, the imaginary part of the tangent is 1 to double precision */
+private static final double TANH_LIMIT = 20.0;
+/* one formatter for every thread, since a formatter can not be shared */
+private static final ThreadLocal<NumberFormatter> FORMATTER = ThreadLocal.withInitial(() -> new NumberFormatter(2));
 }
 
 // END
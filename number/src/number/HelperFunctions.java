@@ -38,40 +38,358 @@ public static int abs(int z)
 	return (z < 0) ? -z : z;
 }
 
+/* clears the sign bit, so abs(-0.0) is 0.0 */
 public static double abs(double x)
 {
-return (x < 0.0) ? -x : x;
+return Double.longBitsToDouble(Double.doubleToRawLongBits(x) & 0x7FFFFFFFFFFFFFFFL);
+}
+
+/*
+* Method to compute the greatest common divisor of two integers.
+* Iterative implementation by: Ismael Mosquera rivera.
+*/
+public static int gcd(int n1, int n2)
+{
+int d;
+int r;
+int a = abs(n1);
+int b = abs(n2);
+
+if(a < b)
+{
+	int tmp = a;
+	a = b;
+	b = tmp;
+}
+if(b == 0) return a;
+while(true)
+{
+	if((a%b)==0)
+	{
+	d = b;
+	break;
+	}
+	r = a%b;
+	a = b;
+	b = r;
+}
+return d;
 }
 
 public static int factorial(int n)
 {
 if(n < 0) return 0;
-if(n == 1 || n == 0) return 1;
-return n*factorial(n-1);
+assert (n <= MAX_INT_FACTORIAL): "factorial method: n! overflows an int for n > 12.";
+if(n > MAX_INT_FACTORIAL) return 0;
+return INT_FACTORIAL[n];
 }
 
+/* n! as a double value; it is infinity for n > 170 */
+public static double realFactorial(int n)
+{
+if(n < 0) return 0.0;
+if(n > MAX_FACTORIAL) return Double.POSITIVE_INFINITY;
+return FACTORIAL[n];
+}
+
+/* 1/n! as a double value; it underflows to zero for n > 170 */
+public static double inverseFactorial(int n)
+{
+if(n < 0 || n > MAX_FACTORIAL) return 0.0;
+return INV_FACTORIAL[n];
+}
+
+/* binomial coefficient n over k as a double value; it is infinity when it does not fit in a double */
+public static double binomial(int n, int k)
+{
+if(k < 0 || n < 0 || k > n) return 0.0;
+if(n <= MAX_FACTORIAL) return BINOMIAL[n][k];
+/* out of the table, use the product formula over the shortest side */
+if(k > n-k) k = n-k;
+double b = 1.0;
+for(int i = 1; i <= k; i++)
+{
+b = b * (double)(n-k+i) / (double)i;
+}
+return b;
+}
+
+/* base^exp by binary exponentiation; asserts when the result overflows an int */
 public static int pow(int base, int exp)
 {
 	if(exp < 0) return 0;
-	if(exp == 0) return 1;
-	int p = base;
-	for(int i = 1; i< exp; i++)
+	int p = 1;
+	int b = base;
+	boolean overflow = false;
+	while(true)
+	{
+	if((exp & 1) != 0)
 	{
-	p *= base;
+	long q = (long)p * (long)b;
+	p = (int)q;
+	overflow |= (q != p);
 	}
+	exp >>>= 1;
+	if(exp == 0) break;
+	long q = (long)b * (long)b;
+	b = (int)q;
+	/* squares are only taken while a higher bit remains, so they always reach the result */
+	overflow |= (q != b);
+	}
+	assert (!overflow): "pow method: the result overflows an int.";
+	return p;
+}
+
+/* base^exp by binary exponentiation; asserts when the result overflows a long */
+public static long pow(long base, int exp)
+{
+	if(exp < 0) return 0L;
+	long p = 1L;
+	long b = base;
+	boolean overflow = false;
+	while(true)
+	{
+	if((exp & 1) != 0)
+	{
+	long hi = Math.multiplyHigh(p, b);
+	p *= b;
+	overflow |= (hi != (p >> 63));
+	}
+	exp >>>= 1;
+	if(exp == 0) break;
+	long hi = Math.multiplyHigh(b, b);
+	b *= b;
+	overflow |= (hi != (b >> 63));
+	}
+	assert (!overflow): "pow method: the result overflows a long.";
 	return p;
 }
 
+/*
+* base^exp in O(log(exp)) multiplications.
+* Small exponents use plain binary exponentiation; big ones a sliding window over the odd powers base^1, base^3 ... base^15,
+* which saves about a third of the multiplications.
+* Each squaring doubles the relative error, so the products carry their rounding error in a second double (computed with fma),
+* renormalized after every product so that the low part stays below half an ulp of the high one.
+* The base is split as m 2^k with 1 <= m < 2, and the powers of m are kept near 1 by powers of two counted apart,
+* so nothing overflows or underflows before the final rounding, and the result stays within one ulp for any exponent,
+* subnormal results included.
+* A negative exponent computes the reciprocal of the positive power.
+*/
 public static double pow(double base, int exp)
 {
-	if(exp < 0) return 1.0/pow(base, abs(exp));
 	if(exp == 0) return 1.0;
-	double x = base;
-	for(int i = 1; i< exp; i++)
+	boolean negative = (base < 0.0 || (base == 0.0 && 1.0/base < 0.0)) && (exp & 1) != 0;
+	if(base != base) return base;
+	if(base == 0.0 || base == Double.POSITIVE_INFINITY || base == Double.NEGATIVE_INFINITY)
+	{
+	double r = ((base == 0.0) == (exp > 0)) ? 0.0 : Double.POSITIVE_INFINITY;
+	return negative ? -r : r;
+	}
+	double m = Math.abs(base);
+	int k = Math.getExponent(m);
+	if(k == Double.MIN_EXPONENT - 1)
+	{
+	/* subnormal base */
+	m *= 0x1p54;
+	k = Math.getExponent(m) - 54;
+	}
+	m *= twoPow(-Math.getExponent(m));
+	long n = Math.abs((long)exp);
+	return powPositive(m, n, (long)k * n, exp < 0, negative);
+}
+
+/* m^n 2^shift, or its reciprocal when invert is true, for 1 <= m < 2 and 0 < n <= 2^31 */
+private static double powPositive(double m, long n, long shift, boolean invert, boolean negative)
+{
+	/* the power is (h + l) 2^e */
+	double h = 1.0;
+	double l = 0.0;
+	long e = 0L;
+	if(n < WINDOW_THRESHOLD)
+	{
+	/* m^(2^i) is (bh + bl) 2^be */
+	double bh = m;
+	double bl = 0.0;
+	long be = 0L;
+	while(true)
+	{
+	if((n & 1L) != 0L)
+	{
+	double p = h * bh;
+	double q = Math.fma(h, bh, -p) + (h * bl + l * bh);
+	h = p + q;
+	l = q - (h - p);
+	e += be;
+	if(h > POW_LIMIT)
+	{
+	int s = Math.getExponent(h);
+	h *= twoPow(-s);
+	l *= twoPow(-s);
+	e += s;
+	}
+	}
+	n >>>= 1;
+	if(n == 0L) break;
+	double p = bh * bh;
+	double q = Math.fma(bh, bh, -p) + 2.0 * bh * bl;
+	bh = p + q;
+	bl = q - (bh - p);
+	be += be;
+	if(bh > POW_LIMIT)
+	{
+	int s = Math.getExponent(bh);
+	bh *= twoPow(-s);
+	bl *= twoPow(-s);
+	be += s;
+	}
+	}
+	return powResult(h, l, e + shift, invert, negative);
+	}
+	/* m^(2i+1) < 2^15, so the window needs no scaling */
+	int size = 1 << (WINDOW_BITS-1);
+	double[] oddHigh = new double[size];
+	double[] oddLow = new double[size];
+	double m2h = m * m;
+	double m2l = Math.fma(m, m, -m2h);
+	oddHigh[0] = m;
+	for(int i = 1; i < size; i++)
+	{
+	double p = oddHigh[i-1] * m2h;
+	double q = Math.fma(oddHigh[i-1], m2h, -p) + (oddHigh[i-1] * m2l + oddLow[i-1] * m2h);
+	oddHigh[i] = p + q;
+	oddLow[i] = q - (oddHigh[i] - p);
+	}
+	int i = 63 - Long.numberOfLeadingZeros(n);
+	while(i >= 0)
+	{
+	/* the longest window n[j .. i] of at most WINDOW_BITS bits ending in a set bit, or a single zero bit */
+	boolean set = ((n >>> i) & 1L) != 0L;
+	int j = i;
+	if(set)
+	{
+	j = Math.max(i - WINDOW_BITS + 1, 0);
+	while(((n >>> j) & 1L) == 0L) j++;
+	}
+	for(int b = j; b <= i; b++)
+	{
+	double p = h * h;
+	double q = Math.fma(h, h, -p) + 2.0 * h * l;
+	h = p + q;
+	l = q - (h - p);
+	e += e;
+	if(h > POW_LIMIT)
+	{
+	int s = Math.getExponent(h);
+	h *= twoPow(-s);
+	l *= twoPow(-s);
+	e += s;
+	}
+	}
+	if(set)
+	{
+	int w = (int)((n >>> j) & ((1L << (i-j+1)) - 1L));
+	double oh = oddHigh[w >>> 1];
+	double ol = oddLow[w >>> 1];
+	double p = h * oh;
+	double q = Math.fma(h, oh, -p) + (h * ol + l * oh);
+	h = p + q;
+	l = q - (h - p);
+	}
+	i = j - 1;
+	}
+	return powResult(h, l, e + shift, invert, negative);
+}
+
+/*
+* Rounds the power (h + l) 2^e, or its reciprocal, to a double with the given sign.
+* h must be finite and at least 1, and l below half an ulp of h.
+* Used by PowerTable too.
+*/
+static double powResult(double h, double l, long e, boolean invert, boolean negative)
+{
+	if(invert)
+	{
+	/* one Newton step on the reciprocal, using the low part of the power */
+	double r = 1.0/h;
+	double c = Math.fma(-h, r, 1.0) - l * r;
+	h = r;
+	l = r * c;
+	e = -e;
+	}
+	long k = e + Math.getExponent(h);
+	double r;
+	if(k > Double.MAX_EXPONENT)
 	{
-	x *= base;
+	r = Double.POSITIVE_INFINITY;
 	}
-	return x;
+	else if(k < Double.MIN_EXPONENT - 54)
+	{
+	r = 0.0;
+	}
+	else if(k >= Double.MIN_EXPONENT)
+	{
+	/* h is below 2^257, so both halves of e are powers of two in range, and the products are exact */
+	int e1 = (int)e / 2;
+	r = (h + l) * twoPow(e1) * twoPow((int)e - e1);
+	}
+	else
+	{
+	/* subnormal: round the high part, then correct it with what that rounding and the low part left */
+	r = Math.scalb(h, (int)e);
+	double rest = (h - Math.scalb(r, (int)-e)) + l;
+	r += Math.scalb(rest, (int)e);
+	}
+	return negative ? -r : r;
+}
+
+/* 2^s for Double.MIN_EXPONENT <= s <= Double.MAX_EXPONENT; used by PowerTable too */
+static double twoPow(int s)
+{
+	return Double.longBitsToDouble((long)(s + 1023) << 52);
+}
+
+/* sliding window width for pow(double, int), and the smallest exponent worth building the window for */
+private static final int WINDOW_BITS = 4;
+private static final long WINDOW_THRESHOLD = 1L << 8;
+/* the running powers are scaled back to [1, 2) by a power of two when they go past this */
+private static final double POW_LIMIT = 0x1p256;
+
+/* largest n such that n! fits in an int, and in a double */
+public static final int MAX_INT_FACTORIAL = 12;
+public static final int MAX_FACTORIAL = 170;
+
+private static final int[] INT_FACTORIAL = new int[MAX_INT_FACTORIAL+1];
+private static final double[] FACTORIAL = new double[MAX_FACTORIAL+1];
+private static final double[] INV_FACTORIAL = new double[MAX_FACTORIAL+1];
+/* Pascal's triangle, row n holds the binomial coefficients n over k, for k = 0 .. n */
+private static final double[][] BINOMIAL = new double[MAX_FACTORIAL+1][];
+
+static
+{
+/* build all the tables just once. */
+INT_FACTORIAL[0] = 1;
+for(int n = 1; n <= MAX_INT_FACTORIAL; n++)
+{
+INT_FACTORIAL[n] = n * INT_FACTORIAL[n-1];
+}
+FACTORIAL[0] = 1.0;
+INV_FACTORIAL[0] = 1.0;
+for(int n = 1; n <= MAX_FACTORIAL; n++)
+{
+FACTORIAL[n] = (double)n * FACTORIAL[n-1];
+INV_FACTORIAL[n] = 1.0 / FACTORIAL[n];
+}
+for(int n = 0; n <= MAX_FACTORIAL; n++)
+{
+BINOMIAL[n] = new double[n+1];
+BINOMIAL[n][0] = 1.0;
+BINOMIAL[n][n] = 1.0;
+for(int k = 1; k < n; k++)
+{
+BINOMIAL[n][k] = BINOMIAL[n-1][k-1] + BINOMIAL[n-1][k];
+}
+}
 }
 
 
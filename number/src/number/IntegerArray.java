@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* IntegerArray.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+/**
+* The <code>IntegerArray</code> class stores a sequence of integer numbers packed in an int array.
+* <p>
+* An array of <code>IntegerNumber</code> objects costs an object header and a reference for every value,
+* <p>
+* and the objects may be scattered over the heap; here every value takes just the 4 bytes of an int, one after the other.
+* <p>
+* The values are read and written as ints, or copied from and into <code>IntegerNumber</code> objects which can be reused,
+* <p>
+* and the operations work on whole arrays at once, giving the same results as the methods of the <code>IntegerNumber</code> class.
+* <p>
+* The int array can be wrapped and got back with no copy.
+* <p>
+* example:
+* <p>
+* <code>IntegerArray a = IntegerArray.wrap(new int[] { 1, 2, 3 });</code>
+* <p>
+* <code>a.mulAssign(a);</code>
+* <p>
+* This class uses assertions, so you must be use the '-ea' modifier when executing, in order to enable assertions.
+* <p>
+* example:
+* <p>
+* <code>java -ea MyApp</code>
+*
+*/
+public final class IntegerArray
+{
+
+/**
+* Constructor.
+* <p>
+* Makes a new array with all its values set to zero.
+* <p>
+* @param length number of values.
+*
+*/
+public IntegerArray(int length)
+{
+assert (length >= 0): "IntegerArray -> constructor: Bad parameter, length must be >= 0.";
+data = new int[length];
+}
+
+/**
+* Constructor.
+* <p>
+* Makes a new array holding a copy of the values of the given integer numbers.
+* <p>
+* @param numbers array of <code>IntegerNumber</code> objects.
+*
+*/
+public IntegerArray(IntegerNumber[] numbers)
+{
+data = new int[numbers.length];
+for(int i = 0; i < data.length; i++) data[i] = numbers[i].get();
+}
+
+/* private constructor for wrap */
+private IntegerArray(int[] data)
+{
+this.data = data;
+}
+
+/**
+* Makes an integer array backed by the given int array, with no copy.
+* <p>
+* Changes in the int array are seen by the integer array, and vice versa.
+* <p>
+* @param data int array.
+* <p>
+* @return A <code>IntegerArray</code> object.
+*
+*/
+public static IntegerArray wrap(int[] data)
+{
+return new IntegerArray(data);
+}
+
+/**
+* Gets the int array backing this integer array, with no copy.
+* <p>
+* @return the int array.
+*
+*/
+public int[] array()
+{
+return data;
+}
+
+/**
+* Gets the number of values.
+* <p>
+* @return the length of this array.
+*
+*/
+public int length()
+{
+return data.length;
+}
+
+/**
+* Gets a value.
+* <p>
+* @param i index of the value.
+* <p>
+* @return the integer number at i as an int.
+*
+*/
+public int get(int i)
+{
+return data[i];
+}
+
+/**
+* Copies a value into a <code>IntegerNumber</code> object, so that the same object can be used to visit the whole array.
+* <p>
+* @param i index of the value.
+* @param dst A <code>IntegerNumber</code> object to store the value.
+* <p>
+* @return dst, holding the integer number at i.
+*
+*/
+public IntegerNumber get(int i, IntegerNumber dst)
+{
+dst.set(data[i]);
+return dst;
+}
+
+/**
+* Sets a value.
+* <p>
+* @param i index of the value.
+* @param z integer number.
+*
+*/
+public void set(int i, int z)
+{
+data[i] = z;
+}
+
+/**
+* Sets a value from a <code>IntegerNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param z A <code>IntegerNumber</code> object.
+*
+*/
+public void set(int i, IntegerNumber z)
+{
+data[i] = z.get();
+}
+
+/**
+* Adds the values of another array to the values of this one, in place.
+* <p>
+* @param a A <code>IntegerArray</code> object with the same length.
+* <p>
+* @return this object.
+*
+*/
+public IntegerArray addAssign(IntegerArray a)
+{
+return add(this, a, this);
+}
+
+/**
+* Substracts the values of another array from the values of this one, in place.
+* <p>
+* @param a A <code>IntegerArray</code> object with the same length.
+* <p>
+* @return this object.
+*
+*/
+public IntegerArray subAssign(IntegerArray a)
+{
+return sub(this, a, this);
+}
+
+/**
+* Multiplies the values of this array by the values of another one, in place.
+* <p>
+* @param a A <code>IntegerArray</code> object with the same length.
+* <p>
+* @return this object.
+*
+*/
+public IntegerArray mulAssign(IntegerArray a)
+{
+return mul(this, a, this);
+}
+
+/**
+* Negates the values of this array, in place.
+* <p>
+* @return this object.
+*
+*/
+public IntegerArray negAssign()
+{
+return neg(this, this);
+}
+
+/**
+* Replaces the values of this array by their absolute values, in place.
+* <p>
+* @return this object.
+*
+*/
+public IntegerArray absAssign()
+{
+return abs(this, this);
+}
+
+/**
+* Static method to add two integer arrays value by value.
+* <p>
+* The destination can be any of the operands.
+* <p>
+* @param a A <code>IntegerArray</code> object.
+* @param b A <code>IntegerArray</code> object.
+* @param dst A <code>IntegerArray</code> object to store the result.
+* <p>
+* @return dst, holding a + b.
+*
+*/
+public static IntegerArray add(IntegerArray a, IntegerArray b, IntegerArray dst)
+{
+assert sameLength(a, b, dst): "IntegerArray -> add method: the arrays must have the same length.";
+int[] x = a.data;
+int[] y = b.data;
+int[] z = dst.data;
+for(int i = 0; i < z.length; i++) z[i] = x[i] + y[i];
+return dst;
+}
+
+/**
+* Static method to substract two integer arrays value by value.
+* <p>
+* The destination can be any of the operands.
+* <p>
+* @param a A <code>IntegerArray</code> object.
+* @param b A <code>IntegerArray</code> object.
+* @param dst A <code>IntegerArray</code> object to store the result.
+* <p>
+* @return dst, holding a - b.
+*
+*/
+public static IntegerArray sub(IntegerArray a, IntegerArray b, IntegerArray dst)
+{
+assert sameLength(a, b, dst): "IntegerArray -> sub method: the arrays must have the same length.";
+int[] x = a.data;
+int[] y = b.data;
+int[] z = dst.data;
+for(int i = 0; i < z.length; i++) z[i] = x[i] - y[i];
+return dst;
+}
+
+/**
+* Static method to multiply two integer arrays value by value.
+* <p>
+* The destination can be any of the operands.
+* <p>
+* @param a A <code>IntegerArray</code> object.
+* @param b A <code>IntegerArray</code> object.
+* @param dst A <code>IntegerArray</code> object to store the result.
+* <p>
+* @return dst, holding a * b.
+*
+*/
+public static IntegerArray mul(IntegerArray a, IntegerArray b, IntegerArray dst)
+{
+assert sameLength(a, b, dst): "IntegerArray -> mul method: the arrays must have the same length.";
+int[] x = a.data;
+int[] y = b.data;
+int[] z = dst.data;
+for(int i = 0; i < z.length; i++) z[i] = x[i] * y[i];
+return dst;
+}
+
+/**
+* Static method to negate the values of an integer array.
+* <p>
+* @param a A <code>IntegerArray</code> object.
+* @param dst A <code>IntegerArray</code> object to store the result, which can be a.
+* <p>
+* @return dst, holding -a.
+*
+*/
+public static IntegerArray neg(IntegerArray a, IntegerArray dst)
+{
+assert sameLength(a, a, dst): "IntegerArray -> neg method: the arrays must have the same length.";
+int[] x = a.data;
+int[] z = dst.data;
+for(int i = 0; i < z.length; i++) z[i] = -x[i];
+return dst;
+}
+
+/**
+* Static method to compute the absolute values of an integer array.
+* <p>
+* @param a A <code>IntegerArray</code> object.
+* @param dst A <code>IntegerArray</code> object to store the result, which can be a.
+* <p>
+* @return dst, holding |a|.
+*
+*/
+public static IntegerArray abs(IntegerArray a, IntegerArray dst)
+{
+assert sameLength(a, a, dst): "IntegerArray -> abs method: the arrays must have the same length.";
+int[] x = a.data;
+int[] z = dst.data;
+for(int i = 0; i < z.length; i++) z[i] = HelperFunctions.abs(x[i]);
+return dst;
+}
+
+/**
+* Gets a string representation of this array.
+* <p>
+* @return String representation of this array.
+*
+*/
+public String toString()
+{
+return java.util.Arrays.toString(data);
+}
+
+
+/* private method to check that the arrays have the same length, for the assertions. */
+private static boolean sameLength(IntegerArray a, IntegerArray b, IntegerArray c)
+{
+return a.data.length == b.data.length && a.data.length == c.data.length;
+}
+
+
+private final int[] data;
+}
+
+// END
@@ -265,6 +265,85 @@ public IntegerNumber abs()
 	return abs(this);
 }
 
+/**
+* Adds the integer passed as parameter to this one, in place.
+* <p>
+* No new object is made; the result is stored in this object.
+* <p>
+* @param z Integer number to add.
+* <p>
+* @return this object, holding this + z.
+*
+*/
+public IntegerNumber addAssign(IntegerNumber z)
+{
+return add(this, z, this);
+}
+
+/**
+* Substracts the integer passed as parameter from this one, in place.
+* <p>
+* @param z Integer number to substract.
+* <p>
+* @return this object, holding this - z.
+*
+*/
+public IntegerNumber subAssign(IntegerNumber z)
+{
+return sub(this, z, this);
+}
+
+/**
+* Multiplies this integer by the one passed as parameter, in place.
+* <p>
+* @param z Integer number to multiply.
+* <p>
+* @return this object, holding this * z.
+*
+*/
+public IntegerNumber mulAssign(IntegerNumber z)
+{
+return mul(this, z, this);
+}
+
+/**
+* Adds the product of two integers to this one, in place.
+* <p>
+* It is the step of an accumulation loop, sum += a * b, with no new objects.
+* <p>
+* @param a A <code>IntegerNumber</code> object.
+* @param b A <code>IntegerNumber</code> object.
+* <p>
+* @return this object, holding this + a * b.
+*
+*/
+public IntegerNumber fmaAssign(IntegerNumber a, IntegerNumber b)
+{
+return fma(a, b, this, this);
+}
+
+/**
+* Negates this integer, in place.
+* <p>
+* @return this object, holding -this.
+*
+*/
+public IntegerNumber negAssign()
+{
+return neg(this, this);
+}
+
+/**
+* Replaces this integer by its absolute value.
+* <p>
+* @return this object, holding |this|.
+*
+*/
+public IntegerNumber absAssign()
+{
+return abs(this, this);
+}
+
 /**
 * Static method to add two integers.
 * <p>
@@ -347,6 +426,103 @@ public static IntegerNumber abs(IntegerNumber z)
 return new IntegerNumber(HelperFunctions.abs(z.get()));
 }
 
+/**
+* Static method to add two integers, storing the result in a given object.
+* <p>
+* The destination can be any of the operands, and no new object is made.
+* <p>
+* @param a A <code>IntegerNumber</code> object.
+* @param b A <code>IntegerNumber</code> object.
+* @param dst A <code>IntegerNumber</code> object to store the result.
+* <p>
+* @return dst, holding a+b.
+*
+*/
+public static IntegerNumber add(IntegerNumber a, IntegerNumber b, IntegerNumber dst)
+{
+dst.set(a.get() + b.get());
+return dst;
+}
+
+/**
+* Static method to substract two integers, storing the result in a given object.
+* <p>
+* @param a A <code>IntegerNumber</code> object.
+* @param b A <code>IntegerNumber</code> object.
+* @param dst A <code>IntegerNumber</code> object to store the result.
+* <p>
+* @return dst, holding a-b.
+*
+*/
+public static IntegerNumber sub(IntegerNumber a, IntegerNumber b, IntegerNumber dst)
+{
+dst.set(a.get() - b.get());
+return dst;
+}
+
+/**
+* Static method to multiply two integers, storing the result in a given object.
+* <p>
+* @param a A <code>IntegerNumber</code> object.
+* @param b A <code>IntegerNumber</code> object.
+* @param dst A <code>IntegerNumber</code> object to store the result.
+* <p>
+* @return dst, holding a*b.
+*
+*/
+public static IntegerNumber mul(IntegerNumber a, IntegerNumber b, IntegerNumber dst)
+{
+dst.set(a.get() * b.get());
+return dst;
+}
+
+/**
+* Static method to compute a*b+c, storing the result in a given object.
+* <p>
+* @param a A <code>IntegerNumber</code> object.
+* @param b A <code>IntegerNumber</code> object.
+* @param c A <code>IntegerNumber</code> object.
+* @param dst A <code>IntegerNumber</code> object to store the result.
+* <p>
+* @return dst, holding a*b+c.
+*
+*/
+public static IntegerNumber fma(IntegerNumber a, IntegerNumber b, IntegerNumber c, IntegerNumber dst)
+{
+dst.set(a.get() * b.get() + c.get());
+return dst;
+}
+
+/**
+* Static method to negate an integer, storing the result in a given object.
+* <p>
+* @param z A <code>IntegerNumber</code> object.
+* @param dst A <code>IntegerNumber</code> object to store the result.
+* <p>
+* @return dst, holding -z.
+*
+*/
+public static IntegerNumber neg(IntegerNumber z, IntegerNumber dst)
+{
+dst.set(-z.get());
+return dst;
+}
+
+/**
+* Static method to compute the absolute value of an integer, storing the result in a given object.
+* <p>
+* @param z A <code>IntegerNumber</code> object.
+* @param dst A <code>IntegerNumber</code> object to store the result.
+* <p>
+* @return dst, holding |z|.
+*
+*/
+public static IntegerNumber abs(IntegerNumber z, IntegerNumber dst)
+{
+dst.set(HelperFunctions.abs(z.get()));
+return dst;
+}
+
 /**
 * Makes a clone of this object.
 * <p>
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* NaturalArray.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+/**
+* The <code>NaturalArray</code> class stores a sequence of natural numbers packed in an int array.
+* <p>
+* An array of <code>NaturalNumber</code> objects costs an object header and a reference for every value,
+* <p>
+* and the objects may be scattered over the heap; here every value takes just the 4 bytes of an int, one after the other.
+* <p>
+* The values are read and written as ints, or copied from and into <code>NaturalNumber</code> objects which can be reused,
+* <p>
+* and the operations work on whole arrays at once, giving the same results as the methods of the <code>NaturalNumber</code> class.
+* <p>
+* The int array can be wrapped and got back with no copy.
+* <p>
+* example:
+* <p>
+* <code>NaturalArray a = NaturalArray.wrap(new int[] { 1, 2, 3 });</code>
+* <p>
+* <code>a.mulAssign(a);</code>
+* <p>
+* This class uses assertions, so you must be use the '-ea' modifier when executing, in order to enable assertions.
+* <p>
+* example:
+* <p>
+* <code>java -ea MyApp</code>
+*
+*/
+public final class NaturalArray
+{
+
+/**
+* Constructor.
+* <p>
+* Makes a new array with all its values set to 1.
+* <p>
+* @param length number of values.
+*
+*/
+public NaturalArray(int length)
+{
+assert (length >= 0): "NaturalArray -> constructor: Bad parameter, length must be >= 0.";
+data = new int[length];
+java.util.Arrays.fill(data, 1);
+}
+
+/**
+* Constructor.
+* <p>
+* Makes a new array holding a copy of the values of the given natural numbers.
+* <p>
+* @param numbers array of <code>NaturalNumber</code> objects.
+*
+*/
+public NaturalArray(NaturalNumber[] numbers)
+{
+data = new int[numbers.length];
+for(int i = 0; i < data.length; i++) data[i] = numbers[i].get();
+}
+
+/* private constructor for wrap */
+private NaturalArray(int[] data)
+{
+this.data = data;
+}
+
+/**
+* Makes a natural array backed by the given int array, with no copy.
+* <p>
+* Changes in the int array are seen by the natural array, and vice versa.
+* <p>
+* @param data int array with values greater than zero.
+* <p>
+* @return A <code>NaturalArray</code> object.
+*
+*/
+public static NaturalArray wrap(int[] data)
+{
+assert allPositive(data): "NaturalArray -> wrap method: Bad parameter, all the values must be greater than zero.";
+return new NaturalArray(data);
+}
+
+/**
+* Gets the int array backing this natural array, with no copy.
+* <p>
+* @return the int array.
+*
+*/
+public int[] array()
+{
+return data;
+}
+
+/**
+* Gets the number of values.
+* <p>
+* @return the length of this array.
+*
+*/
+public int length()
+{
+return data.length;
+}
+
+/**
+* Gets a value.
+* <p>
+* @param i index of the value.
+* <p>
+* @return the natural number at i as an int.
+*
+*/
+public int get(int i)
+{
+return data[i];
+}
+
+/**
+* Copies a value into a <code>NaturalNumber</code> object, so that the same object can be used to visit the whole array.
+* <p>
+* @param i index of the value.
+* @param dst A <code>NaturalNumber</code> object to store the value.
+* <p>
+* @return dst, holding the natural number at i.
+*
+*/
+public NaturalNumber get(int i, NaturalNumber dst)
+{
+dst.set(data[i]);
+return dst;
+}
+
+/**
+* Sets a value.
+* <p>
+* @param i index of the value.
+* @param n natural number.
+*
+*/
+public void set(int i, int n)
+{
+assert (n > 0): "NaturalArray -> set method: Bad parameter, n must be greater than zero.";
+data[i] = n;
+}
+
+/**
+* Sets a value from a <code>NaturalNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param n A <code>NaturalNumber</code> object.
+*
+*/
+public void set(int i, NaturalNumber n)
+{
+data[i] = n.get();
+}
+
+/**
+* Adds the values of another array to the values of this one, in place.
+* <p>
+* @param a A <code>NaturalArray</code> object with the same length.
+* <p>
+* @return this object.
+*
+*/
+public NaturalArray addAssign(NaturalArray a)
+{
+return add(this, a, this);
+}
+
+/**
+* Multiplies the values of this array by the values of another one, in place.
+* <p>
+* @param a A <code>NaturalArray</code> object with the same length.
+* <p>
+* @return this object.
+*
+*/
+public NaturalArray mulAssign(NaturalArray a)
+{
+return mul(this, a, this);
+}
+
+/**
+* Static method to add two natural arrays value by value.
+* <p>
+* The destination can be any of the operands.
+* <p>
+* @param a A <code>NaturalArray</code> object.
+* @param b A <code>NaturalArray</code> object.
+* @param dst A <code>NaturalArray</code> object to store the result.
+* <p>
+* @return dst, holding a + b.
+*
+*/
+public static NaturalArray add(NaturalArray a, NaturalArray b, NaturalArray dst)
+{
+assert sameLength(a, b, dst): "NaturalArray -> add method: the arrays must have the same length.";
+int[] x = a.data;
+int[] y = b.data;
+int[] z = dst.data;
+for(int i = 0; i < z.length; i++) z[i] = x[i] + y[i];
+return dst;
+}
+
+/**
+* Static method to multiply two natural arrays value by value.
+* <p>
+* The destination can be any of the operands.
+* <p>
+* @param a A <code>NaturalArray</code> object.
+* @param b A <code>NaturalArray</code> object.
+* @param dst A <code>NaturalArray</code> object to store the result.
+* <p>
+* @return dst, holding a * b.
+*
+*/
+public static NaturalArray mul(NaturalArray a, NaturalArray b, NaturalArray dst)
+{
+assert sameLength(a, b, dst): "NaturalArray -> mul method: the arrays must have the same length.";
+int[] x = a.data;
+int[] y = b.data;
+int[] z = dst.data;
+for(int i = 0; i < z.length; i++) z[i] = x[i] * y[i];
+return dst;
+}
+
+/**
+* Gets a string representation of this array.
+* <p>
+* @return String representation of this array.
+*
+*/
+public String toString()
+{
+return java.util.Arrays.toString(data);
+}
+
+
+/* private method to check that the arrays have the same length, for the assertions. */
+private static boolean sameLength(NaturalArray a, NaturalArray b, NaturalArray c)
+{
+return a.data.length == b.data.length && a.data.length == c.data.length;
+}
+
+/* private method to check that the values of an int array are natural numbers, for the assertions. */
+private static boolean allPositive(int[] data)
+{
+for(int i = 0; i < data.length; i++)
+{
+if(data[i] <= 0) return false;
+}
+return true;
+}
+
+
+private final int[] data;
+}
+
+// END
@@ -183,6 +183,63 @@ public NaturalNumber pow(NaturalNumber exp)
 	return pow(this, exp);
 }
 
+/**
+* Adds the <code>NaturalNumber</code> passed as parameter to this one, in place.
+* <p>
+* No new object is made; the result is stored in this object.
+* <p>
+* @param n Natural number to add.
+* <p>
+* @return this object, holding this + n.
+*
+*/
+public NaturalNumber addAssign(NaturalNumber n)
+{
+return add(this, n, this);
+}
+
+/**
+* Multiplies this natural number by the one passed as parameter, in place.
+* <p>
+* @param n Natural number to multiply.
+* <p>
+* @return this object, holding this * n.
+*
+*/
+public NaturalNumber mulAssign(NaturalNumber n)
+{
+return mul(this, n, this);
+}
+
+/**
+* Adds the product of two natural numbers to this one, in place.
+* <p>
+* It is the step of an accumulation loop, sum += a * b, with no new objects.
+* <p>
+* @param a A <code>NaturalNumber</code> object.
+* @param b A <code>NaturalNumber</code> object.
+* <p>
+* @return this object, holding this + a * b.
+*
+*/
+public NaturalNumber fmaAssign(NaturalNumber a, NaturalNumber b)
+{
+return fma(a, b, this, this);
+}
+
+/**
+* Raises this natural number to the exponent passed as parameter, in place.
+* <p>
+* @param exp Power exponent.
+* <p>
+* @return this object, holding this^exp.
+*
+*/
+public NaturalNumber powAssign(NaturalNumber exp)
+{
+return pow(this, exp, this);
+}
+
 /**
 * Static method to add two natural numbers.
 * <p>
@@ -238,6 +295,73 @@ public static NaturalNumber pow(NaturalNumber base, NaturalNumber exp)
 	return new NaturalNumber(HelperFunctions.pow(base.get(), exp.get()));
 }
 
+/**
+* Static method to add two natural numbers, storing the result in a given object.
+* <p>
+* The destination can be any of the operands, and no new object is made.
+* <p>
+* @param a A <code>NaturalNumber</code> object.
+* @param b A <code>NaturalNumber</code> object.
+* @param dst A <code>NaturalNumber</code> object to store the result.
+* <p>
+* @return dst, holding a + b.
+*
+*/
+public static NaturalNumber add(NaturalNumber a, NaturalNumber b, NaturalNumber dst)
+{
+dst.set(a.get() + b.get());
+return dst;
+}
+
+/**
+* Static method to multiply two natural numbers, storing the result in a given object.
+* <p>
+* @param a A <code>NaturalNumber</code> object.
+* @param b A <code>NaturalNumber</code> object.
+* @param dst A <code>NaturalNumber</code> object to store the result.
+* <p>
+* @return dst, holding a * b.
+*
+*/
+public static NaturalNumber mul(NaturalNumber a, NaturalNumber b, NaturalNumber dst)
+{
+dst.set(a.get() * b.get());
+return dst;
+}
+
+/**
+* Static method to compute a * b + c, storing the result in a given object.
+* <p>
+* @param a A <code>NaturalNumber</code> object.
+* @param b A <code>NaturalNumber</code> object.
+* @param c A <code>NaturalNumber</code> object.
+* @param dst A <code>NaturalNumber</code> object to store the result.
+* <p>
+* @return dst, holding a * b + c.
+*
+*/
+public static NaturalNumber fma(NaturalNumber a, NaturalNumber b, NaturalNumber c, NaturalNumber dst)
+{
+dst.set(a.get() * b.get() + c.get());
+return dst;
+}
+
+/**
+* Static method to compute base^exp, storing the result in a given object.
+* <p>
+* @param base A <code>NaturalNumber</code> object.
+* @param exp A <code>NaturalNumber</code> object.
+* @param dst A <code>NaturalNumber</code> object to store the result.
+* <p>
+* @return dst, holding base^exp.
+*
+*/
+public static NaturalNumber pow(NaturalNumber base, NaturalNumber exp, NaturalNumber dst)
+{
+dst.set(HelperFunctions.pow(base.get(), exp.get()));
+return dst;
+}
+
 /**
 * Makes a clone of this object.
 * <p>
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* NumberArena.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+import java.util.ArrayList;
+
+/**
+* The <code>NumberArena</code> class groups off-heap arrays which share the same lifetime.
+* <p>
+* Every array allocated by an arena is closed together with it, so a try-with-resources statement
+* <p>
+* ties the lifetime of all of them to a block of code.
+* <p>
+* The arrays use direct memory, so the total size of the arrays alive at the same time must fit under <code>-XX:MaxDirectMemorySize</code>,
+* <p>
+* which defaults to the maximum heap size; the example below needs about 24 GB ( see <code>OffHeapArray</code> ).
+* <p>
+* example:
+* <p>
+* <code>try(NumberArena arena = new NumberArena())</code>
+* <p>
+* <code>{</code>
+* <p>
+* <code>OffHeapArray x = arena.allocate(NumberLayout.REAL, 3000000000L);</code>
+* <p>
+* <code>...</code>
+* <p>
+* <code>}</code>
+* <p>
+* This class uses assertions, so you must be use the '-ea' modifier when executing, in order to enable assertions.
+* <p>
+* example:
+* <p>
+* <code>java -ea MyApp</code>
+*
+*/
+public final class NumberArena implements AutoCloseable
+{
+
+/**
+* Constructor.
+* <p>
+* Makes a new open arena with no arrays.
+*
+*/
+public NumberArena()
+{
+arrays = new ArrayList<OffHeapArray>();
+open = true;
+}
+
+/**
+* Allocates a new off-heap array owned by this arena.
+* <p>
+* @param layout the layout of the values.
+* @param length number of values.
+* <p>
+* @return A new <code>OffHeapArray</code> object, with all its values set to zero.
+*
+*/
+public synchronized OffHeapArray allocate(NumberLayout layout, long length)
+{
+assert open: "NumberArena -> allocate method: the arena is closed.";
+OffHeapArray a = new OffHeapArray(layout, length);
+arrays.add(a);
+return a;
+}
+
+/**
+* Evaluates whether this arena is still open.
+* <p>
+* @return true if the arena is open, or false otherwise.
+*
+*/
+public synchronized boolean isOpen()
+{
+return open;
+}
+
+/**
+* Closes this arena and all the arrays allocated by it.
+* <p>
+* Closing an arena more than once has no effect.
+*
+*/
+public synchronized void close()
+{
+for(OffHeapArray a : arrays) a.close();
+arrays.clear();
+open = false;
+}
+
+
+private final ArrayList<OffHeapArray> arrays;
+private boolean open;
+}
+
+// END
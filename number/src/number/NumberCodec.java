@@ -0,0 +1,753 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* NumberCodec.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+* The <code>NumberCodec</code> class encodes and decodes numbers of all the sets to and from a <code>ByteBuffer</code>.
+* <p>
+* There are two encodings, given by the <code>FIXED</code> and <code>VARINT</code> codecs:
+* <ul>
+* <li>fixed-width: every int takes 4 bytes and every double 8 bytes, so a value has always the same size.</li>
+* <li>varint: ints take from 1 to 5 bytes, 7 bits per byte with the high bit set in all the bytes but the last one,
+* so small values take less space. Integers and rational numerators are zig-zag mapped first, 0, -1, 1, -2 ... to 0, 1, 2, 3 ...,
+* so small negative values are small too. Naturals and rational denominators are written as they are. Doubles still take 8 bytes.</li>
+* </ul>
+* <p>
+* Natural and integer numbers are written as one int, rational numbers as the numerator and then the denominator,
+* <p>
+* real numbers as one double and complex numbers as the real part and then the imaginary one. Fixed-width values are always in little endian order,
+* <p>
+* whatever the order of the buffer, which is left as it was.
+* <p>
+* The typed methods write no type, so the reader must know what comes next. The tagged methods write one byte before the value,
+* <p>
+* with the code of its <code>NumberLayout</code>, so numbers of any set can be mixed in the same stream.
+* <p>
+* The array methods encode and decode whole packed arrays, with no object made for any value; the length is not written.
+* <p>
+* Decoding past the end of the buffer throws a <code>BufferUnderflowException</code>, and encoding past its limit a <code>BufferOverflowException</code>.
+* <p>
+* example:
+* <p>
+* <code>ByteBuffer b = ByteBuffer.allocate(64);</code>
+* <p>
+* <code>NumberCodec.VARINT.encodeTagged(new RationalNumber(-1, 3), b);</code>
+* <p>
+* <code>b.flip();</code>
+* <p>
+* <code>number.Number q = NumberCodec.VARINT.decodeTagged(b);</code>
+* <p>
+* This class uses assertions, so you must be use the '-ea' modifier when executing, in order to enable assertions.
+* <p>
+* example:
+* <p>
+* <code>java -ea MyApp</code>
+*
+*/
+public final class NumberCodec
+{
+
+/**
+* Codec with the fixed-width encoding.
+*/
+public static final NumberCodec FIXED = new NumberCodec(false);
+
+/**
+* Codec with the varint encoding.
+*/
+public static final NumberCodec VARINT = new NumberCodec(true);
+
+/* private constructor: use the FIXED and VARINT codecs */
+private NumberCodec(boolean varint)
+{
+this.varint = varint;
+}
+
+/**
+* Evaluates whether this codec uses the varint encoding.
+* <p>
+* @return true for the varint encoding or false for the fixed-width one.
+*
+*/
+public boolean isVarint()
+{
+return varint;
+}
+
+/**
+* Gets the largest number of bytes that a value of the given layout can take with this codec, without the tag.
+* <p>
+* @param layout layout of the number set.
+* <p>
+* @return the maximum size of a value in bytes.
+*
+*/
+public int maxSize(NumberLayout layout)
+{
+return layout.isDouble() ? layout.byteSize() : layout.slots() * (varint ? 5 : 4);
+}
+
+/**
+* Encodes a natural number.
+* <p>
+* @param n natural number to encode.
+* @param b buffer to write to, at its position.
+*
+*/
+public void encode(NaturalNumber n, ByteBuffer b)
+{
+ByteOrder order = b.order();
+b.order(ByteOrder.LITTLE_ENDIAN);
+try
+{
+putUnsigned(b, n.get());
+}
+finally
+{
+b.order(order);
+}
+}
+
+/**
+* Encodes an integer number.
+* <p>
+* @param z integer number to encode.
+* @param b buffer to write to, at its position.
+*
+*/
+public void encode(IntegerNumber z, ByteBuffer b)
+{
+ByteOrder order = b.order();
+b.order(ByteOrder.LITTLE_ENDIAN);
+try
+{
+putSigned(b, z.get());
+}
+finally
+{
+b.order(order);
+}
+}
+
+/**
+* Encodes a rational number.
+* <p>
+* @param q rational number to encode.
+* @param b buffer to write to, at its position.
+*
+*/
+public void encode(RationalNumber q, ByteBuffer b)
+{
+ByteOrder order = b.order();
+b.order(ByteOrder.LITTLE_ENDIAN);
+try
+{
+putSigned(b, q.getNumerator());
+putUnsigned(b, q.getDenominator());
+}
+finally
+{
+b.order(order);
+}
+}
+
+/**
+* Encodes a real number.
+* <p>
+* @param r real number to encode.
+* @param b buffer to write to, at its position.
+*
+*/
+public void encode(RealNumber r, ByteBuffer b)
+{
+ByteOrder order = b.order();
+b.order(ByteOrder.LITTLE_ENDIAN);
+try
+{
+b.putDouble(r.get());
+}
+finally
+{
+b.order(order);
+}
+}
+
+/**
+* Encodes a complex number.
+* <p>
+* @param c complex number to encode.
+* @param b buffer to write to, at its position.
+*
+*/
+public void encode(ComplexNumber c, ByteBuffer b)
+{
+ByteOrder order = b.order();
+b.order(ByteOrder.LITTLE_ENDIAN);
+try
+{
+b.putDouble(c.getReal());
+b.putDouble(c.getImag());
+}
+finally
+{
+b.order(order);
+}
+}
+
+/**
+* Decodes a natural number.
+* <p>
+* @param b buffer to read from, at its position.
+* @param dst natural number where to store the value.
+* <p>
+* @return the dst object.
+*
+*/
+public NaturalNumber decode(ByteBuffer b, NaturalNumber dst)
+{
+ByteOrder order = b.order();
+b.order(ByteOrder.LITTLE_ENDIAN);
+try
+{
+dst.set(getUnsigned(b));
+}
+finally
+{
+b.order(order);
+}
+return dst;
+}
+
+/**
+* Decodes an integer number.
+* <p>
+* @param b buffer to read from, at its position.
+* @param dst integer number where to store the value.
+* <p>
+* @return the dst object.
+*
+*/
+public IntegerNumber decode(ByteBuffer b, IntegerNumber dst)
+{
+ByteOrder order = b.order();
+b.order(ByteOrder.LITTLE_ENDIAN);
+try
+{
+dst.set(getSigned(b));
+}
+finally
+{
+b.order(order);
+}
+return dst;
+}
+
+/**
+* Decodes a rational number.
+* <p>
+* @param b buffer to read from, at its position.
+* @param dst rational number where to store the value.
+* <p>
+* @return the dst object.
+*
+*/
+public RationalNumber decode(ByteBuffer b, RationalNumber dst)
+{
+ByteOrder order = b.order();
+b.order(ByteOrder.LITTLE_ENDIAN);
+try
+{
+int numerator = getSigned(b);
+dst.set(numerator, getUnsigned(b));
+}
+finally
+{
+b.order(order);
+}
+return dst;
+}
+
+/**
+* Decodes a real number.
+* <p>
+* @param b buffer to read from, at its position.
+* @param dst real number where to store the value.
+* <p>
+* @return the dst object.
+*
+*/
+public RealNumber decode(ByteBuffer b, RealNumber dst)
+{
+ByteOrder order = b.order();
+b.order(ByteOrder.LITTLE_ENDIAN);
+try
+{
+dst.set(b.getDouble());
+}
+finally
+{
+b.order(order);
+}
+return dst;
+}
+
+/**
+* Decodes a complex number.
+* <p>
+* @param b buffer to read from, at its position.
+* @param dst complex number where to store the value.
+* <p>
+* @return the dst object.
+*
+*/
+public ComplexNumber decode(ByteBuffer b, ComplexNumber dst)
+{
+ByteOrder order = b.order();
+b.order(ByteOrder.LITTLE_ENDIAN);
+try
+{
+double real = b.getDouble();
+dst.set(real, b.getDouble());
+}
+finally
+{
+b.order(order);
+}
+return dst;
+}
+
+/**
+* Encodes a number of any set, with a tag byte before it.
+* <p>
+* The tag is the code of the <code>NumberLayout</code> of the number.
+* <p>
+* @param x number to encode.
+* @param b buffer to write to, at its position.
+*
+*/
+public void encodeTagged(Number x, ByteBuffer b)
+{
+NumberLayout layout = layout(x);
+assert (layout != null): "NumberCodec -> encodeTagged method: Bad parameter, unknown number class.";
+b.put((byte)layout.code());
+switch(layout)
+{
+case NATURAL: encode((NaturalNumber)x, b); break;
+case INTEGER: encode((IntegerNumber)x, b); break;
+case RATIONAL: encode((RationalNumber)x, b); break;
+case REAL: encode((RealNumber)x, b); break;
+default: encode((ComplexNumber)x, b); break;
+}
+}
+
+/**
+* Decodes a number of any set written by <code>encodeTagged</code>.
+* <p>
+* @param b buffer to read from, at its position.
+* <p>
+* @return A new number of the set given by the tag.
+* <p>
+* @throws IllegalArgumentException if the tag is not the code of a layout.
+*
+*/
+public Number decodeTagged(ByteBuffer b)
+{
+int tag = b.get();
+NumberLayout layout = NumberLayout.fromCode(tag);
+if(layout == null) throw new IllegalArgumentException("NumberCodec -> decodeTagged method: unknown tag " + tag + ".");
+switch(layout)
+{
+case NATURAL: return decode(b, new NaturalNumber());
+case INTEGER: return decode(b, new IntegerNumber());
+case RATIONAL: return decode(b, new RationalNumber());
+case REAL: return decode(b, new RealNumber());
+default: return decode(b, new ComplexNumber());
+}
+}
+
+/**
+* Encodes an array of numbers of any sets, each one with its tag.
+* <p>
+* @param numbers array of numbers to encode.
+* @param b buffer to write to, at its position.
+*
+*/
+public void encodeTagged(Number[] numbers, ByteBuffer b)
+{
+for(int i = 0; i < numbers.length; i++) encodeTagged(numbers[i], b);
+}
+
+/**
+* Decodes numbers of any sets written by <code>encodeTagged</code>, until the given array is full.
+* <p>
+* @param b buffer to read from, at its position.
+* @param dst array where to store the new numbers.
+* <p>
+* @return the dst array.
+* <p>
+* @throws IllegalArgumentException if a tag is not the code of a layout.
+*
+*/
+public Number[] decodeTagged(ByteBuffer b, Number[] dst)
+{
+for(int i = 0; i < dst.length; i++) dst[i] = decodeTagged(b);
+return dst;
+}
+
+/**
+* Encodes all the values of a natural array.
+* <p>
+* @param a array to encode.
+* @param b buffer to write to, at its position.
+*
+*/
+public void encode(NaturalArray a, ByteBuffer b)
+{
+encodeInts(a.array(), false, b);
+}
+
+/**
+* Decodes values into a natural array, until it is full.
+* <p>
+* @param b buffer to read from, at its position.
+* @param dst array where to store the values.
+* <p>
+* @return the dst array.
+*
+*/
+public NaturalArray decode(ByteBuffer b, NaturalArray dst)
+{
+int[] data = dst.array();
+decodeInts(b, data, false);
+for(int i = 0; i < data.length; i++)
+{
+assert (data[i] > 0): "NumberCodec -> decode method: Bad data, a natural number must be greater than zero.";
+}
+return dst;
+}
+
+/**
+* Encodes all the values of an integer array.
+* <p>
+* @param a array to encode.
+* @param b buffer to write to, at its position.
+*
+*/
+public void encode(IntegerArray a, ByteBuffer b)
+{
+encodeInts(a.array(), true, b);
+}
+
+/**
+* Decodes values into an integer array, until it is full.
+* <p>
+* @param b buffer to read from, at its position.
+* @param dst array where to store the values.
+* <p>
+* @return the dst array.
+*
+*/
+public IntegerArray decode(ByteBuffer b, IntegerArray dst)
+{
+decodeInts(b, dst.array(), true);
+return dst;
+}
+
+/**
+* Encodes all the values of a rational array.
+* <p>
+* @param a array to encode.
+* @param b buffer to write to, at its position.
+*
+*/
+public void encode(RationalArray a, ByteBuffer b)
+{
+int[] data = a.array();
+if(!varint)
+{
+encodeInts(data, false, b);
+return;
+}
+for(int i = 0; i < data.length; i += 2)
+{
+putVarint(b, zigzag(data[i]));
+putVarint(b, data[i+1]);
+}
+}
+
+/**
+* Decodes values into a rational array, until it is full.
+* <p>
+* @param b buffer to read from, at its position.
+* @param dst array where to store the values.
+* <p>
+* @return the dst array.
+*
+*/
+public RationalArray decode(ByteBuffer b, RationalArray dst)
+{
+int[] data = dst.array();
+if(!varint)
+{
+decodeInts(b, data, false);
+}
+else
+{
+for(int i = 0; i < data.length; i += 2)
+{
+data[i] = unzigzag(getVarint(b));
+data[i+1] = getVarint(b);
+}
+}
+for(int i = 1; i < data.length; i += 2)
+{
+assert (data[i] != 0): "NumberCodec -> decode method: Bad data, a denominator can not be zero.";
+}
+return dst;
+}
+
+/**
+* Encodes all the values of a real array.
+* <p>
+* @param a array to encode.
+* @param b buffer to write to, at its position.
+*
+*/
+public void encode(RealArray a, ByteBuffer b)
+{
+encodeDoubles(a.array(), b);
+}
+
+/**
+* Decodes values into a real array, until it is full.
+* <p>
+* @param b buffer to read from, at its position.
+* @param dst array where to store the values.
+* <p>
+* @return the dst array.
+*
+*/
+public RealArray decode(ByteBuffer b, RealArray dst)
+{
+decodeDoubles(b, dst.array());
+return dst;
+}
+
+/**
+* Encodes all the values of a complex array, each one as its real part and then its imaginary one.
+* <p>
+* @param a array to encode, with any layout.
+* @param b buffer to write to, at its position.
+*
+*/
+public void encode(ComplexArray a, ByteBuffer b)
+{
+if(a.isInterleaved())
+{
+encodeDoubles(a.realArray(), b);
+return;
+}
+ByteOrder order = b.order();
+b.order(ByteOrder.LITTLE_ENDIAN);
+try
+{
+for(int i = 0; i < a.length(); i++)
+{
+b.putDouble(a.getReal(i));
+b.putDouble(a.getImag(i));
+}
+}
+finally
+{
+b.order(order);
+}
+}
+
+/**
+* Decodes values into a complex array, until it is full.
+* <p>
+* @param b buffer to read from, at its position.
+* @param dst array where to store the values, with any layout.
+* <p>
+* @return the dst array.
+*
+*/
+public ComplexArray decode(ByteBuffer b, ComplexArray dst)
+{
+if(dst.isInterleaved())
+{
+decodeDoubles(b, dst.realArray());
+return dst;
+}
+ByteOrder order = b.order();
+b.order(ByteOrder.LITTLE_ENDIAN);
+try
+{
+for(int i = 0; i < dst.length(); i++)
+{
+double real = b.getDouble();
+dst.set(i, real, b.getDouble());
+}
+}
+finally
+{
+b.order(order);
+}
+return dst;
+}
+
+
+/* private method to get the layout of a number, or null if its class is unknown. */
+private static NumberLayout layout(Number x)
+{
+if(x instanceof NaturalNumber) return NumberLayout.NATURAL;
+if(x instanceof IntegerNumber) return NumberLayout.INTEGER;
+if(x instanceof RationalNumber) return NumberLayout.RATIONAL;
+if(x instanceof RealNumber) return NumberLayout.REAL;
+if(x instanceof ComplexNumber) return NumberLayout.COMPLEX;
+return null;
+}
+
+/* private method to write an int that is not zig-zag mapped; the buffer must be in little endian order. */
+private void putUnsigned(ByteBuffer b, int v)
+{
+if(varint) putVarint(b, v);
+else b.putInt(v);
+}
+
+/* private method to write an int that is zig-zag mapped with the varint encoding; the buffer must be in little endian order. */
+private void putSigned(ByteBuffer b, int v)
+{
+if(varint) putVarint(b, zigzag(v));
+else b.putInt(v);
+}
+
+/* private method to read an int that is not zig-zag mapped; the buffer must be in little endian order. */
+private int getUnsigned(ByteBuffer b)
+{
+return varint ? getVarint(b) : b.getInt();
+}
+
+/* private method to read an int that is zig-zag mapped with the varint encoding; the buffer must be in little endian order. */
+private int getSigned(ByteBuffer b)
+{
+return varint ? unzigzag(getVarint(b)) : b.getInt();
+}
+
+/* private method to encode an int array, zig-zag mapped or not with the varint encoding. */
+private void encodeInts(int[] data, boolean signed, ByteBuffer b)
+{
+if(varint)
+{
+for(int i = 0; i < data.length; i++) putVarint(b, signed ? zigzag(data[i]) : data[i]);
+return;
+}
+/* bulk copy through an int view of the buffer */
+b.duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(data);
+skip(b, data.length * 4);
+}
+
+/* private method to decode an int array, zig-zag mapped or not with the varint encoding. */
+private void decodeInts(ByteBuffer b, int[] data, boolean signed)
+{
+if(varint)
+{
+for(int i = 0; i < data.length; i++) data[i] = signed ? unzigzag(getVarint(b)) : getVarint(b);
+return;
+}
+b.duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(data);
+skip(b, data.length * 4);
+}
+
+/* private method to encode a double array through a double view of the buffer. */
+private static void encodeDoubles(double[] data, ByteBuffer b)
+{
+b.duplicate().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().put(data);
+skip(b, data.length * 8);
+}
+
+/* private method to decode a double array through a double view of the buffer. */
+private static void decodeDoubles(ByteBuffer b, double[] data)
+{
+b.duplicate().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(data);
+skip(b, data.length * 8);
+}
+
+/* private method to move the position of a buffer forward. */
+private static void skip(ByteBuffer b, int bytes)
+{
+((Buffer)b).position(b.position() + bytes);
+}
+
+/* private method to write an int as an unsigned varint. */
+private static void putVarint(ByteBuffer b, int v)
+{
+while((v & ~0x7F) != 0)
+{
+b.put((byte)((v & 0x7F) | 0x80));
+v >>>= 7;
+}
+b.put((byte)v);
+}
+
+/* private method to read an unsigned varint as an int. */
+private static int getVarint(ByteBuffer b)
+{
+int v = 0;
+for(int shift = 0; shift < 35; shift += 7)
+{
+byte x = b.get();
+v |= (x & 0x7F) << shift;
+if(x >= 0) return v;
+}
+throw new IllegalArgumentException("NumberCodec -> decode method: malformed varint, longer than 5 bytes.");
+}
+
+/* private method to map signed ints to unsigned ones: 0, -1, 1, -2 ... to 0, 1, 2, 3 ... */
+private static int zigzag(int v)
+{
+return (v << 1) ^ (v >> 31);
+}
+
+/* private method to undo the zig-zag mapping. */
+private static int unzigzag(int v)
+{
+return (v >>> 1) ^ -(v & 1);
+}
+
+
+private final boolean varint;
+
+}
+
+// END
@@ -0,0 +1,567 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* NumberColumn.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+
+/**
+* The <code>NumberColumn</code> class is a view of one column of a <code>NumberFile</code>.
+* <p>
+* The values are read and written straight from the mapped file, with no copy on the Java heap.
+* <p>
+* Every column is made of one part, or of two parts for rational numbers ( numerators and denominators )
+* <p>
+* and for complex numbers ( real and imaginary parts ), stored one after the other in the file.
+* <p>
+* Indexes are long values, so a column can hold more than 2^31 values.
+* <p>
+* A column of a file opened only for reading cannot be written.
+* <p>
+* This class uses assertions, so you must be use the '-ea' modifier when executing, in order to enable assertions.
+* <p>
+* example:
+* <p>
+* <code>java -ea MyApp</code>
+*
+*/
+public final class NumberColumn
+{
+
+/* package constructor: the chunks of every part, each one holding 2^shift values but the last one. */
+NumberColumn(String name, NumberLayout layout, long length, int shift, Buffer[][] parts)
+{
+this.name = name;
+this.layout = layout;
+this.length = length;
+this.shift = shift;
+mask = (1L << shift) - 1L;
+if(layout.isDouble())
+{
+doubles = new DoubleBuffer[parts.length][];
+for(int p = 0; p < parts.length; p++) doubles[p] = java.util.Arrays.copyOf(parts[p], parts[p].length, DoubleBuffer[].class);
+ints = null;
+}
+else
+{
+ints = new IntBuffer[parts.length][];
+for(int p = 0; p < parts.length; p++) ints[p] = java.util.Arrays.copyOf(parts[p], parts[p].length, IntBuffer[].class);
+doubles = null;
+}
+}
+
+/**
+* Gets the name of this column.
+* <p>
+* @return the name.
+*
+*/
+public String name()
+{
+return name;
+}
+
+/**
+* Gets the layout of the values.
+* <p>
+* @return the layout of this column.
+*
+*/
+public NumberLayout layout()
+{
+return layout;
+}
+
+/**
+* Gets the number of values.
+* <p>
+* @return the length of this column.
+*
+*/
+public long length()
+{
+return length;
+}
+
+/**
+* Gets a natural or integer number.
+* <p>
+* @param i index of the value.
+* <p>
+* @return the value at i.
+*
+*/
+public int getInt(long i)
+{
+assert check(i, NumberLayout.NATURAL, NumberLayout.INTEGER): "NumberColumn -> getInt method: bad index or layout.";
+return ints[0][(int)(i >>> shift)].get((int)(i & mask));
+}
+
+/**
+* Sets a natural or integer number.
+* <p>
+* @param i index of the value.
+* @param value the value, which must be greater than zero for natural numbers.
+*
+*/
+public void setInt(long i, int value)
+{
+assert check(i, NumberLayout.NATURAL, NumberLayout.INTEGER): "NumberColumn -> setInt method: bad index or layout.";
+assert (layout != NumberLayout.NATURAL || value > 0): "NumberColumn -> setInt method: Bad parameter, a natural number must be greater than zero.";
+ints[0][(int)(i >>> shift)].put((int)(i & mask), value);
+}
+
+/**
+* Gets the numerator of a rational number.
+* <p>
+* @param i index of the value.
+* <p>
+* @return the numerator of the fracction at i.
+*
+*/
+public int getNumerator(long i)
+{
+assert check(i, NumberLayout.RATIONAL, NumberLayout.RATIONAL): "NumberColumn -> getNumerator method: bad index or layout.";
+return ints[0][(int)(i >>> shift)].get((int)(i & mask));
+}
+
+/**
+* Gets the denominator of a rational number.
+* <p>
+* @param i index of the value.
+* <p>
+* @return the denominator of the fracction at i.
+*
+*/
+public int getDenominator(long i)
+{
+assert check(i, NumberLayout.RATIONAL, NumberLayout.RATIONAL): "NumberColumn -> getDenominator method: bad index or layout.";
+return ints[1][(int)(i >>> shift)].get((int)(i & mask));
+}
+
+/**
+* Sets a rational number.
+* <p>
+* @param i index of the value.
+* @param numerator int value for the numerator.
+* @param denominator int value for the denominator.
+*
+*/
+public void setRational(long i, int numerator, int denominator)
+{
+assert check(i, NumberLayout.RATIONAL, NumberLayout.RATIONAL): "NumberColumn -> setRational method: bad index or layout.";
+int c = (int)(i >>> shift);
+int k = (int)(i & mask);
+ints[0][c].put(k, numerator);
+ints[1][c].put(k, denominator);
+}
+
+/**
+* Gets a real number.
+* <p>
+* @param i index of the value.
+* <p>
+* @return the value at i.
+*
+*/
+public double getDouble(long i)
+{
+assert check(i, NumberLayout.REAL, NumberLayout.REAL): "NumberColumn -> getDouble method: bad index or layout.";
+return doubles[0][(int)(i >>> shift)].get((int)(i & mask));
+}
+
+/**
+* Sets a real number.
+* <p>
+* @param i index of the value.
+* @param value the value.
+*
+*/
+public void setDouble(long i, double value)
+{
+assert check(i, NumberLayout.REAL, NumberLayout.REAL): "NumberColumn -> setDouble method: bad index or layout.";
+doubles[0][(int)(i >>> shift)].put((int)(i & mask), value);
+}
+
+/**
+* Gets the real part of a complex number.
+* <p>
+* @param i index of the value.
+* <p>
+* @return the real part of the value at i.
+*
+*/
+public double getReal(long i)
+{
+assert check(i, NumberLayout.COMPLEX, NumberLayout.COMPLEX): "NumberColumn -> getReal method: bad index or layout.";
+return doubles[0][(int)(i >>> shift)].get((int)(i & mask));
+}
+
+/**
+* Gets the imaginary part of a complex number.
+* <p>
+* @param i index of the value.
+* <p>
+* @return the imaginary part of the value at i.
+*
+*/
+public double getImag(long i)
+{
+assert check(i, NumberLayout.COMPLEX, NumberLayout.COMPLEX): "NumberColumn -> getImag method: bad index or layout.";
+return doubles[1][(int)(i >>> shift)].get((int)(i & mask));
+}
+
+/**
+* Sets a complex number.
+* <p>
+* @param i index of the value.
+* @param real real part.
+* @param imag imaginary part.
+*
+*/
+public void setComplex(long i, double real, double imag)
+{
+assert check(i, NumberLayout.COMPLEX, NumberLayout.COMPLEX): "NumberColumn -> setComplex method: bad index or layout.";
+int c = (int)(i >>> shift);
+int k = (int)(i & mask);
+doubles[0][c].put(k, real);
+doubles[1][c].put(k, imag);
+}
+
+/**
+* Copies a natural number into a <code>NaturalNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param dst A <code>NaturalNumber</code> object to store the value.
+* <p>
+* @return dst, holding the value at i.
+*
+*/
+public NaturalNumber get(long i, NaturalNumber dst)
+{
+dst.set(getInt(i));
+return dst;
+}
+
+/**
+* Copies an integer number into an <code>IntegerNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param dst An <code>IntegerNumber</code> object to store the value.
+* <p>
+* @return dst, holding the value at i.
+*
+*/
+public IntegerNumber get(long i, IntegerNumber dst)
+{
+dst.set(getInt(i));
+return dst;
+}
+
+/**
+* Copies a rational number into a <code>RationalNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param dst A <code>RationalNumber</code> object to store the value.
+* <p>
+* @return dst, holding the value at i.
+*
+*/
+public RationalNumber get(long i, RationalNumber dst)
+{
+dst.set(getNumerator(i), getDenominator(i));
+return dst;
+}
+
+/**
+* Copies a real number into a <code>RealNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param dst A <code>RealNumber</code> object to store the value.
+* <p>
+* @return dst, holding the value at i.
+*
+*/
+public RealNumber get(long i, RealNumber dst)
+{
+dst.set(getDouble(i));
+return dst;
+}
+
+/**
+* Copies a complex number into a <code>ComplexNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param dst A <code>ComplexNumber</code> object to store the value.
+* <p>
+* @return dst, holding the value at i.
+*
+*/
+public ComplexNumber get(long i, ComplexNumber dst)
+{
+dst.set(getReal(i), getImag(i));
+return dst;
+}
+
+/**
+* Sets a natural number from a <code>NaturalNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param n A <code>NaturalNumber</code> object.
+*
+*/
+public void set(long i, NaturalNumber n)
+{
+setInt(i, n.get());
+}
+
+/**
+* Sets an integer number from an <code>IntegerNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param z An <code>IntegerNumber</code> object.
+*
+*/
+public void set(long i, IntegerNumber z)
+{
+setInt(i, z.get());
+}
+
+/**
+* Sets a rational number from a <code>RationalNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param q A <code>RationalNumber</code> object.
+*
+*/
+public void set(long i, RationalNumber q)
+{
+setRational(i, q.getNumerator(), q.getDenominator());
+}
+
+/**
+* Sets a real number from a <code>RealNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param r A <code>RealNumber</code> object.
+*
+*/
+public void set(long i, RealNumber r)
+{
+setDouble(i, r.get());
+}
+
+/**
+* Sets a complex number from a <code>ComplexNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param c A <code>ComplexNumber</code> object.
+*
+*/
+public void set(long i, ComplexNumber c)
+{
+setComplex(i, c.getReal(), c.getImag());
+}
+
+/**
+* Copies len ints of one part of this column into an int array.
+* <p>
+* The part is 0 for natural and integer numbers, and 0 for the numerators or 1 for the denominators of rational numbers.
+* <p>
+* @param part index of the part.
+* @param index index of the first value of this column.
+* @param dst int array.
+* @param off index of dst where the first value is stored.
+* @param len number of values.
+*
+*/
+public void read(int part, long index, int[] dst, int off, int len)
+{
+assert (ints != null && part >= 0 && part < ints.length && inRange(index, len)): "NumberColumn -> read method: bad part, range or layout.";
+transfer(part, index, dst, null, off, len, true);
+}
+
+/**
+* Copies len ints from an int array into one part of this column.
+* <p>
+* @param part index of the part.
+* @param index index of the first value of this column.
+* @param src int array.
+* @param off index of src where the first value is.
+* @param len number of values.
+*
+*/
+public void write(int part, long index, int[] src, int off, int len)
+{
+assert (ints != null && part >= 0 && part < ints.length && inRange(index, len)): "NumberColumn -> write method: bad part, range or layout.";
+transfer(part, index, src, null, off, len, false);
+}
+
+/**
+* Copies len doubles of one part of this column into a double array.
+* <p>
+* The part is 0 for real numbers, and 0 for the real parts or 1 for the imaginary parts of complex numbers.
+* <p>
+* @param part index of the part.
+* @param index index of the first value of this column.
+* @param dst double array.
+* @param off index of dst where the first value is stored.
+* @param len number of values.
+*
+*/
+public void read(int part, long index, double[] dst, int off, int len)
+{
+assert (doubles != null && part >= 0 && part < doubles.length && inRange(index, len)): "NumberColumn -> read method: bad part, range or layout.";
+transfer(part, index, null, dst, off, len, true);
+}
+
+/**
+* Copies len doubles from a double array into one part of this column.
+* <p>
+* @param part index of the part.
+* @param index index of the first value of this column.
+* @param src double array.
+* @param off index of src where the first value is.
+* @param len number of values.
+*
+*/
+public void write(int part, long index, double[] src, int off, int len)
+{
+assert (doubles != null && part >= 0 && part < doubles.length && inRange(index, len)): "NumberColumn -> write method: bad part, range or layout.";
+transfer(part, index, null, src, off, len, false);
+}
+
+/**
+* Sums all the values of a column of natural, integer, rational or real numbers.
+* <p>
+* The values are read from the mapped file, one chunk after the other, with no copy on the heap.
+* <p>
+* Natural and integer numbers are added exactly as long values, and rational numbers are added as doubles.
+* <p>
+* @return the sum.
+*
+*/
+public double sum()
+{
+assert (layout != NumberLayout.COMPLEX): "NumberColumn -> sum method: use sum(ComplexNumber) for complex numbers.";
+if(layout == NumberLayout.REAL) return sum(doubles[0]);
+if(layout == NumberLayout.RATIONAL)
+{
+double s = 0.0;
+for(int c = 0; c < ints[0].length; c++)
+{
+IntBuffer n = ints[0][c];
+IntBuffer d = ints[1][c];
+for(int k = 0; k < n.limit(); k++) s += (double)n.get(k) / (double)d.get(k);
+}
+return s;
+}
+long s = 0L;
+for(IntBuffer b : ints[0])
+{
+for(int k = 0; k < b.limit(); k++) s += b.get(k);
+}
+return (double)s;
+}
+
+/**
+* Sums all the values of a column of complex numbers.
+* <p>
+* @param dst A <code>ComplexNumber</code> object to store the sum.
+* <p>
+* @return dst, holding the sum.
+*
+*/
+public ComplexNumber sum(ComplexNumber dst)
+{
+assert (layout == NumberLayout.COMPLEX): "NumberColumn -> sum method: the layout is not COMPLEX.";
+dst.set(sum(doubles[0]), sum(doubles[1]));
+return dst;
+}
+
+
+/* private method to sum the doubles of a part. */
+private static double sum(DoubleBuffer[] chunks)
+{
+double s = 0.0;
+for(DoubleBuffer b : chunks)
+{
+for(int k = 0; k < b.limit(); k++) s += b.get(k);
+}
+return s;
+}
+
+/* private method to copy len values between a part of this column and a heap array, split at the chunk boundaries. */
+private void transfer(int part, long index, int[] is, double[] ds, int off, int len, boolean read)
+{
+while(len > 0)
+{
+int c = (int)(index >>> shift);
+int k = (int)(index & mask);
+int count = (int)Math.min(len, mask + 1L - k);
+if(ds != null)
+{
+if(read) doubles[part][c].get(k, ds, off, count);
+else doubles[part][c].put(k, ds, off, count);
+}
+else
+{
+if(read) ints[part][c].get(k, is, off, count);
+else ints[part][c].put(k, is, off, count);
+}
+index += count;
+off += count;
+len -= count;
+}
+}
+
+/* private method to check an index and the layout, for the assertions. */
+private boolean check(long i, NumberLayout l1, NumberLayout l2)
+{
+return i >= 0L && i < length && (layout == l1 || layout == l2);
+}
+
+/* private method to check a range of values, for the assertions. */
+private boolean inRange(long index, int len)
+{
+return index >= 0L && len >= 0 && index <= length - len;
+}
+
+
+private final String name;
+private final NumberLayout layout;
+private final long length;
+private final int shift;
+private final long mask;
+private final IntBuffer[][] ints;
+private final DoubleBuffer[][] doubles;
+}
+
+// END
@@ -0,0 +1,403 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* NumberFile.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+/**
+* The <code>NumberFile</code> class reads and writes tables of numbers in a binary columnar file.
+* <p>
+* A file holds a number of rows and some named columns, each one with the <code>NumberLayout</code> of a number set.
+* <p>
+* The values of every column are stored together, and rational and complex columns are split in two parts:
+* <p>
+* numerators and denominators, or real and imaginary parts.
+* <p>
+* The file is mapped into memory with <code>FileChannel.map</code>, so the columns are read and written
+* <p>
+* straight from the file with no copy on the Java heap, at any position, and files larger than the heap can be processed.
+* <p>
+* File format, version 1, all the values in little endian order:
+* <ul>
+* <li>the 4 bytes "NSET", the version as an int, the number of rows as a long, the number of columns as an int and the size of the header as an int.</li>
+* <li>for every column: the code of its layout as an int ( 1 natural, 2 integer, 3 rational, 4 real, 5 complex ), the length of its name as an int and the name in UTF-8.</li>
+* <li>the header is padded with zeros to a multiple of 8 bytes, and then come the parts of every column, in order, each one also padded to a multiple of 8 bytes.</li>
+* </ul>
+* <p>
+* example:
+* <p>
+* <code>try(NumberFile f = NumberFile.open(path))</code>
+* <p>
+* <code>{</code>
+* <p>
+* <code>double s = f.column("x").sum();</code>
+* <p>
+* <code>}</code>
+* <p>
+* This class uses assertions, so you must be use the '-ea' modifier when executing, in order to enable assertions.
+* <p>
+* example:
+* <p>
+* <code>java -ea MyApp</code>
+*
+*/
+public final class NumberFile implements AutoCloseable
+{
+
+/**
+* The version of the file format written by this class.
+*
+*/
+public static final int VERSION = 1;
+
+/* private constructor, used by create and open */
+private NumberFile(NumberColumn[] columns, long rows, ArrayList<MappedByteBuffer> maps, boolean writable)
+{
+this.columns = columns;
+this.rows = rows;
+this.maps = maps;
+this.writable = writable;
+open = true;
+}
+
+/**
+* Creates a new file, or replaces an existing one, and opens it for reading and writing.
+* <p>
+* All the values are zero when the file is created, so the values of natural and rational columns must be written before they are used.
+* <p>
+* @param path path of the file.
+* @param rows number of rows.
+* @param names names of the columns.
+* @param layouts layouts of the columns, one for every name.
+* <p>
+* @return A <code>NumberFile</code> object.
+* <p>
+* @throws IOException if the file cannot be created.
+*
+*/
+public static NumberFile create(Path path, long rows, String[] names, NumberLayout[] layouts) throws IOException
+{
+return create(path, rows, names, layouts, CHUNK_BYTES);
+}
+
+/* package method to create a file with a given chunk size in bytes, a power of two; it lets small chunks be tested. */
+static NumberFile create(Path path, long rows, String[] names, NumberLayout[] layouts, int chunkBytes) throws IOException
+{
+assert (rows >= 0L && names.length == layouts.length): "NumberFile -> create method: Bad parameters, rows must be >= 0 and there must be a layout for every name.";
+byte[][] utf8 = new byte[names.length][];
+int size = HEADER;
+for(int c = 0; c < names.length; c++)
+{
+utf8[c] = names[c].getBytes(StandardCharsets.UTF_8);
+size += 8 + utf8[c].length;
+}
+size = align(size);
+ByteBuffer header = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+header.put(MAGIC);
+header.putInt(VERSION);
+header.putLong(rows);
+header.putInt(names.length);
+header.putInt(size);
+for(int c = 0; c < names.length; c++)
+{
+header.putInt(layouts[c].code());
+header.putInt(utf8[c].length);
+header.put(utf8[c]);
+}
+header.clear();
+try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE))
+{
+while(header.hasRemaining()) channel.write(header);
+/* the last byte sets the size of the file, including the padding of the last part */
+long end = fileSize(size, layouts, rows);
+if(end > size) channel.write(ByteBuffer.allocate(1), end - 1L);
+return map(channel, FileChannel.MapMode.READ_WRITE, rows, names, layouts, size, chunkBytes);
+}
+}
+
+/**
+* Opens an existing file only for reading.
+* <p>
+* @param path path of the file.
+* <p>
+* @return A <code>NumberFile</code> object.
+* <p>
+* @throws IOException if the file cannot be read, or it is not a valid file of this format.
+*
+*/
+public static NumberFile open(Path path) throws IOException
+{
+return open(path, false);
+}
+
+/**
+* Opens an existing file.
+* <p>
+* @param path path of the file.
+* @param writable true to open the file for reading and writing, or false to open it only for reading.
+* <p>
+* @return A <code>NumberFile</code> object.
+* <p>
+* @throws IOException if the file cannot be opened, or it is not a valid file of this format.
+*
+*/
+public static NumberFile open(Path path, boolean writable) throws IOException
+{
+return open(path, writable, CHUNK_BYTES);
+}
+
+/* package method to open a file with a given chunk size in bytes. */
+static NumberFile open(Path path, boolean writable, int chunkBytes) throws IOException
+{
+StandardOpenOption[] options = writable ? new StandardOpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE } : new StandardOpenOption[] { StandardOpenOption.READ };
+try(FileChannel channel = FileChannel.open(path, options))
+{
+ByteBuffer fixed = read(channel, 0L, HEADER);
+byte[] magic = new byte[MAGIC.length];
+fixed.get(magic);
+if(!java.util.Arrays.equals(magic, MAGIC)) throw new IOException("NumberFile -> open method: " + path + " is not a number-set file.");
+int version = fixed.getInt();
+if(version != VERSION) throw new IOException("NumberFile -> open method: unsupported version " + version + ".");
+long rows = fixed.getLong();
+int count = fixed.getInt();
+int size = fixed.getInt();
+/* every column takes 8 bytes of the header at least: its layout code and the length of its name */
+if(rows < 0L || count < 0 || size < HEADER || count > (size - HEADER) / 8) throw new IOException("NumberFile -> open method: corrupted header.");
+if(size > channel.size()) throw new IOException("NumberFile -> open method: the file is truncated.");
+ByteBuffer header = read(channel, HEADER, size - HEADER);
+String[] names = new String[count];
+NumberLayout[] layouts = new NumberLayout[count];
+for(int c = 0; c < count; c++)
+{
+int code = header.getInt();
+layouts[c] = NumberLayout.fromCode(code);
+if(layouts[c] == null) throw new IOException("NumberFile -> open method: unknown layout code " + code + ".");
+int length = header.getInt();
+if(length < 0 || length > header.remaining()) throw new IOException("NumberFile -> open method: corrupted header.");
+byte[] utf8 = new byte[length];
+header.get(utf8);
+names[c] = new String(utf8, StandardCharsets.UTF_8);
+}
+long end = fileSize(size, layouts, rows);
+if(channel.size() < end) throw new IOException("NumberFile -> open method: the file is truncated.");
+return map(channel, writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, rows, names, layouts, size, chunkBytes);
+}
+catch(java.nio.BufferUnderflowException | ArithmeticException e)
+{
+throw new IOException("NumberFile -> open method: corrupted header.", e);
+}
+}
+
+/**
+* Gets the number of rows.
+* <p>
+* @return the length of every column.
+*
+*/
+public long rows()
+{
+return rows;
+}
+
+/**
+* Gets the number of columns.
+* <p>
+* @return the number of columns.
+*
+*/
+public int columns()
+{
+return columns.length;
+}
+
+/**
+* Gets a column by its index.
+* <p>
+* @param c index of the column.
+* <p>
+* @return A <code>NumberColumn</code> object.
+*
+*/
+public NumberColumn column(int c)
+{
+assert open: "NumberFile -> column method: the file is closed.";
+return columns[c];
+}
+
+/**
+* Gets a column by its name.
+* <p>
+* @param name name of the column.
+* <p>
+* @return A <code>NumberColumn</code> object, or null if there is no column with that name.
+*
+*/
+public NumberColumn column(String name)
+{
+assert open: "NumberFile -> column method: the file is closed.";
+for(NumberColumn c : columns)
+{
+if(c.name().equals(name)) return c;
+}
+return null;
+}
+
+/**
+* Evaluates whether the columns of this file can be written.
+* <p>
+* @return true if the file was opened for writing, or false otherwise.
+*
+*/
+public boolean isWritable()
+{
+return writable;
+}
+
+/**
+* Writes to the storage device the changes made to the columns.
+* <p>
+* It does nothing for a file opened only for reading.
+*
+*/
+public void flush()
+{
+if(writable && open)
+{
+for(MappedByteBuffer m : maps) m.force();
+}
+}
+
+/**
+* Closes this file, writing the pending changes first.
+* <p>
+* The columns must not be used after that; the mapped memory is released when the columns are reclaimed.
+*
+*/
+public void close()
+{
+flush();
+open = false;
+maps.clear();
+}
+
+
+/* private method to map every part of every column, in chunks of chunkBytes bytes at most. */
+private static NumberFile map(FileChannel channel, FileChannel.MapMode mode, long rows, String[] names, NumberLayout[] layouts, long offset, int chunkBytes) throws IOException
+{
+ArrayList<MappedByteBuffer> maps = new ArrayList<MappedByteBuffer>();
+NumberColumn[] columns = new NumberColumn[names.length];
+for(int c = 0; c < names.length; c++)
+{
+NumberLayout layout = layouts[c];
+int value = layout.byteSize() / layout.slots();
+int shift = Integer.numberOfTrailingZeros(chunkBytes / value);
+long chunkValues = 1L << shift;
+int chunks = (int)((rows + chunkValues - 1L) >>> shift);
+Buffer[][] parts = new Buffer[layout.slots()][chunks];
+for(int p = 0; p < parts.length; p++)
+{
+for(int k = 0; k < chunks; k++)
+{
+long count = Math.min(chunkValues, rows - ((long)k << shift));
+MappedByteBuffer m = channel.map(mode, offset + ((long)k << shift) * value, count * value);
+maps.add(m);
+m.order(ByteOrder.LITTLE_ENDIAN);
+parts[p][k] = layout.isDouble() ? m.asDoubleBuffer() : m.asIntBuffer();
+}
+offset += partSize(layout, rows);
+}
+columns[c] = new NumberColumn(names[c], layout, rows, shift, parts);
+}
+return new NumberFile(columns, rows, maps, mode == FileChannel.MapMode.READ_WRITE);
+}
+
+/* private method to read size bytes of the file from the given position. */
+private static ByteBuffer read(FileChannel channel, long position, int size) throws IOException
+{
+ByteBuffer b = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+while(b.hasRemaining())
+{
+if(channel.read(b, position + b.position()) < 0) throw new IOException("NumberFile -> open method: the file is truncated.");
+}
+b.flip();
+return b;
+}
+
+/*
+* private method to get the size of the file, that is, the end of the data of the last column.
+* The exact arithmetic throws ArithmeticException instead of wrapping around for a huge number of rows.
+*/
+private static long fileSize(long size, NumberLayout[] layouts, long rows)
+{
+long end = size;
+for(int c = 0; c < layouts.length; c++) end = Math.addExact(end, Math.multiplyExact((long)layouts[c].slots(), partSize(layouts[c], rows)));
+return end;
+}
+
+/* private method to get the bytes of one part of a column, padded to a multiple of 8. */
+private static long partSize(NumberLayout layout, long rows)
+{
+return align(Math.multiplyExact(rows, (long)(layout.byteSize() / layout.slots())));
+}
+
+/* private method to round a size up to a multiple of 8 bytes. */
+private static long align(long size)
+{
+return Math.addExact(size, 7L) & ~7L;
+}
+
+/* private method to round a size up to a multiple of 8 bytes. */
+private static int align(int size)
+{
+return (size + 7) & ~7;
+}
+
+/* chunk size: 1 GB */
+private static final int CHUNK_BYTES = 1 << 30;
+/* size of the fixed part of the header */
+private static final int HEADER = 24;
+private static final byte[] MAGIC = { 'N', 'S', 'E', 'T' };
+
+private final NumberColumn[] columns;
+private final long rows;
+private final ArrayList<MappedByteBuffer> maps;
+private final boolean writable;
+private volatile boolean open;
+}
+
+// END
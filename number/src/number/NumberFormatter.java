@@ -0,0 +1,662 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* NumberFormatter.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/**
+* The <code>NumberFormatter</code> class writes numbers of all the sets as text, straight into a
+* <p>
+* <code>StringBuilder</code>, an <code>Appendable</code> or a <code>ByteBuffer</code>, with no object made for any call.
+* <p>
+* There are two modes:
+* <ul>
+* <li>shortest: doubles are written with the fewest digits that read back to the same double, found with the Schubfach algorithm,
+* in the same format as <code>Double.toString</code>: 0.001, 12.5, 1.0E7, 1.0E-4, NaN, Infinity.</li>
+* <li>fixed: doubles are written with a fixed number of fraction digits and a comma every three integer digits,
+* rounded as <code>NumberFormat</code> does for <code>Locale.US</code>: the shortest digits are rounded to the fraction digits,
+* and only when they end in a 5 right after the last digit kept, that tie is resolved on the exact binary value, half to even:
+* 5,002.00, -0.50, NaN and the infinity sign. With two fraction digits, complex numbers are written as <code>ComplexNumber.toString</code> does.
+* The digits after the shortest ones are zeros, so values of 10^16 or more may end in other digits than with <code>NumberFormat</code>.</li>
+* </ul>
+* <p>
+* Natural and integer numbers are written as their values, rational numbers as numerator/denominator,
+* <p>
+* real numbers as their double and complex numbers as ( a, bi ), in both modes.
+* <p>
+* The text is built in an array owned by the formatter, so a formatter must not be shared by several threads at the same time.
+* <p>
+* Text written to a <code>ByteBuffer</code> is encoded in UTF-8, and nothing is written if it does not fit.
+* <p>
+* example:
+* <p>
+* <code>NumberFormatter f = new NumberFormatter(2);</code>
+* <p>
+* <code>StringBuilder s = new StringBuilder();</code>
+* <p>
+* <code>f.append(new ComplexNumber(1.0, -2.5), s);</code>
+* <p>
+* This class uses assertions, so you must be use the '-ea' modifier when executing, in order to enable assertions.
+* <p>
+* example:
+* <p>
+* <code>java -ea MyApp</code>
+*
+*/
+public final class NumberFormatter
+{
+
+/**
+* Constructor.
+* <p>
+* Makes a formatter in the shortest mode.
+*
+*/
+public NumberFormatter()
+{
+this(-1, 64);
+}
+
+/**
+* Constructor.
+* <p>
+* Makes a formatter in the fixed mode.
+* <p>
+* @param fractionDigits number of digits after the decimal point, from 0 to 17.
+*
+*/
+public NumberFormatter(int fractionDigits)
+{
+this(fractionDigits, 1024);
+assert (fractionDigits >= 0 && fractionDigits <= 17): "NumberFormatter -> constructor: Bad parameter, the fraction digits must be from 0 to 17.";
+}
+
+/* private constructor for both modes */
+private NumberFormatter(int fractionDigits, int size)
+{
+this.fractionDigits = fractionDigits;
+buf = new char[size];
+chars = CharBuffer.wrap(buf);
+}
+
+/**
+* Evaluates whether this formatter uses the shortest mode.
+* <p>
+* @return true for the shortest mode or false for the fixed one.
+*
+*/
+public boolean isShortest()
+{
+return fractionDigits < 0;
+}
+
+/**
+* Gets the number of digits after the decimal point in the fixed mode.
+* <p>
+* @return the fraction digits, or -1 in the shortest mode.
+*
+*/
+public int fractionDigits()
+{
+return fractionDigits;
+}
+
+/**
+* Formats a double.
+* <p>
+* @param x value to format.
+* <p>
+* @return A new string with the text.
+*
+*/
+public String format(double x)
+{
+return new String(buf, 0, putDouble(x, 0));
+}
+
+/**
+* Formats a number of any set.
+* <p>
+* @param x number to format.
+* <p>
+* @return A new string with the text.
+*
+*/
+public String format(Number x)
+{
+return new String(buf, 0, putNumber(x, 0));
+}
+
+/**
+* Appends a double to a string builder.
+* <p>
+* @param x value to format.
+* @param s string builder where to append the text.
+* <p>
+* @return the s object.
+*
+*/
+public StringBuilder append(double x, StringBuilder s)
+{
+return s.append(buf, 0, putDouble(x, 0));
+}
+
+/**
+* Appends a number of any set to a string builder.
+* <p>
+* @param x number to format.
+* @param s string builder where to append the text.
+* <p>
+* @return the s object.
+*
+*/
+public StringBuilder append(Number x, StringBuilder s)
+{
+return s.append(buf, 0, putNumber(x, 0));
+}
+
+/**
+* Appends a double to an <code>Appendable</code>, such as a <code>Writer</code>.
+* <p>
+* @param x value to format.
+* @param a where to append the text.
+* <p>
+* @return the a object.
+* <p>
+* @throws IOException if the <code>Appendable</code> throws it.
+*
+*/
+public Appendable append(double x, Appendable a) throws IOException
+{
+return a.append(chars, 0, putDouble(x, 0));
+}
+
+/**
+* Appends a number of any set to an <code>Appendable</code>, such as a <code>Writer</code>.
+* <p>
+* @param x number to format.
+* @param a where to append the text.
+* <p>
+* @return the a object.
+* <p>
+* @throws IOException if the <code>Appendable</code> throws it.
+*
+*/
+public Appendable append(Number x, Appendable a) throws IOException
+{
+return a.append(chars, 0, putNumber(x, 0));
+}
+
+/**
+* Writes a double to a byte buffer, in UTF-8.
+* <p>
+* @param x value to format.
+* @param b buffer to write to, at its position.
+* <p>
+* @return the b object.
+* <p>
+* @throws BufferOverflowException if the text does not fit, and then nothing is written.
+*
+*/
+public ByteBuffer append(double x, ByteBuffer b)
+{
+return putBytes(putDouble(x, 0), b);
+}
+
+/**
+* Writes a number of any set to a byte buffer, in UTF-8.
+* <p>
+* @param x number to format.
+* @param b buffer to write to, at its position.
+* <p>
+* @return the b object.
+* <p>
+* @throws BufferOverflowException if the text does not fit, and then nothing is written.
+*
+*/
+public ByteBuffer append(Number x, ByteBuffer b)
+{
+return putBytes(putNumber(x, 0), b);
+}
+
+
+/* private method to write the text of a number in buf at the given index, returning the index after it. */
+private int putNumber(Number x, int at)
+{
+if(x instanceof NaturalNumber) return putLong(((NaturalNumber)x).get(), at);
+if(x instanceof IntegerNumber) return putLong(((IntegerNumber)x).get(), at);
+if(x instanceof RationalNumber)
+{
+RationalNumber q = (RationalNumber)x;
+at = putLong(q.getNumerator(), at);
+buf[at++] = '/';
+return putLong(q.getDenominator(), at);
+}
+if(x instanceof RealNumber) return putDouble(((RealNumber)x).get(), at);
+assert (x instanceof ComplexNumber): "NumberFormatter -> append method: Bad parameter, unknown number class.";
+ComplexNumber c = (ComplexNumber)x;
+at = putString("( ", at);
+at = putDouble(c.getReal(), at);
+at = putString(", ", at);
+at = putDouble(c.getImag(), at);
+return putString("i )", at);
+}
+
+/* private method to write a double in buf with the mode of this formatter. */
+private int putDouble(double x, int at)
+{
+return fractionDigits < 0 ? putShortest(x, at) : putFixed(x, at);
+}
+
+/* private method to write a double with its shortest digits, in the format of Double.toString. */
+private int putShortest(double x, int at)
+{
+long bits = Double.doubleToRawLongBits(x);
+if((bits & EXP_MASK) == EXP_MASK) return putString((bits & T_MASK) != 0 ? "NaN" : bits < 0 ? "-Infinity" : "Infinity", at);
+if(bits < 0) buf[at++] = '-';
+if((bits & ~SIGN_MASK) == 0) return putString("0.0", at);
+shortest(bits);
+int n = toDigits(decimal);
+/* exponent of the first digit */
+int e = n + exponent - 1;
+if(e >= -3 && e < 7)
+{
+if(e >= 0)
+{
+for(int i = 0; i <= e; i++) buf[at++] = (i < n) ? digits[i] : '0';
+buf[at++] = '.';
+if(n <= e + 1) buf[at++] = '0';
+for(int i = e + 1; i < n; i++) buf[at++] = digits[i];
+}
+else
+{
+buf[at++] = '0';
+buf[at++] = '.';
+for(int i = -1; i > e; i--) buf[at++] = '0';
+for(int i = 0; i < n; i++) buf[at++] = digits[i];
+}
+return at;
+}
+buf[at++] = digits[0];
+buf[at++] = '.';
+if(n == 1) buf[at++] = '0';
+for(int i = 1; i < n; i++) buf[at++] = digits[i];
+buf[at++] = 'E';
+return putLong(e, at);
+}
+
+/* private method to write a double with the fixed number of fraction digits and grouping. */
+private int putFixed(double x, int at)
+{
+long bits = Double.doubleToRawLongBits(x);
+if((bits & EXP_MASK) == EXP_MASK && (bits & T_MASK) != 0) return putString("NaN", at);
+if(bits < 0) buf[at++] = '-';
+if((bits & EXP_MASK) == EXP_MASK)
+{
+buf[at++] = '\u221E';
+return at;
+}
+int p = fractionDigits;
+int n = 0;
+/* number of integer digits, the digits are at positions 10^(point-1), 10^(point-2) ... */
+point = 0;
+if((bits & ~SIGN_MASK) != 0)
+{
+shortest(bits);
+n = toDigits(decimal);
+point = n + exponent;
+if(exponent < -p) n = round(bits, n);
+}
+int dp = point;
+if(dp <= 0)
+{
+buf[at++] = '0';
+}
+for(int i = 0; i < dp; i++)
+{
+if(i > 0 && (dp - i) % 3 == 0) buf[at++] = ',';
+buf[at++] = (i < n) ? digits[i] : '0';
+}
+if(p > 0) buf[at++] = '.';
+for(int i = dp; i < dp + p; i++) buf[at++] = (i >= 0 && i < n) ? digits[i] : '0';
+return at;
+}
+
+/* private method to round the n shortest digits to the fraction digits, resolving a final 5 on the exact value, half to even; returns the number of digits left, and moves point on a carry. */
+private int round(long bits, int n)
+{
+int keep = point + fractionDigits;
+boolean up;
+if(keep < 0)
+{
+up = false;
+}
+else if(digits[keep] != '5')
+{
+up = digits[keep] > '5';
+}
+else if(keep + 1 < n)
+{
+up = true;
+}
+else
+{
+/* the digits end in 5 just after the last one kept: compare the exact value with that tie */
+int cmp = compareTie(bits, fractionDigits + 1);
+up = cmp > 0 || (cmp == 0 && keep > 0 && (digits[keep-1] & 1) == 1);
+}
+if(!up) return Math.max(keep, 0);
+int i = keep - 1;
+while(i >= 0 && digits[i] == '9') digits[i--] = '0';
+if(i >= 0)
+{
+digits[i]++;
+return keep;
+}
+/* all the kept digits were nines, or none was kept: the result is a one at the next position */
+digits[0] = '1';
+point++;
+return 1;
+}
+
+/* private method to compare the exact value of a positive double with decimal 10^(-q); returns a negative, zero or positive int. */
+private int compareTie(long bits, int q)
+{
+int bq = (int)(bits >>> 52) & 0x7FF;
+long m = (bits & T_MASK) | ((bq != 0) ? C_MIN : 0);
+int s = ((bq != 0) ? bq - 1075 : Q_MIN) + q;
+/* compare m 5^q 2^s with decimal, m 5^q < 2^95 */
+long pow5 = POW5[q];
+long hi = Math.multiplyHigh(m, pow5);
+long lo = m * pow5;
+long f = decimal;
+if(s >= 0)
+{
+/* compare m 5^q with floor(f / 2^s), then with the remainder */
+long fq = (s >= 63) ? 0 : f >>> s;
+long rem = (s >= 63) ? f : f & ((1L << s) - 1);
+if(hi != 0) return 1;
+int c = Long.compareUnsigned(lo, fq);
+if(c != 0) return c;
+return (rem == 0) ? 0 : -1;
+}
+int t = -s;
+if(64 - Long.numberOfLeadingZeros(f) + t > 95) return -1;
+long rhi = (t >= 64) ? f << (t - 64) : (f >>> 1) >>> (63 - t);
+long rlo = (t >= 64) ? 0 : f << t;
+int c = Long.compareUnsigned(hi, rhi);
+return (c != 0) ? c : Long.compareUnsigned(lo, rlo);
+}
+
+/* private method to write the decimal digits of a positive long in digits, returning their count. */
+private int toDigits(long f)
+{
+int n = 0;
+for(long v = f; v != 0; v /= 10) n++;
+for(int i = n - 1; i >= 0; i--)
+{
+digits[i] = (char)('0' + f % 10);
+f /= 10;
+}
+return n;
+}
+
+/* private method to write a long in buf. */
+private int putLong(long v, int at)
+{
+if(v < 0)
+{
+buf[at++] = '-';
+v = -v;
+}
+int n = 1;
+for(long d = v / 10; d != 0; d /= 10) n++;
+for(int i = at + n - 1; i >= at; i--)
+{
+buf[i] = (char)('0' + v % 10);
+v /= 10;
+}
+return at + n;
+}
+
+/* private method to write a string in buf. */
+private int putString(String s, int at)
+{
+s.getChars(0, s.length(), buf, at);
+return at + s.length();
+}
+
+/* private method to write the first len chars of buf in UTF-8 to a byte buffer. */
+private ByteBuffer putBytes(int len, ByteBuffer b)
+{
+int size = len;
+for(int i = 0; i < len; i++)
+{
+if(buf[i] >= 0x80) size += (buf[i] >= 0x800) ? 2 : 1;
+}
+if(b.remaining() < size) throw new BufferOverflowException();
+for(int i = 0; i < len; i++)
+{
+char c = buf[i];
+if(c < 0x80)
+{
+b.put((byte)c);
+}
+else if(c < 0x800)
+{
+b.put((byte)(0xC0 | c >> 6));
+b.put((byte)(0x80 | c & 0x3F));
+}
+else
+{
+b.put((byte)(0xE0 | c >> 12));
+b.put((byte)(0x80 | (c >> 6) & 0x3F));
+b.put((byte)(0x80 | c & 0x3F));
+}
+}
+return b;
+}
+
+/*
+* private methods of the Schubfach algorithm by Raffaello Giulietti, "The Schubfach way to render doubles".
+* They set decimal and exponent to the shortest decimal * 10^exponent that rounds to a finite, positive double,
+* choosing the closest one to the double when there are several, and the even one on a tie.
+*/
+
+private void shortest(long bits)
+{
+int bq = (int)(bits >>> 52) & 0x7FF;
+long t = bits & T_MASK;
+if(bq != 0)
+{
+int mq = -Q_MIN + 1 - bq;
+long c = C_MIN | t;
+/* integers below 2^53 */
+if(mq > 0 && mq < 53 && (c >> mq) << mq == c)
+{
+setDecimal(c >> mq, 0);
+return;
+}
+toDecimal(-mq, c, 0);
+}
+else if(t < C_TINY)
+{
+toDecimal(Q_MIN, 10 * t, -1);
+}
+else
+{
+toDecimal(Q_MIN, t, 0);
+}
+}
+
+private void toDecimal(int q, long c, int dk)
+{
+int out = (int)c & 1;
+long cb = c << 2;
+long cbr = cb + 2;
+long cbl;
+int k;
+if(c != C_MIN || q == Q_MIN)
+{
+cbl = cb - 2;
+k = flog10pow2(q);
+}
+else
+{
+cbl = cb - 1;
+k = flog10threeQuartersPow2(q);
+}
+int h = q + flog2pow10(-k) + 2;
+long g1 = G[2 * (k - K_MIN)];
+long g0 = G[2 * (k - K_MIN) + 1];
+long vb = rop(g1, g0, cb << h);
+long vbl = rop(g1, g0, cbl << h);
+long vbr = rop(g1, g0, cbr << h);
+long s = vb >> 2;
+if(s >= 100)
+{
+long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+long tp10 = sp10 + 10;
+boolean upin = vbl + out <= sp10 << 2;
+boolean wpin = (tp10 << 2) + out <= vbr;
+if(upin != wpin)
+{
+setDecimal(upin ? sp10 : tp10, k);
+return;
+}
+}
+long t = s + 1;
+boolean uin = vbl + out <= s << 2;
+boolean win = (t << 2) + out <= vbr;
+if(uin != win)
+{
+setDecimal(uin ? s : t, k + dk);
+return;
+}
+long cmp = vb - ((s + t) << 1);
+setDecimal((cmp < 0 || (cmp == 0 && (s & 1) == 0)) ? s : t, k + dk);
+}
+
+/* rounds cp g 2^-127 to odd, where g = g1 2^63 + g0 */
+private static long rop(long g1, long g0, long cp)
+{
+long x1 = Math.multiplyHigh(g0, cp);
+long y0 = g1 * cp;
+long y1 = Math.multiplyHigh(g1, cp);
+long z = (y0 >>> 1) + x1;
+long vbp = y1 + (z >>> 63);
+return vbp | (((z & MASK_63) + MASK_63) >>> 63);
+}
+
+/* stores the decimal with no trailing zeros */
+private void setDecimal(long f, int k)
+{
+while(f % 10 == 0)
+{
+f /= 10;
+k++;
+}
+decimal = f;
+exponent = k;
+}
+
+/* floor(log10(2^e)) */
+private static int flog10pow2(int e)
+{
+return (int)((e * 661_971_961_083L) >> 41);
+}
+
+/* floor(log10(3/4 2^e)) */
+private static int flog10threeQuartersPow2(int e)
+{
+return (int)((e * 661_971_961_083L - 274_743_187_321L) >> 41);
+}
+
+/* floor(log2(10^e)) */
+private static int flog2pow10(int e)
+{
+return (int)((e * 913_124_641_741L) >> 38);
+}
+
+
+private static final long SIGN_MASK = 1L << 63;
+private static final long EXP_MASK = 0x7FFL << 52;
+private static final long T_MASK = (1L << 52) - 1;
+private static final long MASK_63 = (1L << 63) - 1;
+private static final long C_MIN = 1L << 52;
+private static final long C_TINY = 3;
+private static final int Q_MIN = -1074;
+private static final int K_MIN = -324;
+private static final int K_MAX = 292;
+/* powers of 5 up to 5^18 */
+private static final long[] POW5 = new long[19];
+/* g = floor(10^-k 2^(125 - flog2pow10(-k))) + 1 for k from K_MIN to K_MAX, as pairs g1 = g >> 63, g0 = g mod 2^63 */
+private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+
+static
+{
+POW5[0] = 1;
+for(int i = 1; i < POW5.length; i++) POW5[i] = 5 * POW5[i-1];
+for(int k = K_MIN; k <= K_MAX; k++)
+{
+int r = 125 - flog2pow10(-k);
+BigInteger g;
+if(k <= 0)
+{
+g = BigInteger.TEN.pow(-k);
+g = (r >= 0) ? g.shiftLeft(r) : g.shiftRight(-r);
+}
+else
+{
+g = BigInteger.ONE.shiftLeft(r).divide(BigInteger.TEN.pow(k));
+}
+g = g.add(BigInteger.ONE);
+G[2 * (k - K_MIN)] = g.shiftRight(63).longValue();
+G[2 * (k - K_MIN) + 1] = g.longValue() & MASK_63;
+}
+}
+
+private final int fractionDigits;
+private final char[] buf;
+private final CharBuffer chars;
+/* digits of the decimal being written; one more for a carry */
+private final char[] digits = new char[20];
+/* result of the Schubfach algorithm */
+private long decimal;
+private int exponent;
+/* number of integer digits of a fixed value */
+private int point;
+
+}
+
+// END
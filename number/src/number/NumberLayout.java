@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* NumberLayout.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+/**
+* The <code>NumberLayout</code> enum describes how the values of every number set are stored out of the Java heap
+* <p>
+* by the <code>OffHeapArray</code> class.
+* <p>
+* Natural and integer numbers take one int, rational numbers take two ints ( numerator and denominator ),
+* <p>
+* real numbers take one double and complex numbers take two doubles ( real and imaginary parts ).
+*
+*/
+public enum NumberLayout
+{
+/* every constant has its own code, written in files and streams; a code must never change nor be reused. */
+/** natural numbers, one int */
+NATURAL(1, 1, false),
+/** integer numbers, one int */
+INTEGER(2, 1, false),
+/** rational numbers, two ints: numerator and denominator */
+RATIONAL(3, 2, false),
+/** real numbers, one double */
+REAL(4, 1, true),
+/** complex numbers, two doubles: real and imaginary parts */
+COMPLEX(5, 2, true);
+
+/* constructor */
+NumberLayout(int code, int slots, boolean doubles)
+{
+this.code = code;
+this.slots = slots;
+this.doubles = doubles;
+}
+
+/**
+* Gets the size of one value.
+* <p>
+* @return the number of bytes taken by one value.
+*
+*/
+public int byteSize()
+{
+return doubles ? 8 * slots : 4 * slots;
+}
+
+/**
+* Gets the code of this layout, used to tag the values in files and streams.
+* <p>
+* The codes never change: 1 natural, 2 integer, 3 rational, 4 real, 5 complex.
+* <p>
+* @return the code of this layout.
+*
+*/
+public int code()
+{
+return code;
+}
+
+/**
+* Gets the layout with the given code.
+* <p>
+* @param code the code of a layout.
+* <p>
+* @return the layout, or null if there is no layout with that code.
+*
+*/
+public static NumberLayout fromCode(int code)
+{
+switch(code)
+{
+case 1: return NATURAL;
+case 2: return INTEGER;
+case 3: return RATIONAL;
+case 4: return REAL;
+case 5: return COMPLEX;
+default: return null;
+}
+}
+
+/* package method to get the number of ints or doubles of one value. */
+int slots()
+{
+return slots;
+}
+
+/* package method to know whether the values are made of doubles or of ints. */
+boolean isDouble()
+{
+return doubles;
+}
+
+
+private final int code;
+private final int slots;
+private final boolean doubles;
+}
+
+// END
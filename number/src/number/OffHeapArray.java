@@ -0,0 +1,890 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* OffHeapArray.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+
+/**
+* The <code>OffHeapArray</code> class stores a sequence of numbers out of the Java heap.
+* <p>
+* The values are kept in direct buffers, so the garbage collector never scans nor moves them,
+* <p>
+* and the time it takes does not depend on how many values are stored.
+* <p>
+* The indexes are long values, so an array can hold more than 2^31 values: the memory is split into chunks of 1 GB at most,
+* <p>
+* and a value never crosses two chunks. The <code>NumberLayout</code> of the array sets how every value is stored.
+* <p>
+* The values are read and written with the accessors of its layout, or copied from and into number objects which can be reused.
+* <p>
+* The operations work on whole arrays: blocks of values are copied to small heap arrays, computed with the packed containers
+* <p>
+* ( <code>NaturalArray</code>, <code>IntegerArray</code>, <code>RationalArray</code>, <code>RealArray</code> and <code>ComplexArray</code> )
+* <p>
+* and copied back, so they give the same results as those classes.
+* <p>
+* An array must be closed when it is not needed any more, either by itself or by the <code>NumberArena</code> that allocated it.
+* <p>
+* After that, its memory is released as soon as the direct buffers are reclaimed, and the array cannot be used any more.
+* <p>
+* Memory limit: direct buffers count against the limit of direct memory of the virtual machine, not against the heap.
+* <p>
+* That limit is set with <code>-XX:MaxDirectMemorySize</code>, and by default it is as large as the maximum heap size ( <code>-Xmx</code> ),
+* <p>
+* so an array larger than the heap throws <code>OutOfMemoryError</code> unless the limit is raised, for example:
+* <p>
+* <code>java -ea -Xmx512m -XX:MaxDirectMemorySize=32g MyApp</code>
+* <p>
+* Closing an array does not give its memory back at once: the buffers are released by the garbage collector,
+* <p>
+* and when the limit is reached the virtual machine runs full collections to reclaim them, which shows up as long pauses.
+* <p>
+* So, close the arrays as soon as possible, and set the limit well above the total size of the arrays alive at the same time.
+* <p>
+* example:
+* <p>
+* <code>try(OffHeapArray x = new OffHeapArray(NumberLayout.REAL, n))</code>
+* <p>
+* <code>{</code>
+* <p>
+* <code>x.setDouble(0L, 1.0);</code>
+* <p>
+* <code>x.apply(RealFunction.EXP);</code>
+* <p>
+* <code>}</code>
+* <p>
+* This class uses assertions, so you must be use the '-ea' modifier when executing, in order to enable assertions.
+* <p>
+* example:
+* <p>
+* <code>java -ea MyApp</code>
+*
+*/
+public final class OffHeapArray implements AutoCloseable
+{
+
+/**
+* Constructor.
+* <p>
+* Allocates a new off-heap array with all its values set to zero, or to 1 for natural numbers and to 0/1 for rational numbers.
+* <p>
+* The array takes length * layout.byteSize() bytes of direct memory, see the memory limit above.
+* <p>
+* @param layout the layout of the values.
+* @param length number of values, &gt;= 0.
+* <p>
+* @throws OutOfMemoryError if the direct memory left under <code>-XX:MaxDirectMemorySize</code> is not enough.
+*
+*/
+public OffHeapArray(NumberLayout layout, long length)
+{
+this(layout, length, CHUNK_BYTES);
+}
+
+/* package constructor with a given chunk size in bytes, a power of two; it lets small chunks be tested. */
+OffHeapArray(NumberLayout layout, long length, int chunkBytes)
+{
+assert (length >= 0L): "OffHeapArray -> constructor: Bad parameter, length must be >= 0.";
+this.layout = layout;
+this.length = length;
+slots = layout.slots();
+shift = Integer.numberOfTrailingZeros(chunkBytes / layout.byteSize());
+mask = (1L << shift) - 1L;
+int chunks = (int)((length + mask) >>> shift);
+ints = layout.isDouble() ? null : new IntBuffer[chunks];
+doubles = layout.isDouble() ? new DoubleBuffer[chunks] : null;
+for(int c = 0; c < chunks; c++)
+{
+int count = (int)Math.min(mask + 1L, length - ((long)c << shift));
+ByteBuffer b = allocate(count * layout.byteSize(), length * layout.byteSize());
+if(layout.isDouble()) doubles[c] = b.asDoubleBuffer();
+else ints[c] = b.asIntBuffer();
+}
+if(layout == NumberLayout.NATURAL) fill(1, 1);
+if(layout == NumberLayout.RATIONAL) fill(0, 1);
+open = true;
+}
+
+/**
+* Gets the layout of the values.
+* <p>
+* @return the layout of this array.
+*
+*/
+public NumberLayout layout()
+{
+return layout;
+}
+
+/**
+* Gets the number of values.
+* <p>
+* @return the length of this array.
+*
+*/
+public long length()
+{
+return length;
+}
+
+/**
+* Evaluates whether this array is still open.
+* <p>
+* @return true if the array can be used, or false if it was closed.
+*
+*/
+public boolean isOpen()
+{
+return open;
+}
+
+/**
+* Closes this array.
+* <p>
+* The references to the direct buffers are dropped, so their memory can be released; closing an array more than once has no effect.
+*
+*/
+public void close()
+{
+open = false;
+if(ints != null) java.util.Arrays.fill(ints, null);
+if(doubles != null) java.util.Arrays.fill(doubles, null);
+}
+
+/**
+* Gets a natural or integer number.
+* <p>
+* @param i index of the value.
+* <p>
+* @return the value at i.
+*
+*/
+public int getInt(long i)
+{
+assert check(i, NumberLayout.NATURAL, NumberLayout.INTEGER): "OffHeapArray -> getInt method: bad index, layout or closed array.";
+return ints[(int)(i >>> shift)].get((int)(i & mask));
+}
+
+/**
+* Sets a natural or integer number.
+* <p>
+* @param i index of the value.
+* @param value the value, which must be greater than zero for natural numbers.
+*
+*/
+public void setInt(long i, int value)
+{
+assert check(i, NumberLayout.NATURAL, NumberLayout.INTEGER): "OffHeapArray -> setInt method: bad index, layout or closed array.";
+assert (layout != NumberLayout.NATURAL || value > 0): "OffHeapArray -> setInt method: Bad parameter, a natural number must be greater than zero.";
+ints[(int)(i >>> shift)].put((int)(i & mask), value);
+}
+
+/**
+* Gets the numerator of a rational number.
+* <p>
+* @param i index of the value.
+* <p>
+* @return the numerator of the fracction at i.
+*
+*/
+public int getNumerator(long i)
+{
+assert check(i, NumberLayout.RATIONAL, NumberLayout.RATIONAL): "OffHeapArray -> getNumerator method: bad index, layout or closed array.";
+return ints[(int)(i >>> shift)].get(2*(int)(i & mask));
+}
+
+/**
+* Gets the denominator of a rational number.
+* <p>
+* @param i index of the value.
+* <p>
+* @return the denominator of the fracction at i.
+*
+*/
+public int getDenominator(long i)
+{
+assert check(i, NumberLayout.RATIONAL, NumberLayout.RATIONAL): "OffHeapArray -> getDenominator method: bad index, layout or closed array.";
+return ints[(int)(i >>> shift)].get(2*(int)(i & mask)+1);
+}
+
+/**
+* Sets a rational number.
+* <p>
+* @param i index of the value.
+* @param numerator int value for the numerator.
+* @param denominator int value for the denominator.
+*
+*/
+public void setRational(long i, int numerator, int denominator)
+{
+assert check(i, NumberLayout.RATIONAL, NumberLayout.RATIONAL): "OffHeapArray -> setRational method: bad index, layout or closed array.";
+IntBuffer b = ints[(int)(i >>> shift)];
+int k = 2*(int)(i & mask);
+b.put(k, numerator);
+b.put(k+1, denominator);
+}
+
+/**
+* Gets a real number.
+* <p>
+* @param i index of the value.
+* <p>
+* @return the value at i.
+*
+*/
+public double getDouble(long i)
+{
+assert check(i, NumberLayout.REAL, NumberLayout.REAL): "OffHeapArray -> getDouble method: bad index, layout or closed array.";
+return doubles[(int)(i >>> shift)].get((int)(i & mask));
+}
+
+/**
+* Sets a real number.
+* <p>
+* @param i index of the value.
+* @param value the value.
+*
+*/
+public void setDouble(long i, double value)
+{
+assert check(i, NumberLayout.REAL, NumberLayout.REAL): "OffHeapArray -> setDouble method: bad index, layout or closed array.";
+doubles[(int)(i >>> shift)].put((int)(i & mask), value);
+}
+
+/**
+* Gets the real part of a complex number.
+* <p>
+* @param i index of the value.
+* <p>
+* @return the real part of the value at i.
+*
+*/
+public double getReal(long i)
+{
+assert check(i, NumberLayout.COMPLEX, NumberLayout.COMPLEX): "OffHeapArray -> getReal method: bad index, layout or closed array.";
+return doubles[(int)(i >>> shift)].get(2*(int)(i & mask));
+}
+
+/**
+* Gets the imaginary part of a complex number.
+* <p>
+* @param i index of the value.
+* <p>
+* @return the imaginary part of the value at i.
+*
+*/
+public double getImag(long i)
+{
+assert check(i, NumberLayout.COMPLEX, NumberLayout.COMPLEX): "OffHeapArray -> getImag method: bad index, layout or closed array.";
+return doubles[(int)(i >>> shift)].get(2*(int)(i & mask)+1);
+}
+
+/**
+* Sets a complex number.
+* <p>
+* @param i index of the value.
+* @param real real part.
+* @param imag imaginary part.
+*
+*/
+public void setComplex(long i, double real, double imag)
+{
+assert check(i, NumberLayout.COMPLEX, NumberLayout.COMPLEX): "OffHeapArray -> setComplex method: bad index, layout or closed array.";
+DoubleBuffer b = doubles[(int)(i >>> shift)];
+int k = 2*(int)(i & mask);
+b.put(k, real);
+b.put(k+1, imag);
+}
+
+/**
+* Copies a natural number into a <code>NaturalNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param dst A <code>NaturalNumber</code> object to store the value.
+* <p>
+* @return dst, holding the value at i.
+*
+*/
+public NaturalNumber get(long i, NaturalNumber dst)
+{
+assert (layout == NumberLayout.NATURAL): "OffHeapArray -> get method: the layout is not NATURAL.";
+dst.set(getInt(i));
+return dst;
+}
+
+/**
+* Copies an integer number into an <code>IntegerNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param dst An <code>IntegerNumber</code> object to store the value.
+* <p>
+* @return dst, holding the value at i.
+*
+*/
+public IntegerNumber get(long i, IntegerNumber dst)
+{
+dst.set(getInt(i));
+return dst;
+}
+
+/**
+* Copies a rational number into a <code>RationalNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param dst A <code>RationalNumber</code> object to store the value.
+* <p>
+* @return dst, holding the value at i.
+*
+*/
+public RationalNumber get(long i, RationalNumber dst)
+{
+dst.set(getNumerator(i), getDenominator(i));
+return dst;
+}
+
+/**
+* Copies a real number into a <code>RealNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param dst A <code>RealNumber</code> object to store the value.
+* <p>
+* @return dst, holding the value at i.
+*
+*/
+public RealNumber get(long i, RealNumber dst)
+{
+dst.set(getDouble(i));
+return dst;
+}
+
+/**
+* Copies a complex number into a <code>ComplexNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param dst A <code>ComplexNumber</code> object to store the value.
+* <p>
+* @return dst, holding the value at i.
+*
+*/
+public ComplexNumber get(long i, ComplexNumber dst)
+{
+dst.set(getReal(i), getImag(i));
+return dst;
+}
+
+/**
+* Sets a natural number from a <code>NaturalNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param n A <code>NaturalNumber</code> object.
+*
+*/
+public void set(long i, NaturalNumber n)
+{
+assert (layout == NumberLayout.NATURAL): "OffHeapArray -> set method: the layout is not NATURAL.";
+setInt(i, n.get());
+}
+
+/**
+* Sets an integer number from an <code>IntegerNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param z An <code>IntegerNumber</code> object.
+*
+*/
+public void set(long i, IntegerNumber z)
+{
+setInt(i, z.get());
+}
+
+/**
+* Sets a rational number from a <code>RationalNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param q A <code>RationalNumber</code> object.
+*
+*/
+public void set(long i, RationalNumber q)
+{
+setRational(i, q.getNumerator(), q.getDenominator());
+}
+
+/**
+* Sets a real number from a <code>RealNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param r A <code>RealNumber</code> object.
+*
+*/
+public void set(long i, RealNumber r)
+{
+setDouble(i, r.get());
+}
+
+/**
+* Sets a complex number from a <code>ComplexNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param c A <code>ComplexNumber</code> object.
+*
+*/
+public void set(long i, ComplexNumber c)
+{
+setComplex(i, c.getReal(), c.getImag());
+}
+
+/**
+* Copies len values of this array into an int array.
+* <p>
+* Every value takes as many ints as its layout: one for natural and integer numbers, and two for rational numbers.
+* <p>
+* @param index index of the first value of this array.
+* @param dst int array.
+* @param off index of dst where the first int is stored.
+* @param len number of values.
+*
+*/
+public void read(long index, int[] dst, int off, int len)
+{
+assert (!layout.isDouble() && inRange(index, len)): "OffHeapArray -> read method: bad range or layout.";
+transfer(index, dst, null, off, len, true);
+}
+
+/**
+* Copies len values from an int array into this array.
+* <p>
+* @param index index of the first value of this array.
+* @param src int array.
+* @param off index of src where the first int is.
+* @param len number of values.
+*
+*/
+public void write(long index, int[] src, int off, int len)
+{
+assert (!layout.isDouble() && inRange(index, len)): "OffHeapArray -> write method: bad range or layout.";
+transfer(index, src, null, off, len, false);
+}
+
+/**
+* Copies len values of this array into a double array.
+* <p>
+* Every value takes as many doubles as its layout: one for real numbers, and two for complex numbers.
+* <p>
+* @param index index of the first value of this array.
+* @param dst double array.
+* @param off index of dst where the first double is stored.
+* @param len number of values.
+*
+*/
+public void read(long index, double[] dst, int off, int len)
+{
+assert (layout.isDouble() && inRange(index, len)): "OffHeapArray -> read method: bad range or layout.";
+transfer(index, null, dst, off, len, true);
+}
+
+/**
+* Copies len values from a double array into this array.
+* <p>
+* @param index index of the first value of this array.
+* @param src double array.
+* @param off index of src where the first double is.
+* @param len number of values.
+*
+*/
+public void write(long index, double[] src, int off, int len)
+{
+assert (layout.isDouble() && inRange(index, len)): "OffHeapArray -> write method: bad range or layout.";
+transfer(index, null, src, off, len, false);
+}
+
+/**
+* Adds the values of another array to the values of this one, in place.
+* <p>
+* @param a An <code>OffHeapArray</code> object with the same layout and length.
+* <p>
+* @return this object.
+*
+*/
+public OffHeapArray addAssign(OffHeapArray a)
+{
+return add(this, a, this);
+}
+
+/**
+* Substracts the values of another array from the values of this one, in place.
+* <p>
+* @param a An <code>OffHeapArray</code> object with the same layout and length.
+* <p>
+* @return this object.
+*
+*/
+public OffHeapArray subAssign(OffHeapArray a)
+{
+return sub(this, a, this);
+}
+
+/**
+* Multiplies the values of this array by the values of another one, in place.
+* <p>
+* @param a An <code>OffHeapArray</code> object with the same layout and length.
+* <p>
+* @return this object.
+*
+*/
+public OffHeapArray mulAssign(OffHeapArray a)
+{
+return mul(this, a, this);
+}
+
+/**
+* Divides the values of this array by the values of another one, in place.
+* <p>
+* @param a An <code>OffHeapArray</code> object with the same layout and length.
+* <p>
+* @return this object.
+*
+*/
+public OffHeapArray divAssign(OffHeapArray a)
+{
+return div(this, a, this);
+}
+
+/**
+* Applies a function to the values of a real array, in place.
+* <p>
+* @param f the function.
+* <p>
+* @return this object.
+*
+*/
+public OffHeapArray apply(RealFunction f)
+{
+assert (layout == NumberLayout.REAL && open): "OffHeapArray -> apply method: the layout is not REAL or the array is closed.";
+run(this, this, this, f, APPLY);
+return this;
+}
+
+/**
+* Static method to add two off-heap arrays value by value.
+* <p>
+* Natural, integer, rational, real and complex numbers are supported.
+* <p>
+* @param a An <code>OffHeapArray</code> object.
+* @param b An <code>OffHeapArray</code> object with the same layout and length.
+* @param dst An <code>OffHeapArray</code> object to store the result, which can be any of the operands.
+* <p>
+* @return dst, holding a + b.
+*
+*/
+public static OffHeapArray add(OffHeapArray a, OffHeapArray b, OffHeapArray dst)
+{
+assert compatible(a, b, dst): "OffHeapArray -> add method: the arrays must be open and have the same layout and length.";
+run(a, b, dst, null, ADD);
+return dst;
+}
+
+/**
+* Static method to substract two off-heap arrays value by value.
+* <p>
+* Integer, rational, real and complex numbers are supported.
+* <p>
+* @param a An <code>OffHeapArray</code> object.
+* @param b An <code>OffHeapArray</code> object with the same layout and length.
+* @param dst An <code>OffHeapArray</code> object to store the result, which can be any of the operands.
+* <p>
+* @return dst, holding a - b.
+*
+*/
+public static OffHeapArray sub(OffHeapArray a, OffHeapArray b, OffHeapArray dst)
+{
+assert compatible(a, b, dst): "OffHeapArray -> sub method: the arrays must be open and have the same layout and length.";
+assert (a.layout != NumberLayout.NATURAL): "OffHeapArray -> sub method: natural numbers cannot be substracted.";
+run(a, b, dst, null, SUB);
+return dst;
+}
+
+/**
+* Static method to multiply two off-heap arrays value by value.
+* <p>
+* Natural, integer, rational, real and complex numbers are supported.
+* <p>
+* @param a An <code>OffHeapArray</code> object.
+* @param b An <code>OffHeapArray</code> object with the same layout and length.
+* @param dst An <code>OffHeapArray</code> object to store the result, which can be any of the operands.
+* <p>
+* @return dst, holding a * b.
+*
+*/
+public static OffHeapArray mul(OffHeapArray a, OffHeapArray b, OffHeapArray dst)
+{
+assert compatible(a, b, dst): "OffHeapArray -> mul method: the arrays must be open and have the same layout and length.";
+run(a, b, dst, null, MUL);
+return dst;
+}
+
+/**
+* Static method to divide two off-heap arrays value by value.
+* <p>
+* Rational, real and complex numbers are supported. Real divisors must be != 0, as in <code>RealArray</code>.
+* <p>
+* @param a An <code>OffHeapArray</code> object.
+* @param b An <code>OffHeapArray</code> object with the same layout and length.
+* @param dst An <code>OffHeapArray</code> object to store the result, which can be any of the operands.
+* <p>
+* @return dst, holding a / b.
+*
+*/
+public static OffHeapArray div(OffHeapArray a, OffHeapArray b, OffHeapArray dst)
+{
+assert compatible(a, b, dst): "OffHeapArray -> div method: the arrays must be open and have the same layout and length.";
+assert (a.layout != NumberLayout.NATURAL && a.layout != NumberLayout.INTEGER): "OffHeapArray -> div method: natural and integer numbers cannot be divided.";
+run(a, b, dst, null, DIV);
+return dst;
+}
+
+
+/* private method to allocate one chunk; an OutOfMemoryError is thrown again with the size of the array and the option to raise. */
+private static ByteBuffer allocate(int bytes, long total)
+{
+try
+{
+return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+}
+catch(OutOfMemoryError e)
+{
+OutOfMemoryError error = new OutOfMemoryError("OffHeapArray -> constructor: not enough direct memory for " + total + " bytes, raise -XX:MaxDirectMemorySize.");
+error.initCause(e);
+throw error;
+}
+}
+
+/*
+* private method to run an operation block by block.
+* Every block is copied to heap arrays, computed by the packed container of the layout and copied back.
+* Blocks never cross two chunks, since the chunks hold a power of two of values.
+*/
+private static void run(OffHeapArray a, OffHeapArray b, OffHeapArray dst, RealFunction f, int op)
+{
+NumberLayout layout = a.layout;
+int size = (int)Math.min(BLOCK, a.mask + 1L) * a.slots;
+int[] ix = null, iy = null;
+double[] dx = null, dy = null;
+if(layout.isDouble())
+{
+dx = new double[size];
+dy = new double[size];
+}
+else
+{
+ix = new int[size];
+iy = new int[size];
+}
+for(long from = 0L; from < a.length; from += size / a.slots)
+{
+int count = (int)Math.min(size / a.slots, a.length - from);
+if(count * a.slots < size)
+{
+/* last block: exact arrays, so that they can be wrapped as they are */
+if(layout.isDouble())
+{
+dx = new double[count * a.slots];
+dy = new double[count * a.slots];
+}
+else
+{
+ix = new int[count * a.slots];
+iy = new int[count * a.slots];
+}
+}
+if(layout.isDouble())
+{
+a.transfer(from, null, dx, 0, count, true);
+if(op != APPLY) b.transfer(from, null, dy, 0, count, true);
+compute(layout, op, f, dx, dy);
+dst.transfer(from, null, dx, 0, count, false);
+}
+else
+{
+a.transfer(from, ix, null, 0, count, true);
+b.transfer(from, iy, null, 0, count, true);
+compute(layout, op, ix, iy);
+dst.transfer(from, ix, null, 0, count, false);
+}
+}
+}
+
+/* private method to compute x = x op y on a block of real or complex numbers. */
+private static void compute(NumberLayout layout, int op, RealFunction f, double[] x, double[] y)
+{
+if(layout == NumberLayout.REAL)
+{
+RealArray u = RealArray.wrap(x);
+RealArray v = RealArray.wrap(y);
+switch(op)
+{
+case ADD: RealArray.add(u, v, u); break;
+case SUB: RealArray.sub(u, v, u); break;
+case MUL: RealArray.mul(u, v, u); break;
+case DIV: RealArray.div(u, v, u); break;
+default: u.apply(f);
+}
+}
+else
+{
+ComplexArray u = ComplexArray.interleaved(x);
+ComplexArray v = ComplexArray.interleaved(y);
+switch(op)
+{
+case ADD: ComplexArray.add(u, v, u); break;
+case SUB: ComplexArray.sub(u, v, u); break;
+case MUL: ComplexArray.mul(u, v, u); break;
+default: ComplexArray.div(u, v, u);
+}
+}
+}
+
+/* private method to compute x = x op y on a block of natural, integer or rational numbers. */
+private static void compute(NumberLayout layout, int op, int[] x, int[] y)
+{
+if(layout == NumberLayout.RATIONAL)
+{
+RationalArray u = RationalArray.wrap(x);
+RationalArray v = RationalArray.wrap(y);
+switch(op)
+{
+case ADD: RationalArray.add(u, v, u); break;
+case SUB: RationalArray.sub(u, v, u); break;
+case MUL: RationalArray.mul(u, v, u); break;
+default: RationalArray.div(u, v, u);
+}
+}
+else if(layout == NumberLayout.INTEGER)
+{
+IntegerArray u = IntegerArray.wrap(x);
+IntegerArray v = IntegerArray.wrap(y);
+switch(op)
+{
+case ADD: IntegerArray.add(u, v, u); break;
+case SUB: IntegerArray.sub(u, v, u); break;
+default: IntegerArray.mul(u, v, u);
+}
+}
+else
+{
+NaturalArray u = NaturalArray.wrap(x);
+NaturalArray v = NaturalArray.wrap(y);
+if(op == ADD) NaturalArray.add(u, v, u);
+else NaturalArray.mul(u, v, u);
+}
+}
+
+/*
+* private method to copy len values between this array and a heap array, from the value at index on.
+* The copy is split at the chunk boundaries; read tells the direction.
+*/
+private void transfer(long index, int[] is, double[] ds, int off, int len, boolean read)
+{
+while(len > 0)
+{
+int c = (int)(index >>> shift);
+int k = (int)(index & mask);
+int count = (int)Math.min(len, mask + 1L - k);
+if(ds != null)
+{
+if(read) doubles[c].get(k * slots, ds, off, count * slots);
+else doubles[c].put(k * slots, ds, off, count * slots);
+}
+else
+{
+if(read) ints[c].get(k * slots, is, off, count * slots);
+else ints[c].put(k * slots, is, off, count * slots);
+}
+index += count;
+off += count * slots;
+len -= count;
+}
+}
+
+/* private method to set every value of an int layout to the given first and second ints. */
+private void fill(int first, int second)
+{
+for(IntBuffer b : ints)
+{
+for(int k = 0; k < b.capacity(); k += slots)
+{
+b.put(k, first);
+if(slots == 2) b.put(k+1, second);
+}
+}
+}
+
+/* private method to check an index, the layout and that the array is open, for the assertions. */
+private boolean check(long i, NumberLayout l1, NumberLayout l2)
+{
+return open && i >= 0L && i < length && (layout == l1 || layout == l2);
+}
+
+/* private method to check a range of values, for the assertions. */
+private boolean inRange(long index, int len)
+{
+return open && index >= 0L && len >= 0 && index <= length - len;
+}
+
+/* private method to check the operands of a binary operation, for the assertions. */
+private static boolean compatible(OffHeapArray a, OffHeapArray b, OffHeapArray c)
+{
+return a.open && b.open && c.open && a.layout == b.layout && a.layout == c.layout
+&& a.length == b.length && a.length == c.length && a.shift == b.shift && a.shift == c.shift;
+}
+
+
+/* chunk size: 1 GB */
+private static final int CHUNK_BYTES = 1 << 30;
+/* values of a block copied to the heap by the operations */
+private static final int BLOCK = 1024;
+private static final int ADD = 0;
+private static final int SUB = 1;
+private static final int MUL = 2;
+private static final int DIV = 3;
+private static final int APPLY = 4;
+
+private final NumberLayout layout;
+private final long length;
+private final int slots;
+private final int shift;
+private final long mask;
+private final IntBuffer[] ints;
+private final DoubleBuffer[] doubles;
+private volatile boolean open;
+}
+
+// END
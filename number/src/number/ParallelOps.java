@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* ParallelOps.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+* The <code>ParallelOps</code> class applies functions to large arrays using all the cores of the machine.
+* <p>
+* A range of an array is split into chunks of a fixed number of elements, small enough to stay in the cache of one core,
+* <p>
+* and the chunks are processed by the threads of a <code>ForkJoinPool</code> or of any other <code>Executor</code>.
+* <p>
+* The chunks only depend on the range and the chunk size, not on the number of threads, and every element is written by just one chunk,
+* <p>
+* so the results are always the same, no matter how many threads take part nor in which order the chunks run.
+* <p>
+* The function can be one of the <code>RealFunction</code> enum, a lambda on doubles,
+* <p>
+* or a lambda that updates in place the objects of an array of numbers, for instance with the <code>xxxAssign</code> methods.
+* <p>
+* example:
+* <p>
+* <code>ParallelOps p = new ParallelOps();</code>
+* <p>
+* <code>p.apply(RealFunction.EXP, x);</code>
+* <p>
+* <code>p.apply(v -&gt; 3.0 * v + 1.0, x);</code>
+* <p>
+* <code>p.forEach(z, c -&gt; c.mulAssign(w));</code>
+* <p>
+* This class uses assertions, so you must be use the '-ea' modifier when executing, in order to enable assertions.
+* <p>
+* example:
+* <p>
+* <code>java -ea MyApp</code>
+*
+*/
+public final class ParallelOps
+{
+
+/**
+* Default chunk size, in elements: 8192 doubles are 64 KB.
+*
+*/
+public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+/**
+* Default constructor.
+* <p>
+* Uses the common <code>ForkJoinPool</code> and the default chunk size.
+*
+*/
+public ParallelOps()
+{
+this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+}
+
+/**
+* Constructor.
+* <p>
+* Uses the common <code>ForkJoinPool</code>.
+* <p>
+* @param chunkSize number of elements of every chunk, &gt; 0.
+*
+*/
+public ParallelOps(int chunkSize)
+{
+this(ForkJoinPool.commonPool(), chunkSize);
+}
+
+/**
+* Constructor.
+* <p>
+* When the executor is a <code>ForkJoinPool</code>, the chunks are split recursively as fork/join tasks;
+* <p>
+* otherwise, a few workers submitted to the executor take the chunks one after another, and the calling thread works as one of them.
+* <p>
+* @param executor the executor that runs the chunks.
+* @param chunkSize number of elements of every chunk, &gt; 0.
+*
+*/
+public ParallelOps(Executor executor, int chunkSize)
+{
+assert executor != null: "ParallelOps -> constructor: the executor cannot be null.";
+assert chunkSize > 0: "ParallelOps -> constructor: Bad parameter value. The chunk size must be > 0.";
+this.executor = executor;
+this.chunkSize = chunkSize;
+}
+
+/**
+* Gets the chunk size.
+* <p>
+* @return the number of elements of every chunk.
+*
+*/
+public int getChunkSize()
+{
+return chunkSize;
+}
+
+/**
+* Applies a function to all the values of an array, in place.
+* <p>
+* @param f the function.
+* @param a the array.
+*
+*/
+public void apply(RealFunction f, double[] a)
+{
+apply(f, a, a, 0, a.length);
+}
+
+/**
+* Applies a function to len values of an array.
+* <p>
+* The destination array can be the same as the source one.
+* <p>
+* @param f the function.
+* @param src array with the arguments.
+* @param dst array to store the results.
+* @param off index of the first value.
+* @param len number of values.
+*
+*/
+public void apply(RealFunction f, double[] src, double[] dst, int off, int len)
+{
+assert inRange(src.length, off, len) && inRange(dst.length, off, len): "ParallelOps -> apply method: the range [off, off+len) is out of the bounds of the arrays.";
+run(off, len, (chunk, from, to) -> f.apply(src, dst, from, to - from));
+}
+
+/**
+* Applies a function to all the values of an array, in place.
+* <p>
+* @param f the function.
+* @param a the array.
+*
+*/
+public void apply(DoubleUnaryOperator f, double[] a)
+{
+apply(f, a, a, 0, a.length);
+}
+
+/**
+* Applies a function to len values of an array.
+* <p>
+* The destination array can be the same as the source one.
+* <p>
+* @param f the function; it is called from several threads at once.
+* @param src array with the arguments.
+* @param dst array to store the results.
+* @param off index of the first value.
+* @param len number of values.
+*
+*/
+public void apply(DoubleUnaryOperator f, double[] src, double[] dst, int off, int len)
+{
+assert inRange(src.length, off, len) && inRange(dst.length, off, len): "ParallelOps -> apply method: the range [off, off+len) is out of the bounds of the arrays.";
+run(off, len, (chunk, from, to) ->
+{
+for(int i = from; i < to; i++) dst[i] = f.applyAsDouble(src[i]);
+});
+}
+
+/**
+* Performs an action on every element of an array.
+* <p>
+* @param a the array.
+* @param action the action, which usually updates the element in place; it is called from several threads at once.
+*
+*/
+public <T> void forEach(T[] a, Consumer<? super T> action)
+{
+forEach(a, 0, a.length, action);
+}
+
+/**
+* Performs an action on len elements of an array.
+* <p>
+* @param a the array.
+* @param off index of the first element.
+* @param len number of elements.
+* @param action the action, which usually updates the element in place; it is called from several threads at once.
+*
+*/
+public <T> void forEach(T[] a, int off, int len, Consumer<? super T> action)
+{
+assert inRange(a.length, off, len): "ParallelOps -> forEach method: the range [off, off+len) is out of the bounds of the array.";
+run(off, len, (chunk, from, to) ->
+{
+for(int i = from; i < to; i++) action.accept(a[i]);
+});
+}
+
+/**
+* Sums len values of an array.
+* <p>
+* Every chunk is summed on its own, and then the partial sums are added in the order of the chunks,
+* <p>
+* so the result only depends on the chunk size, and not on the number of threads.
+* <p>
+* @param a the array.
+* @param off index of the first value.
+* @param len number of values.
+* <p>
+* @return the sum.
+*
+*/
+public double sum(double[] a, int off, int len)
+{
+assert inRange(a.length, off, len): "ParallelOps -> sum method: the range [off, off+len) is out of the bounds of the array.";
+double[] partial = new double[chunks(len)];
+run(off, len, (chunk, from, to) ->
+{
+double s = 0.0;
+for(int i = from; i < to; i++) s += a[i];
+partial[chunk] = s;
+});
+double s = 0.0;
+for(int i = 0; i < partial.length; i++) s += partial[i];
+return s;
+}
+
+
+/*
+* Work done on one chunk: the elements [from, to) of the chunk with the given index.
+*/
+interface Range
+{
+void run(int chunk, int from, int to);
+}
+
+/* private method to run every chunk of [off, off+len) and wait for all of them. */
+private void run(int off, int len, Range range)
+{
+int chunks = chunks(len);
+if(chunks == 0) return;
+if(chunks == 1)
+{
+range.run(0, off, off + len);
+return;
+}
+if(executor instanceof ForkJoinPool) ((ForkJoinPool)executor).invoke(new ChunkTask(range, off, off + len, chunkSize, 0, chunks));
+else runOnExecutor(off, len, chunks, range);
+}
+
+/*
+* private method to run the chunks on a plain executor.
+* Workers take the next chunk from a shared counter until there are no more; the calling thread is one of them,
+* so the work gets done even if the executor is busy or rejects the tasks. The first failure is thrown again to the caller.
+*/
+private void runOnExecutor(int off, int len, int chunks, Range range)
+{
+int end = off + len;
+AtomicInteger next = new AtomicInteger();
+CountDownLatch done = new CountDownLatch(chunks);
+AtomicReference<Throwable> failure = new AtomicReference<>();
+Runnable worker = () ->
+{
+int c;
+while((c = next.getAndIncrement()) < chunks)
+{
+try
+{
+if(failure.get() == null)
+{
+/* in long, since from + chunkSize may pass Integer.MAX_VALUE */
+long from = (long)off + (long)c * chunkSize;
+range.run(c, (int)from, (int)Math.min(from + chunkSize, end));
+}
+}
+catch(Throwable t)
+{
+failure.compareAndSet(null, t);
+}
+finally
+{
+done.countDown();
+}
+}
+};
+int helpers = Math.min(chunks, Runtime.getRuntime().availableProcessors()) - 1;
+try
+{
+for(int i = 0; i < helpers; i++) executor.execute(worker);
+}
+catch(RejectedExecutionException e)
+{
+/* the calling thread does the remaining work */
+}
+worker.run();
+boolean interrupted = false;
+while(true)
+{
+try
+{
+done.await();
+break;
+}
+catch(InterruptedException e)
+{
+interrupted = true;
+}
+}
+if(interrupted) Thread.currentThread().interrupt();
+Throwable t = failure.get();
+if(t instanceof RuntimeException) throw (RuntimeException)t;
+if(t instanceof Error) throw (Error)t;
+if(t != null) throw new RuntimeException(t);
+}
+
+/* private method to get the number of chunks of a range with len elements. */
+private int chunks(int len)
+{
+return (int)(((long)len + chunkSize - 1) / chunkSize);
+}
+
+/* private method to check a range against the length of an array, for the assertions. */
+private static boolean inRange(int length, int off, int len)
+{
+return off >= 0 && len >= 0 && off <= length - len;
+}
+
+
+/*
+* Fork/join task over the chunks [first, last).
+* It splits the chunks in two halves until only one is left, so the chunk boundaries never depend on the splitting.
+*/
+private static final class ChunkTask extends RecursiveAction
+{
+ChunkTask(Range range, int off, int end, int chunkSize, int first, int last)
+{
+this.range = range;
+this.off = off;
+this.end = end;
+this.chunkSize = chunkSize;
+this.first = first;
+this.last = last;
+}
+
+@Override
+protected void compute()
+{
+if(last - first == 1)
+{
+/* in long, since from + chunkSize may pass Integer.MAX_VALUE */
+long from = (long)off + (long)first * chunkSize;
+range.run(first, (int)from, (int)Math.min(from + chunkSize, end));
+}
+else
+{
+int mid = (first + last) >>> 1;
+invokeAll(new ChunkTask(range, off, end, chunkSize, first, mid), new ChunkTask(range, off, end, chunkSize, mid, last));
+}
+}
+
+
+private static final long serialVersionUID = 1L;
+private final Range range;
+private final int off;
+private final int end;
+private final int chunkSize;
+private final int first;
+private final int last;
+}
+
+
+private final Executor executor;
+private final int chunkSize;
+}
+
+// END
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* PowerTable.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+/**
+* The <code>PowerTable</code> class raises a fixed real base to many integer exponents.
+* <p>
+* When the same base must be raised to a lot of different exponents, the powers base^(d*16^j)
+* <p>
+* for every hexadecimal digit d and position j are computed just once, when the table is built,
+* <p>
+* and kept with their rounding errors and apart from their powers of two, so that the powers are accurate to one ulp,
+* <p>
+* even when they overflow or underflow on the way to a result in range.
+* <p>
+* After that, base^n only needs one table entry for each non-zero hexadecimal digit of n,
+* <p>
+* so it costs at most 8 multiplications for any int exponent, instead of the squarings of a binary power.
+* <p>
+* example:
+* <p>
+* <code>PowerTable t = new PowerTable(1.5);</code>
+* <p>
+* <code>double x = t.pow(20);</code>
+*
+*/
+public final class PowerTable
+{
+
+/**
+* Constructor.
+* <p>
+* Makes a new power table for the given base.
+* <p>
+* @param base the base of the powers.
+*
+*/
+public PowerTable(double base)
+{
+this.base = base;
+high = new double[DIGITS][RADIX];
+low = new double[DIGITS][RADIX];
+exponent = new long[DIGITS][RADIX];
+/* base = m 2^k with 1 <= m < 2; zero, infinite and NaN bases are left to HelperFunctions.pow */
+double m = Math.abs(base);
+int k = Math.getExponent(m);
+if(k == Double.MIN_EXPONENT - 1 && m != 0.0)
+{
+/* subnormal base */
+m *= 0x1p54;
+k = Math.getExponent(m) - 54;
+}
+special = (m == 0.0 || k > Double.MAX_EXPONENT);
+baseExponent = k;
+if(special) return;
+m *= HelperFunctions.twoPow(-Math.getExponent(m));
+/* b = m^(16^j) = (bh + bl) 2^be, kept as high and low parts like every entry of the table */
+double bh = m;
+double bl = 0.0;
+long be = 0L;
+for(int j = 0; j < DIGITS; j++)
+{
+high[j][0] = 1.0;
+for(int d = 1; d < RADIX; d++)
+{
+double h = high[j][d-1];
+double p = h * bh;
+double q = Math.fma(h, bh, -p) + (h * bl + low[j][d-1] * bh);
+h = p + q;
+int s = Math.getExponent(h);
+high[j][d] = h * HelperFunctions.twoPow(-s);
+low[j][d] = (q - (h - p)) * HelperFunctions.twoPow(-s);
+exponent[j][d] = exponent[j][d-1] + be + s;
+}
+double h = high[j][RADIX-1];
+double p = h * bh;
+double q = Math.fma(h, bh, -p) + (h * bl + low[j][RADIX-1] * bh);
+h = p + q;
+int s = Math.getExponent(h);
+bh = h * HelperFunctions.twoPow(-s);
+bl = (q - (h - p)) * HelperFunctions.twoPow(-s);
+be = exponent[j][RADIX-1] + be + s;
+}
+}
+
+/**
+* Constructor.
+* <p>
+* Makes a new power table for the value of a <code>RealNumber</code> object.
+* <p>
+* @param base A <code>RealNumber</code> object.
+*
+*/
+public PowerTable(RealNumber base)
+{
+this(base.get());
+}
+
+/**
+* Gets the base of this power table.
+* <p>
+* @return the base.
+*
+*/
+public double getBase()
+{
+return base;
+}
+
+/**
+* Computes base^exp.
+* <p>
+* A negative exponent computes 1/base^-exp.
+* <p>
+* @param exp the exponent.
+* <p>
+* @return base^exp.
+*
+*/
+public double pow(int exp)
+{
+if(special || exp == 0) return HelperFunctions.pow(base, exp);
+long n = Math.abs((long)exp);
+boolean negative = base < 0.0 && (exp & 1) != 0;
+/* the power is (h + l) 2^e; h and every entry are in [1, 2), so eight products stay below 2^8 */
+double h = 1.0;
+double l = 0.0;
+long e = (long)baseExponent * n;
+for(int j = 0; n != 0L; j++)
+{
+int d = (int)(n & (RADIX-1));
+if(d != 0)
+{
+double th = high[j][d];
+double p = h * th;
+double q = Math.fma(h, th, -p) + (h * low[j][d] + l * th);
+h = p + q;
+l = q - (h - p);
+e += exponent[j][d];
+}
+n >>>= BITS;
+}
+return HelperFunctions.powResult(h, l, e, exp < 0, negative);
+}
+
+/**
+* Computes base^exp.
+* <p>
+* @param exp A <code>IntegerNumber</code> object.
+* <p>
+* @return A <code>RealNumber</code> object containing base^exp.
+*
+*/
+public RealNumber pow(IntegerNumber exp)
+{
+return new RealNumber(pow(exp.get()));
+}
+
+/**
+* Computes base^exp.
+* <p>
+* @param exp A <code>NaturalNumber</code> object.
+* <p>
+* @return A <code>RealNumber</code> object containing base^exp.
+*
+*/
+public RealNumber pow(NaturalNumber exp)
+{
+return new RealNumber(pow(exp.get()));
+}
+
+private static final int BITS = 4;
+private static final int RADIX = 1 << BITS;
+/* enough hexadecimal digits for the magnitude of any int */
+private static final int DIGITS = 32 / BITS;
+
+private final double base;
+/* m^(d*16^j) at [j][d], where base = m 2^baseExponent, as (high + low) 2^exponent with 1 <= high < 2 */
+private final double[][] high;
+private final double[][] low;
+private final long[][] exponent;
+private final int baseExponent;
+/* zero, infinite or NaN base */
+private final boolean special;
+}
+
+// END
@@ -0,0 +1,481 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* RationalArray.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+/**
+* The <code>RationalArray</code> class stores a sequence of rational numbers packed in an int array.
+* <p>
+* The numerator and the denominator of every fracction are stored one after the other: data[2*i] and data[2*i+1],
+* <p>
+* so every rational number takes 8 bytes and both parts are read together, instead of an object header and a reference
+* <p>
+* for every <code>RationalNumber</code> object of an array.
+* <p>
+* The fracctions are read and written as pairs of ints, or copied from and into <code>RationalNumber</code> objects which can be reused,
+* <p>
+* and the operations work on whole arrays at once, giving the same results as the methods of the <code>RationalNumber</code> class.
+* <p>
+* The int array can be wrapped and got back with no copy.
+* <p>
+* example:
+* <p>
+* <code>RationalArray q = RationalArray.wrap(new int[] { 1, 2, 3, 4 });</code> holds 1/2 and 3/4.
+* <p>
+* <code>q.addAssign(q).normalizeAssign();</code>
+* <p>
+* This class uses assertions, so you must be use the '-ea' modifier when executing, in order to enable assertions.
+* <p>
+* example:
+* <p>
+* <code>java -ea MyApp</code>
+*
+*/
+public final class RationalArray
+{
+
+/**
+* Constructor.
+* <p>
+* Makes a new array with all its values set to 0/1.
+* <p>
+* @param length number of fracctions.
+*
+*/
+public RationalArray(int length)
+{
+assert (length >= 0): "RationalArray -> constructor: Bad parameter, length must be >= 0.";
+data = new int[2*length];
+for(int k = 1; k < data.length; k += 2) data[k] = 1;
+}
+
+/**
+* Constructor.
+* <p>
+* Makes a new array holding a copy of the given rational numbers.
+* <p>
+* @param numbers array of <code>RationalNumber</code> objects.
+*
+*/
+public RationalArray(RationalNumber[] numbers)
+{
+data = new int[2*numbers.length];
+for(int i = 0; i < numbers.length; i++)
+{
+data[2*i] = numbers[i].getNumerator();
+data[2*i+1] = numbers[i].getDenominator();
+}
+}
+
+/* private constructor for wrap */
+private RationalArray(int[] data)
+{
+this.data = data;
+}
+
+/**
+* Makes a rational array backed by the given int array, with no copy.
+* <p>
+* Changes in the int array are seen by the rational array, and vice versa.
+* <p>
+* @param data int array with numerators at the even indexes and denominators at the odd ones.
+* <p>
+* @return A <code>RationalArray</code> object.
+*
+*/
+public static RationalArray wrap(int[] data)
+{
+assert (data.length % 2 == 0): "RationalArray -> wrap method: Bad parameter, the length of the array must be even.";
+return new RationalArray(data);
+}
+
+/**
+* Gets the int array backing this rational array, with no copy.
+* <p>
+* @return the int array, with numerators at the even indexes and denominators at the odd ones.
+*
+*/
+public int[] array()
+{
+return data;
+}
+
+/**
+* Gets the number of fracctions.
+* <p>
+* @return the length of this array.
+*
+*/
+public int length()
+{
+return data.length / 2;
+}
+
+/**
+* Gets a numerator.
+* <p>
+* @param i index of the fracction.
+* <p>
+* @return the numerator of the fracction at i.
+*
+*/
+public int getNumerator(int i)
+{
+return data[2*i];
+}
+
+/**
+* Gets a denominator.
+* <p>
+* @param i index of the fracction.
+* <p>
+* @return the denominator of the fracction at i.
+*
+*/
+public int getDenominator(int i)
+{
+return data[2*i+1];
+}
+
+/**
+* Copies a fracction into a <code>RationalNumber</code> object, so that the same object can be used to visit the whole array.
+* <p>
+* @param i index of the fracction.
+* @param dst A <code>RationalNumber</code> object to store the fracction.
+* <p>
+* @return dst, holding the fracction at i.
+*
+*/
+public RationalNumber get(int i, RationalNumber dst)
+{
+dst.set(data[2*i], data[2*i+1]);
+return dst;
+}
+
+/**
+* Sets a fracction.
+* <p>
+* @param i index of the fracction.
+* @param numerator int value for the numerator.
+* @param denominator int value for the denominator.
+*
+*/
+public void set(int i, int numerator, int denominator)
+{
+data[2*i] = numerator;
+data[2*i+1] = denominator;
+}
+
+/**
+* Sets a fracction from a <code>RationalNumber</code> object.
+* <p>
+* @param i index of the fracction.
+* @param q A <code>RationalNumber</code> object.
+*
+*/
+public void set(int i, RationalNumber q)
+{
+data[2*i] = q.getNumerator();
+data[2*i+1] = q.getDenominator();
+}
+
+/**
+* Adds the fracctions of another array to the ones of this array, in place.
+* <p>
+* @param q A <code>RationalArray</code> object with the same length.
+* <p>
+* @return this object.
+*
+*/
+public RationalArray addAssign(RationalArray q)
+{
+return add(this, q, this);
+}
+
+/**
+* Substracts the fracctions of another array from the ones of this array, in place.
+* <p>
+* @param q A <code>RationalArray</code> object with the same length.
+* <p>
+* @return this object.
+*
+*/
+public RationalArray subAssign(RationalArray q)
+{
+return sub(this, q, this);
+}
+
+/**
+* Multiplies the fracctions of this array by the ones of another array, in place.
+* <p>
+* @param q A <code>RationalArray</code> object with the same length.
+* <p>
+* @return this object.
+*
+*/
+public RationalArray mulAssign(RationalArray q)
+{
+return mul(this, q, this);
+}
+
+/**
+* Divides the fracctions of this array by the ones of another array, in place.
+* <p>
+* @param q A <code>RationalArray</code> object with the same length.
+* <p>
+* @return this object.
+*
+*/
+public RationalArray divAssign(RationalArray q)
+{
+return div(this, q, this);
+}
+
+/**
+* Reduces the fracctions of this array, in place.
+* <p>
+* @return this object.
+*
+*/
+public RationalArray reduceAssign()
+{
+return reduce(this, this);
+}
+
+/**
+* Reduces the fracctions of this array and makes their denominators positive, in place.
+* <p>
+* @return this object.
+*
+*/
+public RationalArray normalizeAssign()
+{
+return normalize(this, this);
+}
+
+/**
+* Static method to add two rational arrays fracction by fracction.
+* <p>
+* Every result is the same as the one of <code>RationalNumber.add</code>, which does not reduce it.
+* <p>
+* The destination can be any of the operands.
+* <p>
+* @param q1 A <code>RationalArray</code> object.
+* @param q2 A <code>RationalArray</code> object.
+* @param dst A <code>RationalArray</code> object to store the result.
+* <p>
+* @return dst, holding q1 + q2.
+*
+*/
+public static RationalArray add(RationalArray q1, RationalArray q2, RationalArray dst)
+{
+assert sameLength(q1, q2, dst): "RationalArray -> add method: the arrays must have the same length.";
+assert (q1.isValid() && q2.isValid()): "RationalArray -> add method: denominators must be != 0";
+int[] x = q1.data;
+int[] y = q2.data;
+int[] z = dst.data;
+for(int k = 0; k < z.length; k += 2)
+{
+int d = x[k+1]*y[k+1];
+int n = (d/x[k+1]*x[k])+(d/y[k+1]*y[k]);
+z[k] = n;
+z[k+1] = d;
+}
+return dst;
+}
+
+/**
+* Static method to substract two rational arrays fracction by fracction.
+* <p>
+* The destination can be any of the operands.
+* <p>
+* @param q1 A <code>RationalArray</code> object.
+* @param q2 A <code>RationalArray</code> object.
+* @param dst A <code>RationalArray</code> object to store the result.
+* <p>
+* @return dst, holding q1 - q2.
+*
+*/
+public static RationalArray sub(RationalArray q1, RationalArray q2, RationalArray dst)
+{
+assert sameLength(q1, q2, dst): "RationalArray -> sub method: the arrays must have the same length.";
+assert (q1.isValid() && q2.isValid()): "RationalArray -> sub method: denominators must be != 0";
+int[] x = q1.data;
+int[] y = q2.data;
+int[] z = dst.data;
+for(int k = 0; k < z.length; k += 2)
+{
+int d = x[k+1]*y[k+1];
+int n = (d/x[k+1]*x[k])-(d/y[k+1]*y[k]);
+z[k] = n;
+z[k+1] = d;
+}
+return dst;
+}
+
+/**
+* Static method to multiply two rational arrays fracction by fracction.
+* <p>
+* The destination can be any of the operands.
+* <p>
+* @param q1 A <code>RationalArray</code> object.
+* @param q2 A <code>RationalArray</code> object.
+* @param dst A <code>RationalArray</code> object to store the result.
+* <p>
+* @return dst, holding q1 * q2.
+*
+*/
+public static RationalArray mul(RationalArray q1, RationalArray q2, RationalArray dst)
+{
+assert sameLength(q1, q2, dst): "RationalArray -> mul method: the arrays must have the same length.";
+assert (q1.isValid() && q2.isValid()): "RationalArray -> mul method: denominators must be != 0";
+int[] x = q1.data;
+int[] y = q2.data;
+int[] z = dst.data;
+for(int k = 0; k < z.length; k++) z[k] = x[k]*y[k];
+return dst;
+}
+
+/**
+* Static method to divide two rational arrays fracction by fracction.
+* <p>
+* The destination can be any of the operands.
+* <p>
+* @param q1 A <code>RationalArray</code> object.
+* @param q2 A <code>RationalArray</code> object.
+* @param dst A <code>RationalArray</code> object to store the result.
+* <p>
+* @return dst, holding q1 / q2.
+*
+*/
+public static RationalArray div(RationalArray q1, RationalArray q2, RationalArray dst)
+{
+assert sameLength(q1, q2, dst): "RationalArray -> div method: the arrays must have the same length.";
+assert (q1.isValid() && q2.isValid()): "RationalArray -> div method: denominators must be != 0";
+int[] x = q1.data;
+int[] y = q2.data;
+int[] z = dst.data;
+for(int k = 0; k < z.length; k += 2)
+{
+int n = x[k]*y[k+1];
+int d = x[k+1]*y[k];
+z[k] = n;
+z[k+1] = d;
+}
+return dst;
+}
+
+/**
+* Static method to reduce the fracctions of a rational array.
+* <p>
+* @param q A <code>RationalArray</code> object.
+* @param dst A <code>RationalArray</code> object to store the result, which can be q.
+* <p>
+* @return dst, holding the reduced fracctions.
+*
+*/
+public static RationalArray reduce(RationalArray q, RationalArray dst)
+{
+assert sameLength(q, q, dst): "RationalArray -> reduce method: the arrays must have the same length.";
+int[] x = q.data;
+int[] z = dst.data;
+for(int k = 0; k < z.length; k += 2)
+{
+int d = HelperFunctions.gcd(x[k], x[k+1]);
+z[k] = x[k]/d;
+z[k+1] = x[k+1]/d;
+}
+return dst;
+}
+
+/**
+* Static method to reduce the fracctions of a rational array and make their denominators positive.
+* <p>
+* So every rational number gets a unique representation, and zero is always 0/1.
+* <p>
+* @param q A <code>RationalArray</code> object.
+* @param dst A <code>RationalArray</code> object to store the result, which can be q.
+* <p>
+* @return dst, holding the normalized fracctions.
+*
+*/
+public static RationalArray normalize(RationalArray q, RationalArray dst)
+{
+assert sameLength(q, q, dst): "RationalArray -> normalize method: the arrays must have the same length.";
+assert q.isValid(): "RationalArray -> normalize method: denominators must be != 0";
+int[] x = q.data;
+int[] z = dst.data;
+for(int k = 0; k < z.length; k += 2)
+{
+int d = HelperFunctions.gcd(x[k], x[k+1]);
+if(x[k+1] < 0) d = -d;
+z[k] = x[k]/d;
+z[k+1] = x[k+1]/d;
+}
+return dst;
+}
+
+/**
+* Gets a string representation of this array.
+* <p>
+* @return String representation of this array.
+*
+*/
+public String toString()
+{
+StringBuilder s = new StringBuilder("[");
+for(int k = 0; k < data.length; k += 2)
+{
+if(k > 0) s.append(", ");
+s.append(data[k]).append('/').append(data[k+1]);
+}
+return s.append(']').toString();
+}
+
+
+/* private method to check that the arrays have the same length, for the assertions. */
+private static boolean sameLength(RationalArray a, RationalArray b, RationalArray c)
+{
+return a.data.length == b.data.length && a.data.length == c.data.length;
+}
+
+/* private method to check that no denominator is zero, for the assertions. */
+private boolean isValid()
+{
+for(int k = 1; k < data.length; k += 2)
+{
+if(data[k] == 0) return false;
+}
+return true;
+}
+
+
+private final int[] data;
+}
+
+// END
@@ -397,6 +397,98 @@ public RationalNumber pow(IntegerNumber exp)
 return pow(this, exp);
 }
 
+/**
+* Adds the rational passed as parameter to this one, in place.
+* <p>
+* No new object is made; the result is stored in this object.
+* <p>
+* @param q Rational number to add.
+* <p>
+* @return this object, holding this plus q.
+*
+*/
+public RationalNumber addAssign(RationalNumber q)
+{
+return add(this, q, this);
+}
+
+/**
+* Substracts the rational passed as parameter from this one, in place.
+* <p>
+* @param q Rational number to substract.
+* <p>
+* @return this object, holding this minus q.
+*
+*/
+public RationalNumber subAssign(RationalNumber q)
+{
+return sub(this, q, this);
+}
+
+/**
+* Multiplies this rational by the one passed as parameter, in place.
+* <p>
+* @param q Rational number to multiply.
+* <p>
+* @return this object, holding this times q.
+*
+*/
+public RationalNumber mulAssign(RationalNumber q)
+{
+return mul(this, q, this);
+}
+
+/**
+* Divides this rational by the one passed as parameter, in place.
+* <p>
+* @param q Rational number to divide.
+* <p>
+* @return this object, holding this divided by q.
+*
+*/
+public RationalNumber divAssign(RationalNumber q)
+{
+return div(this, q, this);
+}
+
+/**
+* Adds the product of two rationals to this one, in place.
+* <p>
+* It is the step of an accumulation loop, sum += a * b, with no new objects.
+* <p>
+* @param a A <code>RationalNumber</code> object.
+* @param b A <code>RationalNumber</code> object.
+* <p>
+* @return this object, holding this plus a times b.
+*
+*/
+public RationalNumber fmaAssign(RationalNumber a, RationalNumber b)
+{
+return fma(a, b, this, this);
+}
+
+/**
+* Reduces this rational number in place.
+* <p>
+* @return this object, holding the reduced fracction.
+*
+*/
+public RationalNumber reduceAssign()
+{
+return reduce(this, this);
+}
+
+/**
+* Replaces numerator and denominator of this rational number by their absolute values.
+* <p>
+* @return this object, holding the absolute fracction value.
+*
+*/
+public RationalNumber absAssign()
+{
+return abs(this, this);
+}
+
 /**
 * Makes a clone of this object.
 * <p>
@@ -451,12 +543,7 @@ return s;
 */
 public static RationalNumber add(RationalNumber q1,RationalNumber q2)
 {
-	assert (q1.isValid() && q2.isValid()): "RationalNumber -> method add: denominator must be != 0";
-int _numerator;
-int _denominator;
-_denominator = q1.getDenominator()*q2.getDenominator();
-_numerator=(_denominator/q1.getDenominator()*q1.getNumerator())+(_denominator/q2.getDenominator()*q2.getNumerator());
-return new RationalNumber(_numerator,_denominator);
+return add(q1, q2, new RationalNumber());
 }
 
 /**
@@ -470,12 +557,7 @@ return new RationalNumber(_numerator,_denominator);
 */
 public static RationalNumber sub(RationalNumber q1,RationalNumber q2)
 {
-	assert (q1.isValid() && q2.isValid()): "RationalNumber -> method sub: denominator must be != 0";
-int _numerator;
-int _denominator;
-_denominator = q1.getDenominator()*q2.getDenominator();
-_numerator=(_denominator/q1.getDenominator()*q1.getNumerator())-(_denominator/q2.getDenominator()*q2.getNumerator());
-return new RationalNumber(_numerator,_denominator);
+return sub(q1, q2, new RationalNumber());
 }
 
 /**
@@ -489,8 +571,7 @@ return new RationalNumber(_numerator,_denominator);
 */
 public static RationalNumber mul(RationalNumber q1,RationalNumber q2)
 {
-assert (q1.isValid() && q2.isValid()): "RationalNumber -> method mul: denominator must be != 0";
-return new RationalNumber(q1.getNumerator()*q2.getNumerator(),q1.getDenominator()*q2.getDenominator());
+return mul(q1, q2, new RationalNumber());
 }
 
 /**
@@ -504,8 +585,7 @@ return new RationalNumber(q1.getNumerator()*q2.getNumerator(),q1.getDenominator(
 */
 public static RationalNumber div(RationalNumber q1,RationalNumber q2)
 {
-	assert (q1.isValid() && q2.isValid()): "RationalNumber -> method div: denominator must be != 0";
-return new RationalNumber(q1.getNumerator()*q2.getDenominator(), q1.getDenominator()*q2.getNumerator());
+return div(q1, q2, new RationalNumber());
 }
 
 /**
@@ -518,7 +598,7 @@ return new RationalNumber(q1.getNumerator()*q2.getDenominator(), q1.getDenominat
 */
 public static RationalNumber reduce(RationalNumber q)
 {
-int d = gcd(q.getNumerator(), q.getDenominator());
+int d = HelperFunctions.gcd(q.getNumerator(), q.getDenominator());
 return new RationalNumber(q.getNumerator()/d, q.getDenominator()/d);
 }
 
@@ -564,39 +644,136 @@ public static boolean isProper(RationalNumber q)
 	return (HelperFunctions.abs(q.getNumerator()) <= HelperFunctions.abs(q.getDenominator()));
 }
 
+/**
+* Static method to add two rational numbers, storing the result in a given object.
+* <p>
+* The destination can be any of the operands, and no new object is made.
+* <p>
+* @param q1 A <code>RationalNumber</code> object.
+* @param q2 A <code>RationalNumber</code> object.
+* @param dst A <code>RationalNumber</code> object to store the result.
+* <p>
+* @return dst, holding q1 + q2.
+*
+*/
+public static RationalNumber add(RationalNumber q1, RationalNumber q2, RationalNumber dst)
+{
+	assert (q1.isValid() && q2.isValid()): "RationalNumber -> method add: denominator must be != 0";
+int _denominator = q1.getDenominator()*q2.getDenominator();
+int _numerator=(_denominator/q1.getDenominator()*q1.getNumerator())+(_denominator/q2.getDenominator()*q2.getNumerator());
+dst.set(_numerator, _denominator);
+return dst;
+}
+
+/**
+* Static method to substract two rational numbers, storing the result in a given object.
+* <p>
+* @param q1 A <code>RationalNumber</code> object.
+* @param q2 A <code>RationalNumber</code> object.
+* @param dst A <code>RationalNumber</code> object to store the result.
+* <p>
+* @return dst, holding q1 - q2.
+*
+*/
+public static RationalNumber sub(RationalNumber q1, RationalNumber q2, RationalNumber dst)
+{
+	assert (q1.isValid() && q2.isValid()): "RationalNumber -> method sub: denominator must be != 0";
+int _denominator = q1.getDenominator()*q2.getDenominator();
+int _numerator=(_denominator/q1.getDenominator()*q1.getNumerator())-(_denominator/q2.getDenominator()*q2.getNumerator());
+dst.set(_numerator, _denominator);
+return dst;
+}
 
-/*
-* Method to compute the greatest common divisor of two integers.
-* Iterative implementation by: Ismael Mosquera rivera.
+/**
+* Static method to multiply two rational numbers, storing the result in a given object.
+* <p>
+* @param q1 A <code>RationalNumber</code> object.
+* @param q2 A <code>RationalNumber</code> object.
+* @param dst A <code>RationalNumber</code> object to store the result.
+* <p>
+* @return dst, holding q1 * q2.
+*
 */
-private static int gcd(int n1, int n2)
+public static RationalNumber mul(RationalNumber q1, RationalNumber q2, RationalNumber dst)
 {
-int d;
-int r;
-int a = HelperFunctions.abs(n1);
-int b = HelperFunctions.abs(n2);
+assert (q1.isValid() && q2.isValid()): "RationalNumber -> method mul: denominator must be != 0";
+dst.set(q1.getNumerator()*q2.getNumerator(), q1.getDenominator()*q2.getDenominator());
+return dst;
+}
 
-if(a < b)
+/**
+* Static method to divide two rational numbers, storing the result in a given object.
+* <p>
+* @param q1 A <code>RationalNumber</code> object.
+* @param q2 A <code>RationalNumber</code> object.
+* @param dst A <code>RationalNumber</code> object to store the result.
+* <p>
+* @return dst, holding q1 / q2.
+*
+*/
+public static RationalNumber div(RationalNumber q1, RationalNumber q2, RationalNumber dst)
+{
+	assert (q1.isValid() && q2.isValid()): "RationalNumber -> method div: denominator must be != 0";
+dst.set(q1.getNumerator()*q2.getDenominator(), q1.getDenominator()*q2.getNumerator());
+return dst;
+}
+
+/**
+* Static method to compute q1 * q2 + q3, storing the result in a given object.
+* <p>
+* The result is the same as mul followed by add, but no intermediate object is made.
+* <p>
+* @param q1 A <code>RationalNumber</code> object.
+* @param q2 A <code>RationalNumber</code> object.
+* @param q3 A <code>RationalNumber</code> object.
+* @param dst A <code>RationalNumber</code> object to store the result.
+* <p>
+* @return dst, holding q1 * q2 + q3.
+*
+*/
+public static RationalNumber fma(RationalNumber q1, RationalNumber q2, RationalNumber q3, RationalNumber dst)
 {
-	int tmp = a;
-	a = b;
-	b = tmp;
+	assert (q1.isValid() && q2.isValid() && q3.isValid()): "RationalNumber -> method fma: denominator must be != 0";
+int pn = q1.getNumerator()*q2.getNumerator();
+int pd = q1.getDenominator()*q2.getDenominator();
+int _denominator = pd*q3.getDenominator();
+int _numerator=(_denominator/pd*pn)+(_denominator/q3.getDenominator()*q3.getNumerator());
+dst.set(_numerator, _denominator);
+return dst;
 }
-if(b == 0) return a;
-while(true)
+
+/**
+* Static method to reduce a fracction, storing the result in a given object.
+* <p>
+* @param q A <code>RationalNumber</code> object.
+* @param dst A <code>RationalNumber</code> object to store the result.
+* <p>
+* @return dst, holding the reduced fracction.
+*
+*/
+public static RationalNumber reduce(RationalNumber q, RationalNumber dst)
 {
-	if((a%b)==0)
-	{
-	d = b;
-	break;
-	}
-	r = a%b;
-	a = b;
-	b = r;
+int d = HelperFunctions.gcd(q.getNumerator(), q.getDenominator());
+dst.set(q.getNumerator()/d, q.getDenominator()/d);
+return dst;
 }
-return d;
+
+/**
+* Static method to get the absolute fracction value of a rational number, storing the result in a given object.
+* <p>
+* @param q A <code>RationalNumber</code> object.
+* @param dst A <code>RationalNumber</code> object to store the result.
+* <p>
+* @return dst, holding the absolute fracction value.
+*
+*/
+public static RationalNumber abs(RationalNumber q, RationalNumber dst)
+{
+dst.set(HelperFunctions.abs(q.getNumerator()), HelperFunctions.abs(q.getDenominator()));
+return dst;
 }
 
+
 private boolean isValid()
 {
 return this.denominator!=0;
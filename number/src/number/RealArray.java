@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* RealArray.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+/**
+* The <code>RealArray</code> class stores a sequence of real numbers packed in a double array.
+* <p>
+* An array of <code>RealNumber</code> objects costs an object header and a reference for every value,
+* <p>
+* and the objects may be scattered over the heap; here every value takes just the 8 bytes of a double, one after the other.
+* <p>
+* The values are read and written as doubles, or copied from and into <code>RealNumber</code> objects which can be reused,
+* <p>
+* and the operations work on whole arrays at once, giving the same results as the methods of the <code>RealNumber</code> class.
+* <p>
+* The double array can be wrapped and got back with no copy.
+* <p>
+* example:
+* <p>
+* <code>RealArray a = RealArray.wrap(new double[] { 0.5, 1.0, 1.5 });</code>
+* <p>
+* <code>a.mulAssign(a).apply(RealFunction.EXP);</code>
+* <p>
+* This class uses assertions, so you must be use the '-ea' modifier when executing, in order to enable assertions.
+* <p>
+* example:
+* <p>
+* <code>java -ea MyApp</code>
+*
+*/
+public final class RealArray
+{
+
+/**
+* Constructor.
+* <p>
+* Makes a new array with all its values set to zero.
+* <p>
+* @param length number of values.
+*
+*/
+public RealArray(int length)
+{
+assert (length >= 0): "RealArray -> constructor: Bad parameter, length must be >= 0.";
+data = new double[length];
+}
+
+/**
+* Constructor.
+* <p>
+* Makes a new array holding a copy of the values of the given real numbers.
+* <p>
+* @param numbers array of <code>RealNumber</code> objects.
+*
+*/
+public RealArray(RealNumber[] numbers)
+{
+data = new double[numbers.length];
+for(int i = 0; i < data.length; i++) data[i] = numbers[i].get();
+}
+
+/* private constructor for wrap */
+private RealArray(double[] data)
+{
+this.data = data;
+}
+
+/**
+* Makes a real array backed by the given double array, with no copy.
+* <p>
+* Changes in the double array are seen by the real array, and vice versa.
+* <p>
+* @param data double array.
+* <p>
+* @return A <code>RealArray</code> object.
+*
+*/
+public static RealArray wrap(double[] data)
+{
+return new RealArray(data);
+}
+
+/**
+* Gets the double array backing this real array, with no copy.
+* <p>
+* @return the double array.
+*
+*/
+public double[] array()
+{
+return data;
+}
+
+/**
+* Gets the number of values.
+* <p>
+* @return the length of this array.
+*
+*/
+public int length()
+{
+return data.length;
+}
+
+/**
+* Gets a value.
+* <p>
+* @param i index of the value.
+* <p>
+* @return the real number at i as a double.
+*
+*/
+public double get(int i)
+{
+return data[i];
+}
+
+/**
+* Copies a value into a <code>RealNumber</code> object, so that the same object can be used to visit the whole array.
+* <p>
+* @param i index of the value.
+* @param dst A <code>RealNumber</code> object to store the value.
+* <p>
+* @return dst, holding the real number at i.
+*
+*/
+public RealNumber get(int i, RealNumber dst)
+{
+dst.set(data[i]);
+return dst;
+}
+
+/**
+* Sets a value.
+* <p>
+* @param i index of the value.
+* @param x real number.
+*
+*/
+public void set(int i, double x)
+{
+data[i] = x;
+}
+
+/**
+* Sets a value from a <code>RealNumber</code> object.
+* <p>
+* @param i index of the value.
+* @param x A <code>RealNumber</code> object.
+*
+*/
+public void set(int i, RealNumber x)
+{
+data[i] = x.get();
+}
+
+/**
+* Adds the values of another array to the values of this one, in place.
+* <p>
+* @param a A <code>RealArray</code> object with the same length.
+* <p>
+* @return this object.
+*
+*/
+public RealArray addAssign(RealArray a)
+{
+return add(this, a, this);
+}
+
+/**
+* Substracts the values of another array from the values of this one, in place.
+* <p>
+* @param a A <code>RealArray</code> object with the same length.
+* <p>
+* @return this object.
+*
+*/
+public RealArray subAssign(RealArray a)
+{
+return sub(this, a, this);
+}
+
+/**
+* Multiplies the values of this array by the values of another one, in place.
+* <p>
+* @param a A <code>RealArray</code> object with the same length.
+* <p>
+* @return this object.
+*
+*/
+public RealArray mulAssign(RealArray a)
+{
+return mul(this, a, this);
+}
+
+/**
+* Divides the values of this array by the values of another one, in place.
+* <p>
+* @param a A <code>RealArray</code> object with the same length and no zero values.
+* <p>
+* @return this object.
+*
+*/
+public RealArray divAssign(RealArray a)
+{
+return div(this, a, this);
+}
+
+/**
+* Applies a function to the values of this array, in place.
+* <p>
+* @param f the function.
+* <p>
+* @return this object.
+*
+*/
+public RealArray apply(RealFunction f)
+{
+f.apply(data, data, 0, data.length);
+return this;
+}
+
+/**
+* Sums the values of this array.
+* <p>
+* @return the sum.
+*
+*/
+public double sum()
+{
+double s = 0.0;
+for(int i = 0; i < data.length; i++) s += data[i];
+return s;
+}
+
+/**
+* Static method to add two real arrays value by value.
+* <p>
+* The destination can be any of the operands.
+* <p>
+* @param a A <code>RealArray</code> object.
+* @param b A <code>RealArray</code> object.
+* @param dst A <code>RealArray</code> object to store the result.
+* <p>
+* @return dst, holding a + b.
+*
+*/
+public static RealArray add(RealArray a, RealArray b, RealArray dst)
+{
+assert sameLength(a, b, dst): "RealArray -> add method: the arrays must have the same length.";
+double[] x = a.data;
+double[] y = b.data;
+double[] z = dst.data;
+for(int i = 0; i < z.length; i++) z[i] = x[i] + y[i];
+return dst;
+}
+
+/**
+* Static method to substract two real arrays value by value.
+* <p>
+* The destination can be any of the operands.
+* <p>
+* @param a A <code>RealArray</code> object.
+* @param b A <code>RealArray</code> object.
+* @param dst A <code>RealArray</code> object to store the result.
+* <p>
+* @return dst, holding a - b.
+*
+*/
+public static RealArray sub(RealArray a, RealArray b, RealArray dst)
+{
+assert sameLength(a, b, dst): "RealArray -> sub method: the arrays must have the same length.";
+double[] x = a.data;
+double[] y = b.data;
+double[] z = dst.data;
+for(int i = 0; i < z.length; i++) z[i] = x[i] - y[i];
+return dst;
+}
+
+/**
+* Static method to multiply two real arrays value by value.
+* <p>
+* The destination can be any of the operands.
+* <p>
+* @param a A <code>RealArray</code> object.
+* @param b A <code>RealArray</code> object.
+* @param dst A <code>RealArray</code> object to store the result.
+* <p>
+* @return dst, holding a * b.
+*
+*/
+public static RealArray mul(RealArray a, RealArray b, RealArray dst)
+{
+assert sameLength(a, b, dst): "RealArray -> mul method: the arrays must have the same length.";
+double[] x = a.data;
+double[] y = b.data;
+double[] z = dst.data;
+for(int i = 0; i < z.length; i++) z[i] = x[i] * y[i];
+return dst;
+}
+
+/**
+* Static method to divide two real arrays value by value.
+* <p>
+* The destination can be any of the operands.
+* <p>
+* @param a A <code>RealArray</code> object.
+* @param b A <code>RealArray</code> object with no zero values.
+* @param dst A <code>RealArray</code> object to store the result.
+* <p>
+* @return dst, holding a / b.
+*
+*/
+public static RealArray div(RealArray a, RealArray b, RealArray dst)
+{
+assert sameLength(a, b, dst): "RealArray -> div method: the arrays must have the same length.";
+assert b.nonZero(): "RealArray -> div method: divisors must be != 0";
+double[] x = a.data;
+double[] y = b.data;
+double[] z = dst.data;
+for(int i = 0; i < z.length; i++) z[i] = x[i] / y[i];
+return dst;
+}
+
+/**
+* Static method to apply a function to the values of a real array.
+* <p>
+* @param f the function.
+* @param a A <code>RealArray</code> object.
+* @param dst A <code>RealArray</code> object to store the result, which can be a.
+* <p>
+* @return dst, holding f(a).
+*
+*/
+public static RealArray apply(RealFunction f, RealArray a, RealArray dst)
+{
+assert sameLength(a, a, dst): "RealArray -> apply method: the arrays must have the same length.";
+f.apply(a.data, dst.data, 0, dst.data.length);
+return dst;
+}
+
+/**
+* Gets a string representation of this array.
+* <p>
+* @return String representation of this array.
+*
+*/
+public String toString()
+{
+return java.util.Arrays.toString(data);
+}
+
+
+/* private method to check that the arrays have the same length, for the assertions. */
+private static boolean sameLength(RealArray a, RealArray b, RealArray c)
+{
+return a.data.length == b.data.length && a.data.length == c.data.length;
+}
+
+/* private method to check that no value is zero, for the assertions. */
+private boolean nonZero()
+{
+for(int i = 0; i < data.length; i++)
+{
+if(data[i] == 0.0) return false;
+}
+return true;
+}
+
+
+private final double[] data;
+}
+
+// END
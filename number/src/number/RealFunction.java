@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* RealFunction.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+* The <code>RealFunction</code> enum names the functions of one real variable of the <code>RealMath</code> class,
+* <p>
+* so that they can be passed around and applied to whole arrays, for instance by the <code>ParallelOps</code> class.
+* <p>
+* The functions which have a bulk kernel in the <code>RealVectorOps</code> class use it when applied to a range of an array.
+* <p>
+* example:
+* <p>
+* <code>RealFunction.SIN.apply(x, y, 0, x.length);</code>
+*
+*/
+public enum RealFunction
+{
+/** absolute value */
+ABS(RealMath::abs),
+/** square */
+SQUARE(RealMath::square),
+/** square root */
+SQRT(RealMath::sqrt)
+{
+@Override
+public void apply(double[] src, double[] dst, int off, int len)
+{
+RealVectorOps.sqrt(src, dst, off, len);
+}
+},
+/** cubic root */
+CURT(RealMath::curt),
+/** exponential */
+EXP(RealMath::exp)
+{
+@Override
+public void apply(double[] src, double[] dst, int off, int len)
+{
+RealVectorOps.exp(src, dst, off, len);
+}
+},
+/** exp(x) - 1 */
+EXPM1(RealMath::expm1),
+/** natural logarithm */
+LOG(RealMath::log)
+{
+@Override
+public void apply(double[] src, double[] dst, int off, int len)
+{
+RealVectorOps.log(src, dst, off, len);
+}
+},
+/** log(1 + x) */
+LOG1P(RealMath::log1p),
+/** base 2 logarithm */
+LOG2(RealMath::log2),
+/** base 10 logarithm */
+LOG10(RealMath::log10),
+/** sine */
+SIN(RealMath::sin)
+{
+@Override
+public void apply(double[] src, double[] dst, int off, int len)
+{
+RealVectorOps.sin(src, dst, off, len);
+}
+},
+/** cosine */
+COS(RealMath::cos)
+{
+@Override
+public void apply(double[] src, double[] dst, int off, int len)
+{
+RealVectorOps.cos(src, dst, off, len);
+}
+},
+/** tangent */
+TAN(RealMath::tan),
+/** arc sine */
+ASIN(RealMath::asin),
+/** arc cosine */
+ACOS(RealMath::acos),
+/** arc tangent */
+ATAN(RealMath::atan),
+/** hyperbolic sine */
+SINH(RealMath::sinh),
+/** hyperbolic cosine */
+COSH(RealMath::cosh),
+/** hyperbolic tangent */
+TANH(RealMath::tanh),
+/** inverse hyperbolic sine */
+ASINH(RealMath::asinh),
+/** inverse hyperbolic cosine */
+ACOSH(RealMath::acosh),
+/** inverse hyperbolic tangent */
+ATANH(RealMath::atanh);
+
+/* constructor */
+RealFunction(DoubleUnaryOperator f)
+{
+this.f = f;
+}
+
+/**
+* Evaluates this function.
+* <p>
+* @param x the argument.
+* <p>
+* @return the value of the function at x, the same returned by the <code>RealMath</code> method.
+*
+*/
+public double apply(double x)
+{
+return f.applyAsDouble(x);
+}
+
+/**
+* Evaluates this function over len values of an array.
+* <p>
+* The destination array can be the same as the source one.
+* <p>
+* @param src array with the arguments.
+* @param dst array to store the results.
+* @param off index of the first value.
+* @param len number of values.
+*
+*/
+public void apply(double[] src, double[] dst, int off, int len)
+{
+for(int i = off; i < off + len; i++)
+{
+dst[i] = f.applyAsDouble(src[i]);
+}
+}
+
+/**
+* Gets this function as a <code>DoubleUnaryOperator</code>.
+* <p>
+* @return the function.
+*
+*/
+public DoubleUnaryOperator operator()
+{
+return f;
+}
+
+
+private final DoubleUnaryOperator f;
+}
+
+// END
@@ -0,0 +1,1802 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* RealMath.java
+*
+* number-set
+*
+* Author: Ismael Mosquera rivera
+*/
+
+package number;
+
+/**
+* The <code>RealMath</code> class computes all the functions of the <code>RealNumber</code> class on primitive double values.
+* <p>
+* Every method takes and returns doubles, so no object is made at all,
+* <p>
+* and it can be used in hot loops where making a <code>RealNumber</code> object for each value would be too expensive.
+* <p>
+* The <code>RealNumber</code> and <code>ComplexNumber</code> classes are thin wrappers over this one,
+* <p>
+* so both of them give exactly the same results.
+* <p>
+* example:
+* <p>
+* <code>double y = RealMath.sin(x) * RealMath.exp(-x);</code>
+* <p>
+* This class uses assertions, so you must be use the '-ea' modifier when executing, in order to enable assertions.
+* <p>
+* example:
+* <p>
+* <code>java -ea MyApp</code>
+*
+*/
+public final class RealMath
+{
+
+/**
+* Mathematical constant 'e', the base of the natural logarithm.
+*/
+public static final double E;
+
+/**
+* Mathematical constant 'pi'.
+*/
+public static final double PI;
+
+/* private constructor, since this class only has static methods. */
+private RealMath()
+{
+}
+
+
+/**
+* Gets the integer part of a real value.
+* <p>
+* @param x a real value.
+* <p>
+* @return integer part of x.
+*
+*/
+public static double intPart(double x)
+{
+return (double)((int)x);
+}
+
+/**
+* Gets the decimal part of a real value.
+* <p>
+* @param x a real value.
+* <p>
+* @return decimal part of x.
+*
+*/
+public static double decPart(double x)
+{
+return x - intPart(x);
+}
+
+/**
+* Gets the absolute value of a real value.
+* <p>
+* @param x a real value.
+* <p>
+* @return absolute value of x.
+*
+*/
+public static double abs(double x)
+{
+return HelperFunctions.abs(x);
+}
+
+/**
+* Gets the sign of a real value.
+* <p>
+* @param x a real value.
+* <p>
+* @return -1 if x is negative, or 1 otherwise.
+*
+*/
+public static double sign(double x)
+{
+return (x < 0.0) ? -1.0 : 1.0;
+}
+
+/**
+* Computes the remainder for a division of two floating point numbers.
+* <p>
+* The remainder is computed exactly on the mantissa and exponent bits of both values,
+* <p>
+* so that its cost does not depend on the quotient |x/y|.
+* <p>
+* @param x the dividend.
+* @param y the divisor.
+* <p>
+* @return remainder of x/y.
+*
+*/
+public static double fmod(double x, double y)
+{
+assert (y != 0.0): "RealMath -> fmod method: divide by 0.";
+double s = (sign(x) != sign(y)) ? -1.0 : 1.0;
+return s * __fmod_(HelperFunctions.abs(x), HelperFunctions.abs(y));
+}
+
+/**
+* Computes the IEEE remainder for a division of two floating point numbers.
+* <p>
+* The result is x - n*y, where n is the integer nearest to x/y ( the even one on a tie ).
+* <p>
+* @param x the dividend.
+* @param y the divisor.
+* <p>
+* @return remainder of x/y, in the range [-|y|/2, |y|/2].
+*
+*/
+public static double remainder(double x, double y)
+{
+double p = HelperFunctions.abs(y);
+assert (p != 0.0): "RealMath -> remainder method: divide by 0.";
+/* reduce modulo 2p first, so that the parity of the quotient is kept. */
+double r = (p <= Double.MAX_VALUE * 0.5) ? __fmod_(HelperFunctions.abs(x), p + p) : HelperFunctions.abs(x);
+if(p < twoPow(-1021))
+{
+if(r + r > p)
+{
+r -= p;
+if(r + r >= p) r -= p;
+}
+}
+else
+{
+double half = 0.5 * p;
+if(r > half)
+{
+r -= p;
+if(r >= half) r -= p;
+}
+}
+return (x < 0.0) ? -r : r;
+}
+
+/**
+* Gets the least integer value greater or equal than a real value.
+* <p>
+* @param x a real value.
+* <p>
+* @return ceil of x.
+*
+*/
+public static double ceil(double x)
+{
+double i = intPart(x);
+if(x - i == 0.0) return i;
+return (x < 0.0) ? i : i + 1.0;
+}
+
+/**
+* Gets the greatest integer value less or equal than a real value.
+* <p>
+* @param x a real value.
+* <p>
+* @return floor of x.
+*
+*/
+public static double floor(double x)
+{
+double i = intPart(x);
+if(x - i == 0.0) return i;
+return (x < 0.0) ? i - 1.0 : i;
+}
+
+/**
+* Rounds a real value to its nearest integer; halves are rounded away from zero.
+* <p>
+* @param x a real value.
+* <p>
+* @return rounded value of x.
+*
+*/
+public static double round(double x)
+{
+if(x == 0.0) return 0.0;
+double d = HelperFunctions.abs(decPart(x));
+if(d == 0.0) return intPart(x);
+if(x > 0.0) return (d >= 0.5) ? ceil(x) : floor(x);
+return (d >= 0.5) ? floor(x) : ceil(x);
+}
+
+/**
+* Converts radians to degrees ( sexagesimal ).
+* <p>
+* @param x value in radians.
+* <p>
+* @return value in degrees.
+*
+*/
+public static double toDegrees(double x)
+{
+return x * 180.0 / PI;
+}
+
+/**
+* Converts degrees ( sexagesimal ) to radians.
+* <p>
+* @param x value in degrees.
+* <p>
+* @return value in radians.
+*
+*/
+public static double toRadians(double x)
+{
+return x * PI / 180.0;
+}
+
+/**
+* Gets the maximum between two real values.
+* <p>
+* @param x a real value.
+* @param y a real value.
+* <p>
+* @return maximum value.
+*
+*/
+public static double max(double x, double y)
+{
+return (x >= y) ? x : y;
+}
+
+/**
+* Gets the minimum between two real values.
+* <p>
+* @param x a real value.
+* @param y a real value.
+* <p>
+* @return minimum value.
+*
+*/
+public static double min(double x, double y)
+{
+return (x < y) ? x : y;
+}
+
+/**
+* Computes the factorial n! as a real value.
+* <p>
+* The values are read from a table built just once. Notice that n! does not fit in a double for n &gt; 170.
+* <p>
+* @param n an integer value &gt;= 0.
+* <p>
+* @return n!
+*
+*/
+public static double factorial(int n)
+{
+assert (n >= 0): "RealMath -> factorial method: parameter must be >= 0.";
+assert (n <= HelperFunctions.MAX_FACTORIAL): "RealMath -> factorial method: n! overflows to infinity for n > 170.";
+return HelperFunctions.realFactorial(n);
+}
+
+/**
+* Computes the reciprocal of the factorial, that is 1/n!.
+* <p>
+* @param n an integer value &gt;= 0.
+* <p>
+* @return 1/n!, which underflows to zero for n &gt; 170.
+*
+*/
+public static double inverseFactorial(int n)
+{
+assert (n >= 0): "RealMath -> inverseFactorial method: parameter must be >= 0.";
+return HelperFunctions.inverseFactorial(n);
+}
+
+/**
+* Computes the binomial coefficient n over k, that is n! / (k! * (n-k)!).
+* <p>
+* @param n an integer value &gt;= 0.
+* @param k an integer value.
+* <p>
+* @return binomial coefficient; it is zero when k &lt; 0 or k &gt; n.
+*
+*/
+public static double binomial(int n, int k)
+{
+assert (n >= 0): "RealMath -> binomial method: n must be >= 0.";
+double b = HelperFunctions.binomial(n, k);
+assert (b != Double.POSITIVE_INFINITY): "RealMath -> binomial method: result overflows to infinity.";
+return b;
+}
+
+/**
+* Computes sqrt(x^2+y^2), the magnitude of a 2-dimensional vector.
+* <p>
+* @param x a real value.
+* @param y a real value.
+* <p>
+* @return sqrt(x^2+y^2).
+*
+*/
+public static double hypot(double x, double y)
+{
+return Math.sqrt(x * x + y * y);
+}
+
+/**
+* Computes the sine of an angle expressed in radians.
+* <p>
+* @param x angle in radians.
+* <p>
+* @return sine of x.
+*
+*/
+public static double sin(double x)
+{
+return sinOrCos(x, SIN);
+}
+
+/**
+* Computes the cosine of an angle expressed in radians.
+* <p>
+* @param x angle in radians.
+* <p>
+* @return cosine of x.
+*
+*/
+public static double cos(double x)
+{
+return sinOrCos(x, COS);
+}
+
+/**
+* Computes the sine and the cosine of an angle expressed in radians at once.
+* <p>
+* The angle is reduced only once, and both values are computed from the reduced angle.
+* <p>
+* @param x angle in radians.
+* @param sc an array of at least two slots, where the sine is stored at index 0 and the cosine at index 1.
+*
+*/
+public static void sincos(double x, double[] sc)
+{
+if(x != x || x == Double.POSITIVE_INFINITY || x == Double.NEGATIVE_INFINITY)
+{
+sc[0] = Double.NaN;
+sc[1] = Double.NaN;
+return;
+}
+reduce(x, SINCOS, sc);
+}
+
+/**
+* Computes the tangent of an angle expressed in radians.
+* <p>
+* @param x angle in radians.
+* <p>
+* @return tangent of x.
+*
+*/
+public static double tan(double x)
+{
+return __tan_(x);
+}
+
+/**
+* Computes the arcsine of a value.
+* <p>
+* @param x a value in the range [-1, 1].
+* <p>
+* @return arcsine of x, in the range [-pi/2, pi/2].
+*
+*/
+public static double asin(double x)
+{
+assert (x >= -1.0 && x <= 1.0): "RealMath -> asin method: parameter must be in the range [-1, 1].";
+return __asin_(x);
+}
+
+/**
+* Computes the arccosine of a value.
+* <p>
+* @param x a value in the range [-1, 1].
+* <p>
+* @return arccosine of x, in the range [0, pi].
+*
+*/
+public static double acos(double x)
+{
+assert (x >= -1.0 && x <= 1.0): "RealMath -> acos method: parameter must be in the range [-1, 1].";
+return __acos_(x);
+}
+
+/**
+* Computes the arctangent of a value.
+* <p>
+* @param x a real value.
+* <p>
+* @return arctangent of x, in the range [-pi/2, pi/2].
+*
+*/
+public static double atan(double x)
+{
+return __atan_(x);
+}
+
+/**
+* Computes the arctangent of y/x, using the signs of both to find the quadrant.
+* <p>
+* Signed zeros are taken into account, so atan2(0, -1) = pi and atan2(-0, -1) = -pi.
+* <p>
+* @param y the y coordinate.
+* @param x the x coordinate.
+* <p>
+* @return the angle of the point (x, y), in the range [-pi, pi].
+*
+*/
+public static double atan2(double y, double x)
+{
+if(x != x || y != y) return x + y;
+/* m = 2*(sign of x) + (sign of y) */
+int m = (int)((Double.doubleToRawLongBits(y) >>> 63) | ((Double.doubleToRawLongBits(x) >>> 62) & 2L));
+if(x == 1.0) return __atan_(y);
+if(y == 0.0)
+{
+switch(m)
+{
+case 0:
+case 1: return y;
+case 2: return PI_HI + 2.0 * PIO2_LO;
+default: return -PI_HI - 2.0 * PIO2_LO;
+}
+}
+if(x == 0.0) return (m & 1) == 0 ? PIO2_HI + PIO2_LO : -PIO2_HI - PIO2_LO;
+boolean infiniteX = (x == Double.POSITIVE_INFINITY || x == Double.NEGATIVE_INFINITY);
+boolean infiniteY = (y == Double.POSITIVE_INFINITY || y == Double.NEGATIVE_INFINITY);
+if(infiniteX)
+{
+double z = infiniteY ? ((m & 2) == 0 ? PIO4 : 3.0 * PIO4) : ((m & 2) == 0 ? 0.0 : PI_HI + 2.0 * PIO2_LO);
+return (m & 1) == 0 ? z : -z;
+}
+if(infiniteY) return (m & 1) == 0 ? PIO2_HI + PIO2_LO : -PIO2_HI - PIO2_LO;
+int k = exponentBits(y) - exponentBits(x);
+double z;
+/* |y/x| > 2^60 gives pi/2, and |y/x| < 2^-60 with x < 0 gives pi */
+if(k > 60) z = PIO2_HI + PIO2_LO;
+else if(x < 0.0 && k < -60) z = 0.0;
+else z = __atan_(HelperFunctions.abs(y / x));
+switch(m)
+{
+case 0: return z;
+case 1: return -z;
+case 2: return PI_HI - (z - 2.0 * PIO2_LO);
+default: return (z - 2.0 * PIO2_LO) - PI_HI;
+}
+}
+
+/**
+* Computes the hyperbolic sine of a real value.
+* <p>
+* @param x a real value.
+* <p>
+* @return hyperbolic sine of x.
+*
+*/
+public static double sinh(double x)
+{
+return sinhOf(x, hyperbolic(x));
+}
+
+/**
+* Computes the hyperbolic cosine of a real value.
+* <p>
+* @param x a real value.
+* <p>
+* @return hyperbolic cosine of x.
+*
+*/
+public static double cosh(double x)
+{
+return coshOf(x, hyperbolic(x));
+}
+
+/**
+* Computes the hyperbolic sine and the hyperbolic cosine of a real value at once.
+* <p>
+* With t = expm1(|x|): sinh = (t + t/(t+1))/2 and cosh = (t+1)/2 + 1/(2(t+1)), and cosh = 1 + t^2/(2(t+1)) near 0,
+* <p>
+* so both values come out of the same exponential, and no cancellation happens for small x.
+* <p>
+* @param x a real value.
+* @param sc an array of at least two slots, where the hyperbolic sine is stored at index 0 and the hyperbolic cosine at index 1.
+*
+*/
+public static void sinhcosh(double x, double[] sc)
+{
+double h = hyperbolic(x);
+sc[0] = sinhOf(x, h);
+sc[1] = coshOf(x, h);
+}
+
+/**
+* Computes the hyperbolic tangent of a real value.
+* <p>
+* @param x a real value.
+* <p>
+* @return hyperbolic tangent of x.
+*
+*/
+public static double tanh(double x)
+{
+return __tanh_(x);
+}
+
+/**
+* Computes the hyperbolic arcsine of a real value.
+* <p>
+* asinh(x) = log(x + sqrt(x^2+1)), rewritten so that no cancellation happens for negative or small values.
+* <p>
+* @param x a real value.
+* <p>
+* @return hyperbolic arcsine of x.
+*
+*/
+public static double asinh(double x)
+{
+double a = HelperFunctions.abs(x);
+double y;
+if(a != a || a == Double.POSITIVE_INFINITY || a < TINY_HYPERBOLIC) y = a;
+else if(a > HUGE_HYPERBOLIC) y = __log_(a) + LN2;
+else if(a > 2.0) y = __log_(2.0 * a + 1.0 / (Math.sqrt(a * a + 1.0) + a));
+else
+{
+/* a + sqrt(a^2+1) = 1 + a + a^2/(1 + sqrt(a^2+1)) */
+double t = a * a;
+y = __log1p_(a + t / (1.0 + Math.sqrt(1.0 + t)));
+}
+return (x < 0.0) ? -y : y;
+}
+
+/**
+* Computes the hyperbolic arccosine of a real value.
+* <p>
+* acosh(x) = log(x + sqrt(x^2-1)), for x &gt;= 1.
+* <p>
+* @param x a real value &gt;= 1.
+* <p>
+* @return hyperbolic arccosine of x.
+*
+*/
+public static double acosh(double x)
+{
+assert (x >= 1.0): "RealMath -> acosh method: parameter must be greater or equal than one.";
+if(x < 1.0 || x != x) return Double.NaN;
+if(x == Double.POSITIVE_INFINITY) return x;
+if(x > HUGE_HYPERBOLIC) return __log_(x) + LN2;
+if(x > 2.0) return __log_(2.0 * x - 1.0 / (x + Math.sqrt(x * x - 1.0)));
+/* x + sqrt(x^2-1) = 1 + t + sqrt(2t + t^2), with t = x - 1 exact */
+double t = x - 1.0;
+return __log1p_(t + Math.sqrt(2.0 * t + t * t));
+}
+
+/**
+* Computes the hyperbolic arctangent of a real value.
+* <p>
+* @param x a value in the range [-1, 1].
+* <p>
+* @return hyperbolic arctangent of x.
+*
+*/
+public static double atanh(double x)
+{
+assert (x >= -1.0 && x <= 1.0): "RealMath -> atanh method: parameter must be in the range [-1, 1].";
+double a = HelperFunctions.abs(x);
+double y;
+if(a == 1.0) y = Double.POSITIVE_INFINITY;
+else if(a > 1.0 || a != a) y = Double.NaN;
+else
+{
+/* atanh(a) = log((1+a)/(1-a))/2 = log1p(2a/(1-a))/2, where 2a/(1-a) = 2a + 2a*a/(1-a) is more accurate for small a. */
+double t = a + a;
+y = 0.5 * __log1p_((a < 0.5) ? t + t * a / (1.0 - a) : t / (1.0 - a));
+}
+return (x < 0.0) ? -y : y;
+}
+
+/**
+* Computes the exponential function, 'exp(x)'.
+* <p>
+* The argument is reduced as x = k*ln(2) + r, with |r| &lt;= ln(2)/2,
+* <p>
+* so that exp(x) = 2^k * exp(r), where exp(r) is a short Taylor polynomial evaluated in Horner form.
+* <p>
+* @param x a real value.
+* <p>
+* @return exponential of x.
+*
+*/
+public static double exp(double x)
+{
+return __exp_(x);
+}
+
+/**
+* Computes exp(x) - 1, without losing the bits of small values of x.
+* <p>
+* @param x a real value.
+* <p>
+* @return exp(x) - 1.
+*
+*/
+public static double expm1(double x)
+{
+return __expm1_(x);
+}
+
+/**
+* Computes the natural logarithm of a real value.
+* <p>
+* The value is decomposed from its bits as x = 2^k * m, with sqrt(2)/2 &lt; m &lt;= sqrt(2),
+* <p>
+* so that log(x) = k*log(2) + log(m), where log(m) = 2*atanh((m-1)/(m+1)) is a short odd series.
+* <p>
+* @param x a real value &gt; 0.
+* <p>
+* @return natural logarithm of x.
+*
+*/
+public static double log(double x)
+{
+assert (x > 0.0): "RealMath -> log method: parameter must be greater than zero.";
+return __log_(x);
+}
+
+/**
+* Computes log(1 + x), without losing the bits of small values of x.
+* <p>
+* @param x a real value &gt; -1.
+* <p>
+* @return log(1 + x).
+*
+*/
+public static double log1p(double x)
+{
+assert (x > -1.0): "RealMath -> log1p method: parameter must be greater than -1.";
+return __log1p_(x);
+}
+
+/**
+* Computes the base 2 logarithm of a real value.
+* <p>
+* Powers of two give an exact result straight from their exponent bits.
+* <p>
+* @param x a real value &gt; 0.
+* <p>
+* @return log2(x).
+*
+*/
+public static double log2(double x)
+{
+assert (x > 0.0): "RealMath -> log2 method: parameter must be greater than zero.";
+long bits = Double.doubleToRawLongBits(x);
+if(x > 0.0 && x < Double.POSITIVE_INFINITY && (bits & MANTISSA_MASK) == 0L && (bits >>> 52) != 0L) return (double)((int)(bits >>> 52) - 1023);
+return __log_(x) * INV_LN2;
+}
+
+/**
+* Computes the base 10 logarithm of a real value.
+* <p>
+* @param x a real value &gt; 0.
+* <p>
+* @return log10(x).
+*
+*/
+public static double log10(double x)
+{
+assert (x > 0.0): "RealMath -> log10 method: parameter must be greater than zero.";
+return __log_(x) / LN10;
+}
+
+/**
+* Computes x^y.
+* <p>
+* For a negative base or a negative exponent, the exponent is truncated to an integer.
+* <p>
+* @param x the base.
+* @param y the exponent.
+* <p>
+* @return x^y.
+*
+*/
+public static double pow(double x, double y)
+{
+if(x == 0.0) return 0.0;
+if(y == 0.0) return 1.0;
+if(x < 0.0 || y < 0.0) return HelperFunctions.pow(x, (int)y);
+return __exp_(__log_(x) * y);
+}
+
+/**
+* Computes x^n for an integer exponent, in O(log(n)) multiplications.
+* <p>
+* @param x the base.
+* @param n the exponent.
+* <p>
+* @return x^n.
+*
+*/
+public static double pow(double x, int n)
+{
+return HelperFunctions.pow(x, n);
+}
+
+/**
+* Computes the square of a real value.
+* <p>
+* @param x a real value.
+* <p>
+* @return x*x.
+*
+*/
+public static double square(double x)
+{
+return x * x;
+}
+
+/**
+* Computes the square root of a real value.
+* <p>
+* @param x a real value &gt;= 0.
+* <p>
+* @return square root of x.
+*
+*/
+public static double sqrt(double x)
+{
+assert (x >= 0.0): "RealMath -> sqrt method: Bad parameter value. It must be >= 0.";
+/* IEEE 754 requires the square root to be correctly rounded, so the platform result is exact. */
+return Math.sqrt(x);
+}
+
+/**
+* Computes the square root of a real value, using Newton's method coded from the scratch.
+* <p>
+* The result is correctly rounded, that is, the same value returned by the <code>sqrt</code> method.
+* <p>
+* @param x a real value &gt;= 0.
+* <p>
+* @return square root of x.
+*
+*/
+public static double sqrtNewton(double x)
+{
+assert (x >= 0.0): "RealMath -> sqrtNewton method: Bad parameter value. It must be >= 0.";
+return __sqrt_(x);
+}
+
+/**
+* Computes the cubic root of a real value; negative values are allowed.
+* <p>
+* @param x a real value.
+* <p>
+* @return cubic root of x.
+*
+*/
+public static double curt(double x)
+{
+return sign(x) * __cbrt_(HelperFunctions.abs(x));
+}
+
+/**
+* Computes the nth root of a real value.
+* <p>
+* Negative values are only allowed for odd indexes.
+* <p>
+* @param x a real value.
+* @param n the index of the radical, &gt;= 1.
+* <p>
+* @return nth root of x.
+*
+*/
+public static double ithrt(double x, int n)
+{
+assert (n >= 1): "RealMath -> ithrt method: the index of the radical must be >= 1.";
+assert (n % 2 != 0 || x >= 0.0): "RealMath -> ithrt method: not defined for negative values of x when the index of the radical is even.";
+return sign(x) * __root_(HelperFunctions.abs(x), n);
+}
+
+/*
+* private method to compute the cubic root of x >= 0.
+* x = m * 2^k, with k = 3q + rem and 0 <= rem < 3, so curt(x) = curt(t) * 2^q where t = m * 2^rem lies in [1, 8).
+* Dividing the bits of t by 3 gives a seed within a few percent, and Halley's step
+* y = y * (y^3 + 2t) / (2y^3 + t) triples the number of right digits each time.
+*/
+private static double __cbrt_(double x)
+{
+if(x != x || x == 0.0 || x == Double.POSITIVE_INFINITY) return x;
+int k = exponentOf(x);
+int q = floorDiv(k, 3);
+double t = mantissaOf(x) * twoPow(k - 3*q);
+double y = Double.longBitsToDouble(Double.doubleToRawLongBits(t) / 3L + (ONE_BITS - ONE_BITS / 3L));
+for(int i = 0; i < CBRT_STEPS; i++)
+{
+double y3 = y * y * y;
+y = y * (y3 + 2.0 * t) / (2.0 * y3 + t);
+}
+return roundRoot(y, t, 3) * twoPow(q);
+}
+
+/*
+* private method to compute the nth root of x >= 0.
+* x = m * 2^k, with k = n*q + rem and 0 <= rem < n, so root(x) = root(t) * 2^q where t = m * 2^rem lies in [1, 2^n).
+* Dividing the exponent bits of t by n gives the seed, and Halley's step
+* y = y * ((n-1)*y^n + (n+1)*t) / ((n+1)*y^n + (n-1)*t) refines it, tripling the number of right digits each time.
+* For big indexes, the iteration converges slowly from that seed, so exp(log(t)/n), already within a few ulps, is used instead.
+*/
+private static double __root_(double x, int n)
+{
+if(n == 1) return x;
+if(n == 2) return Math.sqrt(x);
+if(n == 3) return __cbrt_(x);
+if(x != x || x == 0.0 || x == Double.POSITIVE_INFINITY) return x;
+if(n > MAX_ROOT_INDEX) return __exp_(__log_(x) / (double)n);
+int k = exponentOf(x);
+int q = floorDiv(k, n);
+double t = mantissaOf(x) * twoPow(k - n*q);
+double y;
+if(n > BIT_SEED_INDEX)
+{
+y = __exp_(__log_(t) / (double)n);
+}
+else
+{
+/* once a step moves y less than HALF_PRECISION, the next one is within a few ulps, and roundRoot finishes it. */
+y = Double.longBitsToDouble((Double.doubleToRawLongBits(t) - ONE_BITS) / (long)n + ONE_BITS);
+double a = (double)(n-1);
+double b = (double)(n+1);
+for(int i = 0; i < ROOT_STEPS; i++)
+{
+double yn = HelperFunctions.pow(y, n);
+double next = y * (a * yn + b * t) / (b * yn + a * t);
+double d = next - y;
+y = next;
+if(HelperFunctions.abs(d) <= HALF_PRECISION) break;
+}
+}
+return roundRoot(y, t, n) * twoPow(q);
+}
+
+/*
+* private method to round a root y of t, which is already within a few ulps, to the nearest double.
+* The residual t - y^n is computed with a compensated power, where every product keeps its rounding error.
+* Then root - y = (t - y^n) / (n*y^(n-1)) is known with full precision, so a last Newton step lands on the
+* nearest double, and perfect powers come out exact.
+*/
+private static double roundRoot(double y, double t, int n)
+{
+double u = twoPow(-52);
+/* root - y = (t - y^n) * y / (n*y^n), and y/(n*y^n) ~ y/(n*t) does not need to be exact. */
+double w = y / ((double)n * t);
+double c = SPLITTER * y;
+double yh = c - (c - y);
+double yl = y - yh;
+double h = y;
+double l = 0.0;
+for(int i = 1; i < n; i++)
+{
+double p = h * y;
+c = SPLITTER * h;
+double hh = c - (c - h);
+double hl = h - hh;
+l = l * y + (((hh * yh - p) + hh * yl + hl * yh) + hl * yl);
+h = p;
+}
+double d = ((t - h) - l) * w;
+if(HelperFunctions.abs(d) <= 0.5 * u) return y;
+double next = y + d;
+if(next == y) next = (d > 0.0) ? y + u : y - u;
+return next;
+}
+
+/* private method to get the rounding error of p = a*b, so that a*b = p + error exactly ( Dekker's product ) */
+private static double productError(double a, double b, double p)
+{
+double c = SPLITTER * a;
+double ah = c - (c - a);
+double al = a - ah;
+c = SPLITTER * b;
+double bh = c - (c - b);
+double bl = b - bh;
+return ((ah * bh - p) + ah * bl + al * bh) + al * bl;
+}
+
+/* private method to get the unbiased exponent k of x > 0, so that x = m * 2^k with 1 <= m < 2 */
+private static int exponentOf(double x)
+{
+long bits = Double.doubleToRawLongBits(x);
+if((bits >>> 52) == 0L) return (int)(Double.doubleToRawLongBits(x * twoPow(54)) >>> 52) - 1023 - 54;
+return (int)(bits >>> 52) - 1023;
+}
+
+/* private method to get the mantissa m of x > 0, so that x = m * 2^k with 1 <= m < 2 */
+private static double mantissaOf(double x)
+{
+long bits = Double.doubleToRawLongBits(x);
+if((bits >>> 52) == 0L) bits = Double.doubleToRawLongBits(x * twoPow(54));
+return Double.longBitsToDouble((bits & MANTISSA_MASK) | ONE_BITS);
+}
+
+/* private method to get the largest integer q such that q*n <= k, for n > 0 */
+private static int floorDiv(int k, int n)
+{
+int q = k / n;
+return (k % n < 0) ? q - 1 : q;
+}
+
+/*
+* package methods to compute sin and cos of the same angle with no holder, for the callers that keep both values in locals.
+* x = n*pi/2 + y with n = quadrant(x) and y = reduced(x), and then sin(x) = sinReduced(y, n) and cos(x) = cosReduced(y, n),
+* bit for bit the same values as sin, cos and sincos. Non finite values give n = 0 and y = NaN.
+* n costs a multiply for moderate arguments; for the huge ones, both calls run the Payne-Hanek reduction.
+*/
+static int quadrant(double x)
+{
+if(x != x || x == Double.POSITIVE_INFINITY || x == Double.NEGATIVE_INFINITY) return 0;
+double ax = HelperFunctions.abs(x);
+if(ax >= CODY_WAITE_LIMIT) return (int)reduce(x, QUADRANT, null);
+/* the same n as in reduce, with no need to compute y */
+int n = (int)Math.rint(ax * INV_PIO2);
+return (x < 0.0) ? -n : n;
+}
+
+static double reduced(double x)
+{
+if(x != x || x == Double.POSITIVE_INFINITY || x == Double.NEGATIVE_INFINITY) return Double.NaN;
+return reduce(x, REDUCED, null);
+}
+
+static double sinReduced(double y, int n)
+{
+switch(n & 3)
+{
+case 0: return __sin_(y);
+case 1: return __cos_(y);
+case 2: return -__sin_(y);
+default: return -__cos_(y);
+}
+}
+
+static double cosReduced(double y, int n)
+{
+switch(n & 3)
+{
+case 0: return __cos_(y);
+case 1: return -__sin_(y);
+case 2: return -__cos_(y);
+default: return __sin_(y);
+}
+}
+
+/*
+* package methods to compute sinh and cosh of the same value with no holder, in the same way:
+* h = hyperbolic(x) is the exponential shared by both, and then sinh(x) = sinhOf(x, h) and cosh(x) = coshOf(x, h).
+*/
+static double hyperbolic(double x)
+{
+double a = HelperFunctions.abs(x);
+if(a != a || a < TINY_HYPERBOLIC) return a;
+/* above the limit, exp(-|x|) is negligible and both values are exp(|x|)/2 */
+return (a < HYPERBOLIC_LIMIT) ? __expm1_(a) : halfExp(a);
+}
+
+static double sinhOf(double x, double h)
+{
+double a = HelperFunctions.abs(x);
+if(a != a || a < TINY_HYPERBOLIC) return x;
+double sinh = (a < HYPERBOLIC_LIMIT) ? sinhExpm1(a, h) : h;
+return (x < 0.0) ? -sinh : sinh;
+}
+
+static double coshOf(double x, double h)
+{
+double a = HelperFunctions.abs(x);
+if(a != a) return a;
+if(a < TINY_HYPERBOLIC) return 1.0;
+return (a < HYPERBOLIC_LIMIT) ? coshExpm1(a, h) : h;
+}
+
+/*
+* Compute e by using the Euler's method.
+* e = 1/ f(0)+1/f(1) + 1/f(2) + 1/f(3) + 1/f(4) ...
+* where f(n) is the factorial function.
+*/
+private static double e()
+{
+/* 1/f(n) = 1/f(n-1) * 1/n */
+return Series.sum(1.0, 1.0, (x, n) -> x / (double)n, SERIES_LENGTH);
+}
+
+/* private method to get sinh(a) from t = expm1(a), for 0 <= a < HYPERBOLIC_LIMIT. */
+private static double sinhExpm1(double a, double t)
+{
+double u = t + 1.0;
+return (a < 1.0) ? 0.5 * (2.0 * t - t * t / u) : 0.5 * (t + t / u);
+}
+
+/* private method to get cosh(a) from t = expm1(a), for 0 <= a < HYPERBOLIC_LIMIT. */
+private static double coshExpm1(double a, double t)
+{
+double u = t + 1.0;
+return (a < 0.5 * LN2) ? 1.0 + t * t / (2.0 * u) : 0.5 * u + 0.5 / u;
+}
+
+/* private method to compute the 'pi' constant. */
+private static double pi()
+{
+return 4.0*(5.0*__atan_(1.0/7.0) + 2.0*__atan_(3.0/79.0));
+}
+
+/*
+* private method to compute the sine or cosine given an extra parameter.
+* x = n*pi/2 + y with |y| <= pi/4, so sin(x) cycles through sin(y), cos(y), -sin(y), -cos(y) as n grows,
+* and cos(x) = sin(x + pi/2) just starts one step ahead in that cycle.
+*/
+private static double sinOrCos(double x, int type)
+{
+if(x != x || x == Double.POSITIVE_INFINITY || x == Double.NEGATIVE_INFINITY) return Double.NaN;
+return reduce(x, type, null);
+}
+
+/* private method to compute the tangent, with the cotangent branch for odd quadrants. */
+private static double __tan_(double x)
+{
+if(x != x || x == Double.POSITIVE_INFINITY || x == Double.NEGATIVE_INFINITY) return Double.NaN;
+return reduce(x, TAN, null);
+}
+
+/*
+* private method to compute tan(y), or -1/tan(y) when tangent is false, for |y| <= pi/4.
+* tan(y) = y + y^3*(T0 + y^2*T1 + ...), with the odd and even coefficients summed apart.
+* Past TAN_SPLIT, with z = pi/4 - |y|, tan(|y|) = (1 - tan(z))/(1 + tan(z)) = 1 - 2*(z - tan(z)^2/(1 + tan(z)) - (tan(z) - z)),
+* so that the polynomial only runs on values below 0.11.
+* -1/tan(y) is computed from the high halves of tan(y) and of its reciprocal, and then corrected,
+* so that the cotangent keeps all its bits.
+*/
+private static double __tanKernel_(double y, boolean tangent)
+{
+double a = HelperFunctions.abs(y);
+if(a < TINY_TAN) return tangent ? y : -1.0 / y;
+double sign = (y < 0.0) ? -1.0 : 1.0;
+boolean big = (a >= TAN_SPLIT);
+if(big) y = (PIO4 - a) + PIO4_LO;
+double z = y * y;
+double w = z * z;
+double r = TAN_COEFFICIENTS[TAN_COEFFICIENTS.length-2];
+for(int i = TAN_COEFFICIENTS.length-4; i >= 1; i -= 2)
+{
+r = r * w + TAN_COEFFICIENTS[i];
+}
+double v = TAN_COEFFICIENTS[TAN_COEFFICIENTS.length-1];
+for(int i = TAN_COEFFICIENTS.length-3; i >= 2; i -= 2)
+{
+v = v * w + TAN_COEFFICIENTS[i];
+}
+double s = z * y;
+r = z * s * (r + z * v) + TAN_COEFFICIENTS[0] * s;
+w = y + r;
+if(big)
+{
+double c = tangent ? 1.0 : -1.0;
+return sign * (c - 2.0 * (y - (w * w / (w + c) - r)));
+}
+if(tangent) return w;
+double wh = highHalf(w);
+double wl = r - (wh - y);
+double q = -1.0 / w;
+double qh = highHalf(q);
+double e = 1.0 + qh * wh;
+return qh + q * (e + qh * wl);
+}
+
+/* private method to compute sin(y) for |y| <= pi/4: y(1/1! - y^2(1/3! - y^2(1/5! - ...))) */
+private static double __sin_(double y)
+{
+double y2 = y * y;
+double p = HelperFunctions.inverseFactorial(2*SIN_DEGREE+1);
+for(int n = SIN_DEGREE-1; n >= 0; n--)
+{
+p = HelperFunctions.inverseFactorial(2*n+1) - y2 * p;
+}
+return y * p;
+}
+
+/* private method to compute cos(y) for |y| <= pi/4: 1/0! - y^2(1/2! - y^2(1/4! - ...)) */
+private static double __cos_(double y)
+{
+double y2 = y * y;
+double p = HelperFunctions.inverseFactorial(2*COS_DEGREE);
+for(int n = COS_DEGREE-1; n >= 0; n--)
+{
+p = HelperFunctions.inverseFactorial(2*n) - y2 * p;
+}
+return p;
+}
+
+/*
+* private method to reduce x to y = x - n*pi/2, with |y| <= pi/4, and evaluate the function of the given type on it.
+* The reduction and the evaluation are fused, so that n and y never leave the method as a pair.
+* Moderate arguments use Cody-Waite: pi/2 is split in three parts with trailing zero bits,
+* so n*PIO2_1 and n*PIO2_2 are exact and the subtractions do not lose the low bits of x.
+* Huge arguments use a Payne-Hanek reduction based on the bits of 2/pi.
+*/
+private static double reduce(double x, int type, double[] sc)
+{
+double ax = HelperFunctions.abs(x);
+if(ax < CODY_WAITE_LIMIT)
+{
+/* n rounds to nearest even, as in RealVectorOps; n = 0 leaves x as it is, up to about pi/4 */
+int n = (int)Math.rint(ax * INV_PIO2);
+if(n == 0) return evaluate(x, 0, type, sc);
+double dn = (double)n;
+double t = ((ax - dn * PIO2_1) - dn * PIO2_2) - dn * PIO2_3;
+t -= dn * PIO2_3T;
+return (x < 0.0) ? evaluate(-t, -n, type, sc) : evaluate(t, n, type, sc);
+}
+return payneHanek(x, type, sc);
+}
+
+/*
+* private method to evaluate the function of the given type at n*pi/2 + y, with |y| <= pi/4.
+* sin cycles through sin(y), cos(y), -sin(y), -cos(y) as n grows, and cos just starts one step ahead in that cycle;
+* tan is tan(y) for even n and -1/tan(y) for odd n. SINCOS stores the sine and the cosine in sc and returns 0.
+* QUADRANT and REDUCED just return n and y.
+*/
+private static double evaluate(double y, int n, int type, double[] sc)
+{
+if(type == QUADRANT) return (double)n;
+if(type == REDUCED) return y;
+if(type == TAN) return __tanKernel_(y, (n & 1) == 0);
+if(type == SINCOS)
+{
+double s = __sin_(y);
+double c = __cos_(y);
+switch(n & 3)
+{
+case 0: sc[0] = s; sc[1] = c; break;
+case 1: sc[0] = c; sc[1] = -s; break;
+case 2: sc[0] = -s; sc[1] = -c; break;
+default: sc[0] = -c; sc[1] = s; break;
+}
+return 0.0;
+}
+switch((n + 1 - type) & 3)
+{
+case 0: return __sin_(y);
+case 1: return __cos_(y);
+case 2: return -__sin_(y);
+default: return -__cos_(y);
+}
+}
+
+/*
+* private method to reduce a huge argument.
+* |x| = m * 2^e, with m a 53 bits integer, and 2/pi = sum of b(i) * 2^-i.
+* Every bit b(i) with i < e-1 adds a multiple of 4 to |x|*2/pi, and that does not change sin or cos.
+* So only a 192 bits window of 2/pi starting at b(e-1) is needed: |x|*2/pi = (m * W) / 2^190 (mod 4).
+* The two bits above the binary point give the quadrant and the ones below give y/(pi/2).
+*/
+private static double payneHanek(double x, int type, double[] sc)
+{
+long bits = Double.doubleToRawLongBits(x);
+int e = (int)((bits >>> 52) & 0x7ffL) - 1075;
+long m = (bits & MANTISSA_MASK) | (1L << 52);
+long w0 = twoOverPiBits(e - 1);
+long w1 = twoOverPiBits(e + 63);
+long w2 = twoOverPiBits(e + 127);
+/* P = m*w0*2^128 + m*w1*2^64 + m*w2, kept in the limbs p3 p2 p1 p0. */
+long p0 = m * w2;
+long h2 = mulHigh(m, w2);
+long l1 = m * w1;
+long h1 = mulHigh(m, w1);
+long l0 = m * w0;
+long p1 = h2 + l1;
+long c = (Long.compareUnsigned(p1, h2) < 0) ? 1L : 0L;
+/* carries out of p2 only add multiples of 4, so they are dropped. */
+long p2 = h1 + l0 + c;
+int n = (int)(p2 >>> 62);
+/* 128 bits of the fraction: bits 189 to 62 of P. */
+long fhi = (p2 << 2) | (p1 >>> 62);
+long flo = (p1 << 2) | (p0 >>> 62);
+double sign = 1.0;
+if(fhi < 0L)
+{
+/* fraction >= 1/2, so take the next quadrant and a negative fraction. */
+n++;
+sign = -1.0;
+flo = -flo;
+fhi = (flo == 0L) ? -fhi : ~fhi;
+}
+int lz = (fhi != 0L) ? Long.numberOfLeadingZeros(fhi) : 64 + Long.numberOfLeadingZeros(flo);
+if(lz >= 64)
+{
+fhi = flo << (lz - 64);
+flo = 0L;
+}
+else if(lz > 0)
+{
+fhi = (fhi << lz) | (flo >>> (64 - lz));
+flo <<= lz;
+}
+double r1 = (double)(fhi >>> 11) * twoPow(-53 - lz);
+double r2 = (double)(((fhi & 0x7ffL) << 42) | (flo >>> 22)) * twoPow(-106 - lz);
+double t = r1 * PIO2_HI + (r1 * PIO2_LO + r2 * PIO2_HI);
+return (x < 0.0) ? evaluate(-sign * t, -n, type, sc) : evaluate(sign * t, n, type, sc);
+}
+
+/* private method to get 64 bits of 2/pi, from b(start) to b(start+63); bits with index <= 0 are zero. */
+private static long twoOverPiBits(int start)
+{
+if(start <= 0)
+{
+int shift = 1 - start;
+return (shift >= 64) ? 0L : twoOverPiBits(1) >>> shift;
+}
+int j = (start - 1) >>> 6;
+int off = (start - 1) & 63;
+if(off == 0) return TWO_OVER_PI[j];
+return (TWO_OVER_PI[j] << off) | (TWO_OVER_PI[j+1] >>> (64 - off));
+}
+
+/* private method to get the high 64 bits of the unsigned 128 bits product a*b */
+private static long mulHigh(long a, long b)
+{
+long a1 = a >>> 32;
+long a0 = a & 0xffffffffL;
+long b1 = b >>> 32;
+long b0 = b & 0xffffffffL;
+long t = a1 * b0 + ((a0 * b0) >>> 32);
+long w1 = (t & 0xffffffffL) + a0 * b1;
+return a1 * b1 + (t >>> 32) + (w1 >>> 32);
+}
+
+/* private method to compute exp(a)/2 for a >= 0, without overflowing before the result does. */
+private static double halfExp(double a)
+{
+if(a <= EXP_OVERFLOW) return 0.5 * __exp_(a);
+double w = __exp_(0.5 * a);
+return (0.5 * w) * w;
+}
+
+/*
+* private method to compute the hyperbolic tangent.
+* tanh(a) = 1 - 2/(exp(2a)+1) = -expm1(-2a)/(expm1(-2a)+2), and the second form is used below 1 to avoid cancellation.
+* tanh is 1 to double precision past HYPERBOLIC_LIMIT.
+*/
+private static double __tanh_(double x)
+{
+double a = HelperFunctions.abs(x);
+double z;
+if(a != a) return a;
+if(a < TINY_HYPERBOLIC) return x;
+if(a >= HYPERBOLIC_LIMIT) z = 1.0;
+else if(a >= 1.0) z = 1.0 - 2.0 / (__expm1_(a + a) + 2.0);
+else
+{
+double t = __expm1_(-(a + a));
+z = -t / (t + 2.0);
+}
+return (x < 0.0) ? -z : z;
+}
+
+/*
+* private method to compute asin(x)/x - 1 = R(t), with t = x^2 and |x| <= 1/2.
+* R(t) = t*P(t)/Q(t) is a minimax rational approximation, with an error below 2^-58.
+*/
+private static double asinRatio(double t)
+{
+double p = ASIN_P[ASIN_P.length-1];
+for(int i = ASIN_P.length-2; i >= 0; i--)
+{
+p = p * t + ASIN_P[i];
+}
+double q = ASIN_Q[ASIN_Q.length-1];
+for(int i = ASIN_Q.length-2; i >= 0; i--)
+{
+q = q * t + ASIN_Q[i];
+}
+return t * p / (q * t + 1.0);
+}
+
+/* private method to clear the low 32 bits of x, so that its square is exact. */
+private static double highHalf(double x)
+{
+return Double.longBitsToDouble(Double.doubleToRawLongBits(x) & 0xffffffff00000000L);
+}
+
+/*
+* private method to compute the arcsine.
+* Past 1/2, with t = (1-|x|)/2 and s = sqrt(t), asin(|x|) = pi/2 - 2*(s + s*R(t)).
+* Below 0.975 the subtraction loses bits, so s is split as s = w + c with w exact when squared,
+* and pi/2 - 2s is computed as pi/4 - 2w + pi/4 - 2c, which keeps them.
+*/
+private static double __asin_(double x)
+{
+double a = HelperFunctions.abs(x);
+if(a != a || a > 1.0) return Double.NaN;
+if(a == 1.0) return x * PIO2_HI + x * PIO2_LO;
+if(a < 0.5)
+{
+if(a < TINY_ASIN) return x;
+return x + x * asinRatio(x * x);
+}
+double t = 0.5 * (1.0 - a);
+double s = Math.sqrt(t);
+double r = asinRatio(t);
+double y;
+if(a >= ASIN_SPLIT)
+{
+y = PIO2_HI - (2.0 * (s + s * r) - PIO2_LO);
+}
+else
+{
+double w = highHalf(s);
+double c = (t - w * w) / (s + w);
+double p = 2.0 * s * r - (PIO2_LO - 2.0 * c);
+double q = PIO4 - 2.0 * w;
+y = PIO4 - (p - q);
+}
+return (x < 0.0) ? -y : y;
+}
+
+/*
+* private method to compute the arccosine.
+* Below 1/2, acos(x) = pi/2 - (x + x*R(x^2)).
+* Otherwise, with t = (1-|x|)/2 and s = sqrt(t), acos(x) = 2*(s + s*R(t)) for x > 0, and pi - 2*(s + s*R(t)) for x < 0.
+* For x > 0, s is split as in asin so that the small result keeps its low bits.
+*/
+private static double __acos_(double x)
+{
+double a = HelperFunctions.abs(x);
+if(a != a || a > 1.0) return Double.NaN;
+if(x == 1.0) return 0.0;
+if(x == -1.0) return PI_HI + 2.0 * PIO2_LO;
+if(a < 0.5)
+{
+if(a < TINY_ACOS) return PIO2_HI + PIO2_LO;
+return PIO2_HI - (x - (PIO2_LO - x * asinRatio(x * x)));
+}
+double t = 0.5 * (1.0 - a);
+double s = Math.sqrt(t);
+double r = asinRatio(t);
+if(x < 0.0)
+{
+double w = r * s - PIO2_LO;
+return PI_HI - 2.0 * (s + w);
+}
+double w = highHalf(s);
+double c = (t - w * w) / (s + w);
+return 2.0 * (w + (r * s + c));
+}
+
+/*
+* private method to compute the arctangent.
+* |x| is reduced to |y| <= 7/16 with atan(x) = atan(c) + atan(y), y = (x-c)/(1+x*c), for c = 1/2, 1, 3/2,
+* and atan(x) = pi/2 + atan(-1/x) past 39/16. atan(c) is kept as a high and a low part.
+* Then atan(y) = y - y*(y^2*P(y^4) + y^4*Q(y^4)), where the odd and even coefficients are summed apart.
+*/
+private static double __atan_(double x)
+{
+double a = HelperFunctions.abs(x);
+if(a != a) return x;
+if(a >= HUGE_ATAN)
+{
+double z = ATAN_HI[3] + ATAN_LO[3];
+return (x < 0.0) ? -z : z;
+}
+int id;
+double y;
+if(a < ATAN_BREAK[0])
+{
+if(a < TINY_ATAN) return x;
+id = -1;
+y = x;
+}
+else if(a < ATAN_BREAK[1])
+{
+id = 0;
+y = (2.0 * a - 1.0) / (2.0 + a);
+}
+else if(a < ATAN_BREAK[2])
+{
+id = 1;
+y = (a - 1.0) / (a + 1.0);
+}
+else if(a < ATAN_BREAK[3])
+{
+id = 2;
+y = (a - 1.5) / (1.0 + 1.5 * a);
+}
+else
+{
+id = 3;
+y = -1.0 / a;
+}
+double z = y * y;
+double w = z * z;
+double s1 = ATAN_COEFFICIENTS[ATAN_COEFFICIENTS.length-1];
+for(int i = ATAN_COEFFICIENTS.length-3; i >= 0; i -= 2)
+{
+s1 = s1 * w + ATAN_COEFFICIENTS[i];
+}
+double s2 = ATAN_COEFFICIENTS[ATAN_COEFFICIENTS.length-2];
+for(int i = ATAN_COEFFICIENTS.length-4; i >= 1; i -= 2)
+{
+s2 = s2 * w + ATAN_COEFFICIENTS[i];
+}
+s1 *= z;
+s2 *= w;
+if(id < 0) return y - y * (s1 + s2);
+z = ATAN_HI[id] - ((y * (s1 + s2) - ATAN_LO[id]) - y);
+return (x < 0.0) ? -z : z;
+}
+
+/* private method to get the biased exponent field of x. */
+private static int exponentBits(double x)
+{
+return (int)(Double.doubleToRawLongBits(x) >>> 52) & 0x7ff;
+}
+
+/*
+* private method to compute exp(x).
+* x = k*ln(2) + r, where ln(2) is split in a high and a low part so that k*LN2_HI is exact.
+* exp(r) = 1/0! + r(1/1! + r(1/2! + r(1/3! + ...))) converges fast since |r| <= ln(2)/2.
+*/
+private static double __exp_(double x)
+{
+if(x != x) return x;
+if(x > EXP_OVERFLOW) return Double.POSITIVE_INFINITY;
+if(x < EXP_UNDERFLOW) return 0.0;
+int k = (int)Math.rint(x * INV_LN2);
+double r = (x - (double)k * LN2_HI) - (double)k * LN2_LO;
+double p = HelperFunctions.inverseFactorial(EXP_DEGREE);
+for(int n = EXP_DEGREE-1; n >= 0; n--)
+{
+p = p * r + HelperFunctions.inverseFactorial(n);
+}
+return scalb(p, k);
+}
+
+/*
+* private method to compute exp(x) - 1 without cancellation for small x.
+* x = k*ln(2) + r as in exp, and expm1(r) = r + r^2*(1/2! + r/3! + ...) keeps all the bits of r.
+* Then exp(x) - 1 = 2^k * expm1(r) + (2^k - 1), where 2^k - 1 is exact for the moderate values of k.
+*/
+private static double __expm1_(double x)
+{
+if(x != x) return x;
+if(x > EXP_OVERFLOW) return Double.POSITIVE_INFINITY;
+/* exp(x) is below half an ulp of 1 */
+if(x < EXPM1_UNDERFLOW) return -1.0;
+int k = 0;
+double r = x;
+if(HelperFunctions.abs(x) > 0.5 * LN2)
+{
+k = (int)Math.rint(x * INV_LN2);
+r = (x - (double)k * LN2_HI) - (double)k * LN2_LO;
+}
+double p = HelperFunctions.inverseFactorial(EXP_DEGREE);
+for(int n = EXP_DEGREE-1; n >= 2; n--)
+{
+p = p * r + HelperFunctions.inverseFactorial(n);
+}
+double em1 = r + r * r * p;
+if(k == 0) return em1;
+if(k > 56) return scalb(em1 + 1.0, k);
+double t = twoPow(k);
+return (t - 1.0) + t * em1;
+}
+
+/*
+* private method to compute log(1 + x) without losing the bits of small x.
+* u = 1 + x is rounded, but (u - 1) - x is its exact rounding error c, and log(1+x) = log(u - c) ~ log(u) - c/u.
+*/
+private static double __log1p_(double x)
+{
+if(x != x || x == Double.POSITIVE_INFINITY) return x;
+if(x < -1.0) return Double.NaN;
+if(x == -1.0) return Double.NEGATIVE_INFINITY;
+double u = 1.0 + x;
+if(u == 1.0) return x;
+double c = (u - 1.0) - x;
+return __log_(u) - c / u;
+}
+
+/* private method to compute x * 2^k, building 2^k from its exponent bits. */
+private static double scalb(double x, int k)
+{
+if(k > 1023)
+{
+x *= twoPow(1023);
+k -= 1023;
+if(k > 1023) k = 1023;
+}
+else if(k < -1022)
+{
+/* scale up first so that the subnormal result is rounded just once. */
+x *= twoPow(k + 64);
+k = -64;
+}
+return x * twoPow(k);
+}
+
+/*
+* private method to compute the remainder of x/y for x, y >= 0.
+* x = mx * 2^ex and y = my * 2^ey, where mx and my are integers.
+* Since ex >= ey when x >= y, x mod y = ((mx * 2^(ex-ey)) mod my) * 2^ey,
+* and the power of two is shifted in 10 bits at a time, so that at most about 200 steps are needed.
+*/
+private static double __fmod_(double x, double y)
+{
+if(x != x || y != y || x == Double.POSITIVE_INFINITY || y == 0.0) return Double.NaN;
+if(x < y) return x;
+long bx = Double.doubleToRawLongBits(x);
+long by = Double.doubleToRawLongBits(y);
+int ex = (int)(bx >>> 52);
+int ey = (int)(by >>> 52);
+long mx = bx & MANTISSA_MASK;
+long my = by & MANTISSA_MASK;
+/* subnormal values have no implicit bit and the same scale as the smallest exponent. */
+if(ex == 0) ex = 1;
+else mx |= 1L << 52;
+if(ey == 0) ey = 1;
+else my |= 1L << 52;
+long r = mx % my;
+int d = ex - ey;
+while(d > 0 && r != 0L)
+{
+int shift = (d < 10) ? d : 10;
+r = (r << shift) % my;
+d -= shift;
+}
+return scalb((double)r, ey - 1075);
+}
+
+/* private method to get 2^k for -1022 <= k <= 1023 */
+private static double twoPow(int k)
+{
+return Double.longBitsToDouble((long)(k + 1023) << 52);
+}
+
+/*
+* private method to compute the natural logarithm.
+* x = 2^k * m is read from the bits of x, and m is moved to (sqrt(2)/2, sqrt(2)].
+* with f = m - 1 and s = f/(2+f), log(m) = 2*atanh(s) = 2s + s*R, R = 2(s^2/3 + s^4/5 + ...).
+* since 2s = f - s*f, log(m) = f - (f*f/2 - s*(f*f/2 + R)), which keeps the rounding error small.
+*/
+private static double __log_(double x)
+{
+if(x != x || x == Double.POSITIVE_INFINITY) return x;
+if(x < 0.0) return Double.NaN;
+if(x == 0.0) return Double.NEGATIVE_INFINITY;
+int k = 0;
+long bits = Double.doubleToRawLongBits(x);
+if((bits >>> 52) == 0L)
+{
+/* subnormal value, scale it up to a normal one. */
+bits = Double.doubleToRawLongBits(x * twoPow(54));
+k = -54;
+}
+k += (int)(bits >>> 52) - 1023;
+double m = Double.longBitsToDouble((bits & MANTISSA_MASK) | ONE_BITS);
+if(m > SQRT2)
+{
+m *= 0.5;
+k++;
+}
+double f = m - 1.0;
+double s = f / (2.0 + f);
+double s2 = s * s;
+double R = 0.0;
+for(int n = LOG_DEGREE; n > 0; n--)
+{
+R = (R + 2.0 / (double)(2*n+1)) * s2;
+}
+double hfsq = 0.5 * f * f;
+double dk = (double)k;
+return dk * LN2_HI - ((hfsq - (s * (hfsq + R) + dk * LN2_LO)) - f);
+}
+
+/*
+* private method to compute the square root by Newton's method.
+* x = m * 2^(2h), with 1 <= m < 4, so sqrt(x) = sqrt(m) * 2^h.
+* The seed comes from halving the bits of m, which is within 6% of sqrt(m), and 4 Newton steps reach full precision.
+* Then y is correctly rounded if |sqrt(m) - y| <= u/2, where u = ulp(y), that is, if |m - y^2| <= y*u.
+* The residual m - y^2 is computed exactly by splitting y in two halves ( Dekker's product ).
+*/
+private static double __sqrt_(double x)
+{
+if(x != x || x < 0.0) return Double.NaN;
+if(x == 0.0 || x == Double.POSITIVE_INFINITY) return x;
+int k = 0;
+long bits = Double.doubleToRawLongBits(x);
+if((bits >>> 52) == 0L)
+{
+/* subnormal value, scale it up to a normal one. */
+bits = Double.doubleToRawLongBits(x * twoPow(54));
+k = -54;
+}
+k += (int)(bits >>> 52) - 1023;
+int h = k >> 1;
+double m = Double.longBitsToDouble((bits & MANTISSA_MASK) | ONE_BITS) * ((k & 1) == 0 ? 1.0 : 2.0);
+double y = Double.longBitsToDouble((Double.doubleToRawLongBits(m) >>> 1) + (ONE_BITS >>> 1));
+for(int n = 0; n < SQRT_STEPS; n++)
+{
+y = 0.5 * (y + m / y);
+}
+double p = y * y;
+double res = (m - p) - productError(y, y, p);
+double u = twoPow(-52);
+if(res > y * u) y += u;
+else if(res <= -y * u) y -= u;
+return y * twoPow(h);
+}
+
+
+private static final int COS = 0;
+private static final int SIN = 1;
+private static final int TAN = 2;
+private static final int SINCOS = 3;
+private static final int QUADRANT = 4;
+private static final int REDUCED = 5;
+private static final int SERIES_LENGTH = 150;
+private static final int EXP_DEGREE = 13;
+/* package constants, shared with RealVectorOps */
+static final double LN2_HI = 6.93147180369123816490e-01;
+static final double LN2_LO = 1.90821492927058770002e-10;
+static final double INV_LN2 = 1.44269504088896338700e+00;
+private static final double EXP_OVERFLOW = 7.09782712893383973096e+02;
+private static final double EXP_UNDERFLOW = -7.45133219101941108420e+02;
+private static final double EXPM1_UNDERFLOW = -40.0;
+private static final double LN2 = 6.93147180559945286227e-01;
+/* below TINY_HYPERBOLIC sinh, tanh and asinh are x, and past HUGE_HYPERBOLIC, asinh(x) and acosh(x) are log(2x) */
+private static final double TINY_HYPERBOLIC = 3.72529029846191406250e-09;
+private static final double HUGE_HYPERBOLIC = 2.68435456000000000000e+08;
+/* exp(-x) is negligible against exp(x) past this value */
+private static final double HYPERBOLIC_LIMIT = 22.0;
+private static final int LOG_DEGREE = 11;
+private static final double SQRT2 = 1.41421356237309514547e+00;
+private static final double LN10 = 2.30258509299404568402e+00;
+private static final long MANTISSA_MASK = 0x000fffffffffffffL;
+private static final long ONE_BITS = 0x3ff0000000000000L;
+private static final int SQRT_STEPS = 4;
+private static final double SPLITTER = 134217729.0;
+private static final int CBRT_STEPS = 2;
+private static final double HALF_PRECISION = 1.0e-8;
+private static final int ROOT_STEPS = 10;
+private static final int BIT_SEED_INDEX = 16;
+private static final int MAX_ROOT_INDEX = 1000;
+private static final int SIN_DEGREE = 8;
+private static final int COS_DEGREE = 9;
+/* tan polynomial coefficients, and the bounds where tan(y) = y and where pi/4 - |y| is used instead */
+private static final double TINY_TAN = 3.72529029846191406250e-09;
+private static final double TAN_SPLIT = 6.74335479736328125000e-01;
+private static final double PIO4_LO = 3.06161699786838301793e-17;
+private static final double[] TAN_COEFFICIENTS =
+{
+3.33333333333334091986e-01,
+1.33333333333201242699e-01,
+5.39682539762260521377e-02,
+2.18694882948595424599e-02,
+8.86323982359930005737e-03,
+3.59207910759131235356e-03,
+1.45620945432529025516e-03,
+5.88041240820264096874e-04,
+2.46463134818469906812e-04,
+7.81794442939557092300e-05,
+7.14072491382608190305e-05,
+-1.85586374855275456654e-05,
+2.59073051863633712884e-05
+};
+/* atan breakpoints 7/16, 11/16, 19/16, 39/16, atan(1/2), atan(1), atan(3/2), atan(infinity), and polynomial coefficients */
+private static final double TINY_ATAN = 1.86264514923095703125e-09;
+private static final double HUGE_ATAN = 7.37869762948382064640e+19;
+private static final double[] ATAN_BREAK = {0.4375, 0.6875, 1.1875, 2.4375};
+private static final double[] ATAN_HI =
+{
+4.63647609000806093515e-01,
+7.85398163397448278999e-01,
+9.82793723247329054082e-01,
+1.57079632679489655800e+00
+};
+private static final double[] ATAN_LO =
+{
+2.26987774529616870924e-17,
+3.06161699786838301793e-17,
+1.39033110312309984516e-17,
+6.12323399573676603587e-17
+};
+private static final double[] ATAN_COEFFICIENTS =
+{
+3.33333333333329318027e-01,
+-1.99999999998764832476e-01,
+1.42857142725034663711e-01,
+-1.11111104054623557880e-01,
+9.09088713343650656196e-02,
+-7.69187620504482999495e-02,
+6.66107313738753120669e-02,
+-5.83357013379057348645e-02,
+4.97687799461593236017e-02,
+-3.65315727442169155270e-02,
+1.62858201153657823623e-02
+};
+/* pi = PI_HI + 2*PIO2_LO, and coefficients of the rational approximation used by asin and acos */
+private static final double PI_HI = 3.14159265358979311600e+00;
+private static final double TINY_ASIN = 7.45058059692382812500e-09;
+private static final double TINY_ACOS = 6.93889390390722837765e-18;
+private static final double ASIN_SPLIT = 0.975;
+private static final double[] ASIN_P =
+{
+1.66666666666666657415e-01,
+-3.25565818622400915405e-01,
+2.01212532134862925881e-01,
+-4.00555345006794114027e-02,
+7.91534994289814532176e-04,
+3.47933107596021167570e-05
+};
+private static final double[] ASIN_Q =
+{
+-2.40339491173441421878e+00,
+2.02094576023350569471e+00,
+-6.88283971605453293030e-01,
+7.70381505559019352791e-02
+};
+private static final double PIO4 = 7.85398163397448278999e-01;
+/* package constants, shared with RealVectorOps */
+static final double INV_PIO2 = 6.36619772367581382433e-01;
+static final double PIO2_1 = 1.57079632673412561417e+00;
+static final double PIO2_2 = 6.07710050630396597660e-11;
+static final double PIO2_3 = 2.02226624871116645580e-21;
+static final double PIO2_3T = 8.47842766036889956997e-32;
+private static final double PIO2_HI = 1.57079632679489655800e+00;
+private static final double PIO2_LO = 6.12323399573676603587e-17;
+static final double CODY_WAITE_LIMIT = 1647099.0;
+/* bits of 2/pi, 64 per entry, most significant first. */
+private static final long[] TWO_OVER_PI = {
+0xa2f9836e4e441529L, 0xfc2757d1f534ddc0L, 0xdb6295993c439041L, 0xfe5163abdebbc561L,
+0xb7246e3a424dd2e0L, 0x06492eea09d1921cL, 0xfe1deb1cb129a73eL, 0xe88235f52ebb4484L,
+0xe99c7026b45f7e41L, 0x3991d639835339f4L, 0x9c845f8bbdf9283bL, 0x1ff897ffde05980fL,
+0xef2f118b5a0a6d1fL, 0x6d367ecf27cb09b7L, 0x4f463f669e5fea2dL, 0x7527bac7ebe5f17bL,
+0x3d0739f78a5292eaL, 0x6bfb5fb11f8d5d08L, 0x56033046fc7b6babL, 0xf0cfbc209af4361dL
+};
+
+
+/* it goes after the tables above, since they must be initialized before 'pi' is computed. */
+static
+{
+/* Compute 'e' number just once. */
+E = e();
+
+/* compute 'pi' number just once. */
+PI = pi();
+}
+}
+
+// END
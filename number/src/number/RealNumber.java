@@ -283,6 +283,19 @@ public RealNumber fmod(RealNumber r)
 return fmod(this, r);
 }
 
+/**
+* Computes the IEEE remainder between this real number and the one passed as parameter.
+* <p>
+* @param r A <code>RealNumber</code> object.
+* <p>
+* @return this - n*r, where n is the integer nearest to this/r, encapsulated in a <code>RealNumber</code> object.
+*
+*/
+public RealNumber remainder(RealNumber r)
+{
+return remainder(this, r);
+}
+
 /**
 * Gets the sign of this real number.
 * <p>
@@ -474,6 +487,30 @@ public RealNumber sinh()
 return sinh(this);
 }
 
+/**
+* Computes the sine and the cosine of this real number at once.
+* <p>
+* Both values are computed from the same reduced argument.
+* <p>
+* @return a two-slot array of <code>RealNumber</code> objects with the sine at index 0 and the cosine at index 1.
+*
+*/
+public RealNumber[] sincos()
+{
+return sincos(this);
+}
+
+/**
+* Computes the hyperbolic sine and the hyperbolic cosine of this real number at once.
+* <p>
+* @return a two-slot array of <code>RealNumber</code> objects with the hyperbolic sine at index 0 and the hyperbolic cosine at index 1.
+*
+*/
+public RealNumber[] sinhcosh()
+{
+return sinhcosh(this);
+}
+
 /**
 * Computes the hyperbolic tangent of this real number.
 * <p>
@@ -496,6 +533,28 @@ public RealNumber atanh()
 return atanh(this);
 }
 
+/**
+* Computes the hyperbolic arcsine of this real number.
+* <p>
+* @return hyperbolic arcsine encapsulated in a <code>RealNumber</code> object.
+*
+*/
+public RealNumber asinh()
+{
+return asinh(this);
+}
+
+/**
+* Computes the hyperbolic arccosine of this real number.
+* <p>
+* @return hyperbolic arccosine encapsulated in a <code>RealNumber</code> object.
+*
+*/
+public RealNumber acosh()
+{
+return acosh(this);
+}
+
 /**
 * Computes the exponential of this real number.
 * <p>
@@ -613,6 +672,17 @@ public RealNumber sqrt()
 return sqrt(this);
 }
 
+/**
+* Computes the square root of this real number, using Newton's method coded from the scratch.
+* <p>
+* @return square root value encapsulated in a <code>RealNumber</code> object.
+*
+*/
+public RealNumber sqrtNewton()
+{
+return sqrtNewton(this);
+}
+
 /**
 * Computes the cubic root of this real number.
 * <p>
@@ -630,6 +700,98 @@ public RealNumber ithrt(NaturalNumber ithindex)
 return ithrt(this, ithindex);
 }
 
+/**
+* Adds the real number passed as parameter to this one, in place.
+* <p>
+* No new object is made; the result is stored in this object.
+* <p>
+* @param r A <code>RealNumber</code> object.
+* <p>
+* @return this object, holding this + r.
+*
+*/
+public RealNumber addAssign(RealNumber r)
+{
+return add(this, r, this);
+}
+
+/**
+* Substracts the real number passed as parameter from this one, in place.
+* <p>
+* @param r A <code>RealNumber</code> object.
+* <p>
+* @return this object, holding this - r.
+*
+*/
+public RealNumber subAssign(RealNumber r)
+{
+return sub(this, r, this);
+}
+
+/**
+* Multiplies this real number by the one passed as parameter, in place.
+* <p>
+* @param r A <code>RealNumber</code> object.
+* <p>
+* @return this object, holding this * r.
+*
+*/
+public RealNumber mulAssign(RealNumber r)
+{
+return mul(this, r, this);
+}
+
+/**
+* Divides this real number by the one passed as parameter, in place.
+* <p>
+* @param r A <code>RealNumber</code> object.
+* <p>
+* @return this object, holding this / r.
+*
+*/
+public RealNumber divAssign(RealNumber r)
+{
+return div(this, r, this);
+}
+
+/**
+* Adds the product of two real numbers to this one, in place.
+* <p>
+* It is the step of an accumulation loop, sum += a * b, with no new objects and a single rounding.
+* <p>
+* @param a A <code>RealNumber</code> object.
+* @param b A <code>RealNumber</code> object.
+* <p>
+* @return this object, holding this + a * b.
+*
+*/
+public RealNumber fmaAssign(RealNumber a, RealNumber b)
+{
+return fma(a, b, this, this);
+}
+
+/**
+* Negates this real number, in place.
+* <p>
+* @return this object, holding -this.
+*
+*/
+public RealNumber negAssign()
+{
+return neg(this, this);
+}
+
+/**
+* Replaces this real number by its absolute value.
+* <p>
+* @return this object, holding |this|.
+*
+*/
+public RealNumber absAssign()
+{
+return abs(this, this);
+}
+
 /**
 * Gets a clone of this real number.
 * <p>
@@ -683,8 +845,7 @@ return s+_r;
 */
 public static RealNumber decPart(RealNumber r)
 {
-double _int = intPart(r).get();
-return new RealNumber(r.get() - _int);
+return new RealNumber(RealMath.decPart(r.get()));
 }
 
 /**
@@ -697,8 +858,7 @@ return new RealNumber(r.get() - _int);
 */
 public static RealNumber intPart(RealNumber r)
 {
-int _int = (int)r.get();
-return new RealNumber((double)_int);
+return new RealNumber(RealMath.intPart(r.get()));
 }
 
 /**
@@ -773,12 +933,16 @@ return new RealNumber(r1.get() / r2.get());
 */
 public static RealNumber abs(RealNumber r)
 {
-return new RealNumber(HelperFunctions.abs(r.get()));
+return new RealNumber(RealMath.abs(r.get()));
 }
 
 /**
 * Static method to compute the remainder for a division of two floating point numbers.
 * <p>
+* The remainder is computed exactly on the mantissa and exponent bits of both values,
+* <p>
+* so that its cost does not depend on the quotient |r1/r2|.
+* <p>
 * @param r1 A <code>RealNumber</code> object.
 * @param r2 A <code>RealNumber</code> object.
 * <p>
@@ -787,17 +951,27 @@ return new RealNumber(HelperFunctions.abs(r.get()));
 */
 public static RealNumber fmod(RealNumber r1, RealNumber r2)
 {
-	double x2 = r2.get();
-	assert (x2 != 0.0): "RealNumber -> fmod method: divide by 0.";
-	double x1 = r1.get();
-	double s = (sign(x1) != sign(x2)) ? -1.0 : 1.0;
-	x1 = HelperFunctions.abs(x1);
-	x2 = HelperFunctions.abs(x2);
-	while(x1 >= x2)
-	{
-		x1 -= x2;
-	}
-	return new RealNumber(s * x1);
+assert (r2.get() != 0.0): "RealNumber -> fmod method: divide by 0.";
+return new RealNumber(RealMath.fmod(r1.get(), r2.get()));
+}
+
+/**
+* Static method to compute the IEEE remainder for a division of two floating point numbers.
+* <p>
+* The result is r1 - n*r2, where n is the integer nearest to r1/r2 ( the even one on a tie ).
+* <p>
+* So, unlike <code>fmod</code>, the result lies in [-|r2|/2, |r2|/2].
+* <p>
+* @param r1 A <code>RealNumber</code> object.
+* @param r2 A <code>RealNumber</code> object.
+* <p>
+* @return remainder encapsulated in a <code>RealNumber</code> object.
+*
+*/
+public static RealNumber remainder(RealNumber r1, RealNumber r2)
+{
+assert (r2.get() != 0.0): "RealNumber -> remainder method: divide by 0.";
+return new RealNumber(RealMath.remainder(r1.get(), r2.get()));
 }
 
 /**
@@ -810,7 +984,7 @@ public static RealNumber fmod(RealNumber r1, RealNumber r2)
 */
 public static RealNumber sign(RealNumber r)
 {
-return new RealNumber(sign(r.get()));
+return new RealNumber(RealMath.sign(r.get()));
 }
 
 /**
@@ -837,12 +1011,7 @@ return new RealNumber(-x);
 */
 public static RealNumber ceil(RealNumber r)
 {
-	double v = r.get();
-double x = decPart(r).abs().get();
-if(x == 0) return new RealNumber((double)((int)v));
-double _sign = r.sign().get();
-double z = (_sign < 0.0) ? (double)((int)v) : (double)((int)v) + 1.0;
-return new RealNumber(z);
+return new RealNumber(RealMath.ceil(r.get()));
 }
 
 /**
@@ -855,12 +1024,7 @@ return new RealNumber(z);
 */
 public static RealNumber floor(RealNumber r)
 {
-double v = r.get();
-double x = decPart(r).abs().get();
-if(x == 0.0) return new RealNumber((double)((int)v));
-double _sign = r.sign().get();
-double z = (_sign < 0.0) ? (double)((int)v)-1.0 : (double)((int)v);
-return new RealNumber(z);
+return new RealNumber(RealMath.floor(r.get()));
 }
 
 /**
@@ -873,14 +1037,7 @@ return new RealNumber(z);
 */
 public static RealNumber round(RealNumber r)
 {
-	if(r.get() == 0.0) return new RealNumber(0.0);
-double x = decPart(r).abs().get();
-if(x == 0.0) return intPart(r);
- if(r.get() > 0.0)
- {
-	 return (x >= 0.5) ? ceil(r) : floor(r);
- }
- return (x >= 0.5) ? floor(r) : ceil(r);
+return new RealNumber(RealMath.round(r.get()));
 }
 
 /**
@@ -893,9 +1050,7 @@ if(x == 0.0) return intPart(r);
 */
 public static RealNumber toDegrees(RealNumber r)
 {
-double radians = r.get();
-double degrees = radians * 180.0 / pi;
-return new RealNumber(degrees);
+return new RealNumber(RealMath.toDegrees(r.get()));
 }
 
 /**
@@ -908,9 +1063,7 @@ return new RealNumber(degrees);
 */
 public static RealNumber toRadians(RealNumber r)
 {
-double degrees = r.get();
-double radians = degrees * pi / 180.0;
-return new RealNumber(radians);
+return new RealNumber(RealMath.toRadians(r.get()));
 }
 
 /**
@@ -924,10 +1077,7 @@ return new RealNumber(radians);
 */
 public static RealNumber max(RealNumber r1, RealNumber r2)
 {
-	double x = r1.get();
-	double y = r2.get();
-	double _max = (x >= y) ? x : y;
-	return new RealNumber(_max);
+return new RealNumber(RealMath.max(r1.get(), r2.get()));
 }
 
 /**
@@ -941,10 +1091,7 @@ public static RealNumber max(RealNumber r1, RealNumber r2)
 */
 public static RealNumber min(RealNumber r1, RealNumber r2)
 {
-double x = r1.get();
-double y = r2.get();
-double _min = (x < y) ? x : y;
-return new RealNumber(_min);
+return new RealNumber(RealMath.min(r1.get(), r2.get()));
 }
 
 /**
@@ -952,6 +1099,10 @@ return new RealNumber(_min);
 * <p>
 * This method returns a real value thus, we can compute factorials for bigger values.
 * <p>
+* The values are read from a table built just once, so the cost does not depend on z.
+* <p>
+* Notice that z! does not fit in a double for z &gt; 170.
+* <p>
 * @param z A <code>IntegerNumber</code> object.
 * <p>
 * @return factorial value encapsulated in a <code>RealNumber</code> object.
@@ -959,8 +1110,45 @@ return new RealNumber(_min);
 */
 public static RealNumber factorial(IntegerNumber z)
 {
-double f = factorial(z.get());
-return new RealNumber(f);
+int n = z.get();
+assert (n >= 0): "RealNumber -> factorial method: parameter must be >= 0.";
+assert (n <= HelperFunctions.MAX_FACTORIAL): "RealNumber -> factorial method: z! overflows to infinity for z > 170.";
+return new RealNumber(RealMath.factorial(n));
+}
+
+/**
+* Computes the reciprocal of the factorial, that is 1/z!.
+* <p>
+* The values are read from a table built just once.
+* <p>
+* For z &gt; 170, the result underflows to zero.
+* <p>
+* @param z A <code>IntegerNumber</code> object.
+* <p>
+* @return 1/z! value encapsulated in a <code>RealNumber</code> object.
+*
+*/
+public static RealNumber inverseFactorial(IntegerNumber z)
+{
+assert (z.get() >= 0): "RealNumber -> inverseFactorial method: parameter must be >= 0.";
+return new RealNumber(RealMath.inverseFactorial(z.get()));
+}
+
+/**
+* Computes the binomial coefficient n over k, that is n! / (k! * (n-k)!).
+* <p>
+* For n &lt;= 170 the values are read from a Pascal's triangle built just once.
+* <p>
+* @param n A <code>IntegerNumber</code> object.
+* @param k A <code>IntegerNumber</code> object.
+* <p>
+* @return binomial coefficient encapsulated in a <code>RealNumber</code> object; it is zero when k &lt; 0 or k &gt; n.
+*
+*/
+public static RealNumber binomial(IntegerNumber n, IntegerNumber k)
+{
+assert (n.get() >= 0): "RealNumber -> binomial method: n must be >= 0.";
+return new RealNumber(RealMath.binomial(n.get(), k.get()));
 }
 
 /**
@@ -978,7 +1166,7 @@ return new RealNumber(f);
 */
 public static RealNumber hypot(RealNumber r1, RealNumber r2)
 {
-return sqrt(add(square(r1), square(r2)));
+return new RealNumber(RealMath.hypot(r1.get(), r2.get()));
 }
 
 /**
@@ -991,7 +1179,7 @@ return sqrt(add(square(r1), square(r2)));
 */
 public static RealNumber cos(RealNumber r)
 {
-return sincos(r, COS);
+return new RealNumber(RealMath.cos(r.get()));
 }
 
 /**
@@ -1004,12 +1192,54 @@ return sincos(r, COS);
 */
 public static RealNumber sin(RealNumber r)
 {
-return sincos(r, SIN);
+return new RealNumber(RealMath.sin(r.get()));
+}
+
+/**
+* Static method to compute the sine and the cosine of an angle expressed in radians at once.
+* <p>
+* Both values are computed from the same reduced angle, in the first octant,
+* <p>
+* so it is cheaper than calling <code>sin</code> and <code>cos</code> one after the other.
+* <p>
+* The results are stored in the holders passed as parameters, so no new objects are made.
+* <p>
+* @param r A <code>RealNumber</code> object, with the value of the angle expressed in radians.
+* @param sin A <code>RealNumber</code> object to store the sine.
+* @param cos A <code>RealNumber</code> object to store the cosine.
+*
+*/
+public static void sincos(RealNumber r, RealNumber sin, RealNumber cos)
+{
+double x = r.get();
+int n = RealMath.quadrant(x);
+double y = RealMath.reduced(x);
+sin.set(RealMath.sinReduced(y, n));
+cos.set(RealMath.cosReduced(y, n));
+}
+
+/**
+* Static method to compute the sine and the cosine of an angle expressed in radians at once.
+* <p>
+* @param r A <code>RealNumber</code> object, with the value of the angle expressed in radians.
+* <p>
+* @return a two-slot array of <code>RealNumber</code> objects with the sine at index 0 and the cosine at index 1.
+*
+*/
+public static RealNumber[] sincos(RealNumber r)
+{
+RealNumber[] sc = {new RealNumber(), new RealNumber()};
+sincos(r, sc[0], sc[1]);
+return sc;
 }
 
 /**
 * Static method to compute the arccosine for a value expressed in radians.
 * <p>
+* Near 0, acos(x) = pi/2 - asin(x); near 1 and -1 it is computed from the half angle,
+* <p>
+* acos(x) = 2*asin(sqrt((1-x)/2)), so that no precision is lost where acos is close to 0 or to pi.
+* <p>
 * @param r A <code>RealNumber</code> object, with the value expressed in radians.
 * <p>
 * @return arccosine value encapsulated in a <code>RealNumber</code> object.
@@ -1017,13 +1247,20 @@ return sincos(r, SIN);
 */
 public static RealNumber acos(RealNumber r)
 {
-double _acos = pi/2.0-asin(r).get();
-return new RealNumber(_acos);
+double x = r.get();
+assert (x >= -1.0 && x <= 1.0): "RealNumber -> acos method: parameter must be in the range [-1, 1].";
+return new RealNumber(RealMath.acos(x));
 }
 
 /**
 * Static method to compute the arcsine for a value expressed in radians.
 * <p>
+* For |x| &lt; 1/2, asin(x) = x + x*R(x^2), where R is a short rational approximation.
+* <p>
+* Otherwise, the half angle identity asin(x) = pi/2 - 2*asin(sqrt((1-x)/2)) brings the argument back below 1/2,
+* <p>
+* so the latency is bounded and the result is accurate up to |x| = 1.
+* <p>
 * @param r A <code>RealNumber</code> object, with the value expressed in radians.
 * <p>
 * @return arcsine value encapsulated in a <code>RealNumber</code> object.
@@ -1032,19 +1269,17 @@ return new RealNumber(_acos);
 public static RealNumber asin(RealNumber r)
 {
 double x = r.get();
-if(x == 1.0) return new RealNumber(pi/2.0);
-if(x == -1.0) return new RealNumber(-pi/2.0);
-double _asin = 0.0;
-for(int n = 0; n < SERIES_LENGTH-70; n++)
-{
-	_asin += (factorial(2*n)*HelperFunctions.pow(x, 2*n+1)) / (HelperFunctions.pow(4.0, n)*(double)(2*n+1)*square(factorial(n)));
-}
-return new RealNumber(_asin);
+assert (x >= -1.0 && x <= 1.0): "RealNumber -> asin method: parameter must be in the range [-1, 1].";
+return new RealNumber(RealMath.asin(x));
 }
 
 /**
 * Static method to compute the tangent for the value passed as parameter.
 * <p>
+* The argument is reduced once to x = n*pi/2 + y, with |y| &lt;= pi/4, and tan(y) comes from a short odd polynomial.
+* <p>
+* For odd n, tan(x) = -1/tan(y), so no sine nor cosine is needed.
+* <p>
 * @param r A <code>RealNumber</code> object.
 * <p>
 * @return tangent value encapsulated in a <code>RealNumber</code> object.
@@ -1052,12 +1287,16 @@ return new RealNumber(_asin);
 */
 public static RealNumber tan(RealNumber r)
 {
-return div(sin(r), cos(r));
+return new RealNumber(RealMath.tan(r.get()));
 }
 
 /**
 * Static method to compute the arctangent of a value.
 * <p>
+* The argument is reduced with atan(x) = atan(c) + atan((x-c)/(1+x*c)), where c is the nearest of the breakpoints 0, 1/2, 1, 3/2 and infinity,
+* <p>
+* and atan(c) is taken from a table, so that only a short odd polynomial is needed for the rest.
+* <p>
 * @param r A <code>RealNumber</code> object.
 * <p>
 * @return arctangent value encapsulated in a <code>RealNumber</code> object.
@@ -1065,33 +1304,25 @@ return div(sin(r), cos(r));
 */
 public static RealNumber atan(RealNumber r)
 {
-	double x = r.get();
-	if(HelperFunctions.abs(x) < 1.0) return new RealNumber(__atan_(x));
-	/*
-	* According Euler's proog:
-	* 1/sqrt(1+x^2) = cos( atan(x) )
-	*/
-	double y = 1.0 / sqrt(add(new RealNumber(1.0), square(r))).get();
-	/*
-	* thus, acos(1/sqrt(1+z^2)) = atan(x)
-	*/
-	return mul(r.sign(), acos(new RealNumber(y)));
+return new RealNumber(RealMath.atan(r.get()));
 }
 
 /**
-* Static method to compute the arctangent, like as in the <code>atan</code> method, but this time taken two parameters.
+* Static method to compute the arctangent of r1/r2, using the signs of both to find the quadrant.
 * <p>
-* @param r1 A <code>RealNumber</code> object.
-* @param r2 A <code>RealNumber</code> object.
+* The result is in the range [-pi, pi]: it is the angle of the point (r2, r1) respect to the positive x axis.
 * <p>
-* @return result encapsulated in a <code>RealNumber</code> object.
+* Signed zeros are taken into account, so atan2(0, -1) = pi and atan2(-0, -1) = -pi.
+* <p>
+* @param r1 A <code>RealNumber</code> object, with the y coordinate.
+* @param r2 A <code>RealNumber</code> object, with the x coordinate.
+* <p>
+* @return arctangent value encapsulated in a <code>RealNumber</code> object.
 *
 */
 public static RealNumber atan2(RealNumber r1, RealNumber r2)
 {
-	if(r2.get() == 0.0) return mul(r1.sign(), new RealNumber(pi/2.0));
-	RealNumber r = abs(div(r1, r2));
-	return mul(r1.sign(),atan(r));
+return new RealNumber(RealMath.atan2(r1.get(), r2.get()));
 }
 
 /**
@@ -1104,7 +1335,7 @@ public static RealNumber atan2(RealNumber r1, RealNumber r2)
 */
 public static RealNumber cosh(RealNumber r)
 {
-return sincosh(r, COS);
+return new RealNumber(RealMath.cosh(r.get()));
 }
 
 /**
@@ -1117,7 +1348,42 @@ return sincosh(r, COS);
 */
 public static RealNumber sinh(RealNumber r)
 {
-return sincosh(r, SIN);
+return new RealNumber(RealMath.sinh(r.get()));
+}
+
+/**
+* Static method to compute the hyperbolic sine and the hyperbolic cosine of a real number at once.
+* <p>
+* Both values come out of the same exponential evaluation.
+* <p>
+* The results are stored in the holders passed as parameters, so no new objects are made.
+* <p>
+* @param r A <code>RealNumber</code> object.
+* @param sinh A <code>RealNumber</code> object to store the hyperbolic sine.
+* @param cosh A <code>RealNumber</code> object to store the hyperbolic cosine.
+*
+*/
+public static void sinhcosh(RealNumber r, RealNumber sinh, RealNumber cosh)
+{
+double x = r.get();
+double h = RealMath.hyperbolic(x);
+sinh.set(RealMath.sinhOf(x, h));
+cosh.set(RealMath.coshOf(x, h));
+}
+
+/**
+* Static method to compute the hyperbolic sine and the hyperbolic cosine of a real number at once.
+* <p>
+* @param r A <code>RealNumber</code> object.
+* <p>
+* @return a two-slot array of <code>RealNumber</code> objects with the hyperbolic sine at index 0 and the hyperbolic cosine at index 1.
+*
+*/
+public static RealNumber[] sinhcosh(RealNumber r)
+{
+RealNumber[] sc = {new RealNumber(), new RealNumber()};
+sinhcosh(r, sc[0], sc[1]);
+return sc;
 }
 
 /**
@@ -1130,7 +1396,7 @@ return sincosh(r, SIN);
 */
 public static RealNumber tanh(RealNumber r)
 {
-return div(sinh(r), cosh(r));
+return new RealNumber(RealMath.tanh(r.get()));
 }
 
 /**
@@ -1138,18 +1404,46 @@ return div(sinh(r), cosh(r));
 * <p>
 * @param r A <code>RealNumber</code> object.
 * <p>
-* @return hyperbolic tangent value encapsulated in a <code>RealNumber</code> object.
+* @return hyperbolic arctangent value encapsulated in a <code>RealNumber</code> object.
 *
 */
 public static RealNumber atanh(RealNumber r)
 {
 double x = r.get();
-double _atanh = 0.0;
-for(int n = 1; n < SERIES_LENGTH; n+=2)
+assert (x >= -1.0 && x <= 1.0): "RealNumber -> atanh method: parameter must be in the range [-1, 1].";
+return new RealNumber(RealMath.atanh(x));
+}
+
+/**
+* Static method to compute the hyperbolic arcsine of a real number.
+* <p>
+* asinh(x) = log(x + sqrt(x^2+1)), rewritten so that no cancellation happens for negative or small values.
+* <p>
+* @param r A <code>RealNumber</code> object.
+* <p>
+* @return hyperbolic arcsine value encapsulated in a <code>RealNumber</code> object.
+*
+*/
+public static RealNumber asinh(RealNumber r)
 {
-	_atanh += HelperFunctions.pow(x, n)/(double )n;
+return new RealNumber(RealMath.asinh(r.get()));
 }
-return new RealNumber(_atanh);
+
+/**
+* Static method to compute the hyperbolic arccosine of a real number.
+* <p>
+* acosh(x) = log(x + sqrt(x^2-1)), for x &gt;= 1.
+* <p>
+* @param r A <code>RealNumber</code> object.
+* <p>
+* @return hyperbolic arccosine value encapsulated in a <code>RealNumber</code> object.
+*
+*/
+public static RealNumber acosh(RealNumber r)
+{
+double x = r.get();
+assert (x >= 1.0): "RealNumber -> acosh method: parameter must be greater or equal than one.";
+return new RealNumber(RealMath.acosh(x));
 }
 
 
@@ -1160,6 +1454,12 @@ return new RealNumber(_atanh);
 * <p>
 * Where 'log' is the natural logarithm function.
 * <p>
+* The argument is reduced as x = k*ln(2) + r, with |r| &lt;= ln(2)/2,
+* <p>
+* so that exp(x) = 2^k * exp(r), where exp(r) is a short Taylor polynomial evaluated in Horner form
+* <p>
+* and 2^k is built directly from the exponent bits of a double.
+* <p>
 * @param r A <code>RealNumber</code> object to compute its exponential.
 * <p>
 * @return exponential of r.
@@ -1167,12 +1467,7 @@ return new RealNumber(_atanh);
 */
 public static RealNumber exp(RealNumber r)
 {
-double _exp = 0.0;
-for(int n = 0; n <= SERIES_LENGTH; n++)
-{
-_exp += HelperFunctions.pow(r.get(), n) / factorial(n);
-}
-return new RealNumber(_exp);
+return new RealNumber(RealMath.exp(r.get()));
 }
 
 /**
@@ -1192,6 +1487,10 @@ return new RealNumber(_exp);
 * <p>
 * log2(8) = log(8)/log(2) = 3
 * <p>
+* The value is decomposed from its bits as x = 2^k * m, with sqrt(2)/2 &lt; m &lt;= sqrt(2),
+* <p>
+* so that log(x) = k*log(2) + log(m), where log(m) = 2*atanh((m-1)/(m+1)) is a short odd series.
+* <p>
 * @param r A <code>RealNumber</code> object.
 * <p>
 * @return logarithm value encapsulated in a <code>RealNumber</code> object.
@@ -1200,16 +1499,8 @@ return new RealNumber(_exp);
 public static RealNumber log(RealNumber r)
 {
 double x = r.get();
-if(x <= 100.0) return __log_(r);
-double _count = 0.0;
-double d = 100.0;
-while(x >= d)
-{
-x /= d;
-_count += 1.0;
-}
-double _log = __log_(new RealNumber(100.0)).get() * _count + __log_(new RealNumber(x)).get();
-return new RealNumber(_log);
+assert (x > 0.0): "RealNumber -> log method: parameter must be greater than zero.";
+return new RealNumber(RealMath.log(x));
 }
 
 /**
@@ -1224,7 +1515,9 @@ return new RealNumber(_log);
 */
 public static RealNumber log2(RealNumber r)
 {
-return div(log(r), log(new RealNumber(2.0)));
+double x = r.get();
+assert (x > 0.0): "RealNumber -> log2 method: parameter must be greater than zero.";
+return new RealNumber(RealMath.log2(x));
 }
 
 /**
@@ -1239,7 +1532,9 @@ return div(log(r), log(new RealNumber(2.0)));
 */
 public static RealNumber log10(RealNumber r)
 {
-return div(log(r), log(new RealNumber(10.0)));
+double x = r.get();
+assert (x > 0.0): "RealNumber -> log10 method: parameter must be greater than zero.";
+return new RealNumber(RealMath.log10(x));
 }
 
 /**
@@ -1265,12 +1560,7 @@ return div(log(r), log(new RealNumber(10.0)));
 */
 public static RealNumber pow(RealNumber base, RealNumber exp)
 {
-	double x = base.get();
-	double y = exp.get();
-	if(x == 0.0) return new RealNumber(0.0);
-	if(y == 0.0) return new RealNumber(1.0);
-	if(x < 0.0 || y < 0.0) return pow(base, new IntegerNumber((int)y));
-	return exp(mul(log(base), exp));
+return new RealNumber(RealMath.pow(base.get(), exp.get()));
 }
 
 /**
@@ -1286,8 +1576,8 @@ public static RealNumber pow(RealNumber base, RationalNumber exp)
 {
 	double x = base.get();
 	double y = getValue(exp);
-	if(x < 0 || y < 0) return pow(base, new IntegerNumber((int)y));
-	return pow(base, new RealNumber(y));
+	if(x < 0 || y < 0) return new RealNumber(RealMath.pow(x, (int)y));
+	return new RealNumber(RealMath.pow(x, y));
 }
 
 /**
@@ -1301,7 +1591,7 @@ public static RealNumber pow(RealNumber base, RationalNumber exp)
 */
 public static RealNumber pow(RealNumber base, IntegerNumber exp)
 {
-return new RealNumber(HelperFunctions.pow(base.get(), exp.get()));
+return new RealNumber(RealMath.pow(base.get(), exp.get()));
 }
 
 /**
@@ -1328,8 +1618,7 @@ return pow(base, new IntegerNumber(exp.get()));
 */
 public static RealNumber square(RealNumber r)
 {
-double x = r.get();
-return new RealNumber(x * x);
+return new RealNumber(RealMath.square(r.get()));
 }
 
 /**
@@ -1342,9 +1631,30 @@ return new RealNumber(x * x);
 */
 public static RealNumber sqrt(RealNumber r)
 {
-	double x = r.get();
-	assert (x >= 0.0): "RealNumber -> sqrt method: Bad parameter value. It must be >= 0.";
-return pow(r, new RealNumber(1.0/2.0));
+double x = r.get();
+assert (x >= 0.0): "RealNumber -> sqrt method: Bad parameter value. It must be >= 0.";
+return new RealNumber(RealMath.sqrt(x));
+}
+
+/**
+* Static method to compute the square root of a real number, using Newton's method coded from the scratch.
+* <p>
+* The seed is taken by halving the exponent bits of the value, and a few Newton steps y = (y + x/y)/2 refine it.
+* <p>
+* A last step computes the exact residual x - y^2, so that the result is correctly rounded,
+* <p>
+* that is, the same value returned by the <code>sqrt</code> method.
+* <p>
+* @param r A <code>RealNumber</code> object.
+* <p>
+* @return square root value encapsulated in a <code>RealNumber</code> object.
+*
+*/
+public static RealNumber sqrtNewton(RealNumber r)
+{
+double x = r.get();
+assert (x >= 0.0): "RealNumber -> sqrtNewton method: Bad parameter value. It must be >= 0.";
+return new RealNumber(RealMath.sqrtNewton(x));
 }
 
 /**
@@ -1352,6 +1662,8 @@ return pow(r, new RealNumber(1.0/2.0));
 * <p>
 * Notice that, since a cubic root has an odd index, it can be take negative values as parameter.
 * <p>
+* The root is seeded by dividing the exponent bits by 3 and refined with Halley's method, so perfect cubes give exact results.
+* <p>
 * @param r A <code>RealNumber</code> object.
 * <p>
 * @return square root value encapsulated in a <code>RealNumber</code> object.
@@ -1359,7 +1671,7 @@ return pow(r, new RealNumber(1.0/2.0));
 */
 public static RealNumber curt(RealNumber r)
 {
-	return mul(r.sign(), pow(r.abs(), new RealNumber(1.0/3.0)));
+return new RealNumber(RealMath.curt(r.get()));
 }
 
 /**
@@ -1371,6 +1683,8 @@ public static RealNumber curt(RealNumber r)
 * <p>
 * Even the given range, it is useful just to [2 .. n].
 * <p>
+* The root is seeded by dividing the exponent bits by the index and refined with Halley's method, so perfect powers give exact results.
+* <p>
 * @param x A <code>RealNumber</code> object.
 * @param ithindex A <code>Natural Number</code> object.
 * <p>
@@ -1379,112 +1693,125 @@ public static RealNumber curt(RealNumber r)
 */
 public static RealNumber ithrt(RealNumber x, NaturalNumber ithindex)
 {
-	double _sign = x.sign().get();
-	int n = ithindex.get();
-	if(n % 2 == 0 && _sign == -1.0) assert(false): "RealNumber -> ithrt method: not defined for negative values of x when the index of the radical is odd.";
-return mul(x.sign(), pow(x.abs(), new RealNumber(1.0/(double)n)));
-
+double v = x.get();
+int n = ithindex.get();
+assert (n % 2 != 0 || v >= 0.0): "RealNumber -> ithrt method: not defined for negative values of x when the index of the radical is even.";
+return new RealNumber(RealMath.ithrt(v, n));
 }
 
-/* private method to get the sign of a real number. */
-private static double sign(double x)
-{
-return (x < 0.0) ? -1.0 : 1.0;
-}
-
-/*
-* Compute e by using the Euler's method.
-* e = 1/ f(0)+1/f(1) + 1/f(2) + 1/f(3) + 1/f(4) ...
-* where f(n) is the factorial function.
+/**
+* Static method to add two real numbers, storing the result in a given object.
+* <p>
+* The destination can be any of the operands, and no new object is made.
+* <p>
+* @param r1 A <code>RealNumber</code> object.
+* @param r2 A <code>RealNumber</code> object.
+* @param dst A <code>RealNumber</code> object to store the result.
+* <p>
+* @return dst, holding r1 + r2.
+*
 */
-private static double e()
+public static RealNumber add(RealNumber r1, RealNumber r2, RealNumber dst)
 {
-double _e = 0.0;
-for(int i = 0; i <= SERIES_LENGTH; i++)
-{
-_e += 1.0 / factorial(i);
-}
-return _e;
+dst.set(r1.get() + r2.get());
+return dst;
 }
 
-/* private method to compute the 'pi' constant. */
-private static double pi()
+/**
+* Static method to substract two real numbers, storing the result in a given object.
+* <p>
+* @param r1 A <code>RealNumber</code> object.
+* @param r2 A <code>RealNumber</code> object.
+* @param dst A <code>RealNumber</code> object to store the result.
+* <p>
+* @return dst, holding r1 - r2.
+*
+*/
+public static RealNumber sub(RealNumber r1, RealNumber r2, RealNumber dst)
 {
-return 4.0*(5.0*__atan_(1.0/7.0) + 2.0*__atan_(3.0/79.0));
+dst.set(r1.get() - r2.get());
+return dst;
 }
 
-/* convenient private method to compute factorial returning a double value */
-private static double factorial(int n)
+/**
+* Static method to multiply two real numbers, storing the result in a given object.
+* <p>
+* @param r1 A <code>RealNumber</code> object.
+* @param r2 A <code>RealNumber</code> object.
+* @param dst A <code>RealNumber</code> object to store the result.
+* <p>
+* @return dst, holding r1 * r2.
+*
+*/
+public static RealNumber mul(RealNumber r1, RealNumber r2, RealNumber dst)
 {
-if(n == 0) return 1.0;
-if(n == 1) return 1.0;
-return (double)n*factorial(n-1);
+dst.set(r1.get() * r2.get());
+return dst;
 }
 
-/* private method to compute the sine or cosine given an extra parameter */
-private static RealNumber sincos(RealNumber r, int type)
-{
-double x = fmod(r, new RealNumber(2.0*pi)).get();
-double _sincos = 0.0;
-double sign = 1.0;
-int n = type;
-while(n < SERIES_LENGTH)
-{
-_sincos += sign * HelperFunctions.pow(x, n) / factorial(n);
-sign *= -1.0;
-n += 2;
-}
-return new RealNumber(_sincos);
-}
-
-/* private method to compute the hyperbolic sine or cosine given a extra parameter. */
-private static RealNumber sincosh(RealNumber r, int type)
-{
-double x = fmod(r, new RealNumber(2.0*pi)).get();
-double _sincosh = 0.0;
-int n = type;
-while(n < SERIES_LENGTH)
+/**
+* Static method to divide two real numbers, storing the result in a given object.
+* <p>
+* @param r1 A <code>RealNumber</code> object.
+* @param r2 A <code>RealNumber</code> object.
+* @param dst A <code>RealNumber</code> object to store the result.
+* <p>
+* @return dst, holding r1 / r2.
+*
+*/
+public static RealNumber div(RealNumber r1, RealNumber r2, RealNumber dst)
 {
-_sincosh += HelperFunctions.pow(x, n) / factorial(n);
-n += 2;
-}
-return new RealNumber(_sincosh);
+	double x = r2.get();
+assert (x != 0.0): "RealNumber -> nethod div: divisor must be != 0";
+dst.set(r1.get() / x);
+return dst;
 }
 
-/* private method to compute the arctangent for abs(x) < 1.0 */
-private static double __atan_(double x)
-{
-double _atan = 0.0;
-double sign = 1.0;
-for(int n = 1; n < SERIES_LENGTH; n+=2)
+/**
+* Static method to compute r1 * r2 + r3 with a single rounding, storing the result in a given object.
+* <p>
+* @param r1 A <code>RealNumber</code> object.
+* @param r2 A <code>RealNumber</code> object.
+* @param r3 A <code>RealNumber</code> object.
+* @param dst A <code>RealNumber</code> object to store the result.
+* <p>
+* @return dst, holding r1 * r2 + r3.
+*
+*/
+public static RealNumber fma(RealNumber r1, RealNumber r2, RealNumber r3, RealNumber dst)
 {
-_atan += sign * HelperFunctions.pow(x, n) / (double )n;
-sign *= -1.0;
-}
-return _atan;
+dst.set(Math.fma(r1.get(), r2.get(), r3.get()));
+return dst;
 }
 
-/* private method to compute the natural logarithm for x <= 100 */
-private static RealNumber __log_(RealNumber r)
+/**
+* Static method to negate a real number, storing the result in a given object.
+* <p>
+* @param r A <code>RealNumber</code> object.
+* @param dst A <code>RealNumber</code> object to store the result.
+* <p>
+* @return dst, holding -r.
+*
+*/
+public static RealNumber neg(RealNumber r, RealNumber dst)
 {
-	double x = r.get();
-	assert (x > 0.0): "RealNumber -> log method: parameter must be greater than zero.";
-	RealNumber _r_ = new RealNumber();
-	double aux = x - 1.0;
-	double _log = aux;
-	for(int n = 0; n <= SERIES_LENGTH; n++)
-	{
-		_r_.set(aux);
-	_log = aux + 2.0 * (x - exp(_r_).get()) / (x + exp(_r_).get());
-	aux = _log;
-	}
-return new RealNumber(_log);
+dst.set(-r.get());
+return dst;
 }
 
-/* private convenient method to compute the square of a real value. */
-private static double square(double x)
+/**
+* Static method to get the absolute value of a real number, storing the result in a given object.
+* <p>
+* @param r A <code>RealNumber</code> object.
+* @param dst A <code>RealNumber</code> object to store the result.
+* <p>
+* @return dst, holding |r|.
+*
+*/
+public static RealNumber abs(RealNumber r, RealNumber dst)
 {
-return x*x;
+dst.set(RealMath.abs(r.get()));
+return dst;
 }
 
 /* private method to compute the value of a rational number. */
@@ -1496,20 +1823,15 @@ return (double)q.getNumerator() / (double)q.getDenominator();
 }
 
 
+private double _r;
+
+
 static
 {
-	/* Compute 'e' number just once. */
-e = e();
-
-/* compute 'pi' number just once. */
-pi = pi();
+	/* the constants are computed just once, by the <code>RealMath</code> class. */
+e = RealMath.E;
+pi = RealMath.PI;
 }
-
-
-private double _r;
-private static final int COS = 0;
-private static final int SIN = 1;
-private static final int SERIES_LENGTH = 150;
 }
 
 // END
@@ -0,0 +1,457 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* RealVectorOps.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+/**
+* The <code>RealVectorOps</code> class evaluates the functions of the <code>RealMath</code> class over arrays of doubles.
+* <p>
+* The arrays are processed in blocks of a few hundreds of values. Every block is first scanned,
+* <p>
+* and when all its values lie in the usual range, a branch-free kernel is applied to the whole block:
+* <p>
+* the range reduction and the polynomial are written as straight-line code, so the JIT compiler can turn the loop into SIMD instructions.
+* <p>
+* Blocks holding special values ( huge arguments, NaN, infinity, subnormals ... ) are evaluated one value at a time by the <code>RealMath</code> class.
+* <p>
+* The kernels use the same reduction, rounding and polynomials as the scalar methods, so the results are the same, bit for bit.
+* <p>
+* The destination array can be the same as the source one.
+* <p>
+* example:
+* <p>
+* <code>RealVectorOps.exp(x, y, 0, x.length);</code>
+* <p>
+* This class uses assertions, so you must be use the '-ea' modifier when executing, in order to enable assertions.
+* <p>
+* example:
+* <p>
+* <code>java -ea MyApp</code>
+*
+*/
+public final class RealVectorOps
+{
+
+/* private constructor, since this class only has static methods. */
+private RealVectorOps()
+{
+}
+
+/**
+* Computes the exponential of len values.
+* <p>
+* @param src array with the values.
+* @param dst array to store the results.
+* @param off index of the first value.
+* @param len number of values.
+*
+*/
+public static void exp(double[] src, double[] dst, int off, int len)
+{
+assert inRange(src, dst, off, len): "RealVectorOps -> exp method: the range [off, off+len) is out of the bounds of the arrays.";
+int end = off + len;
+double[] w = new double[2 * BLOCK];
+for(int from = off; from < end; from += BLOCK)
+{
+int to = Math.min(from + BLOCK, end);
+if(allBelow(src, from, to, EXP_LIMIT_BITS)) expKernel(src, dst, w, from, to - from);
+else for(int i = from; i < to; i++) dst[i] = RealMath.exp(src[i]);
+}
+}
+
+/**
+* Computes the natural logarithm of len values.
+* <p>
+* @param src array with the values, all of them &gt; 0.
+* @param dst array to store the results.
+* @param off index of the first value.
+* @param len number of values.
+*
+*/
+public static void log(double[] src, double[] dst, int off, int len)
+{
+assert inRange(src, dst, off, len): "RealVectorOps -> log method: the range [off, off+len) is out of the bounds of the arrays.";
+int end = off + len;
+double[] w = new double[2 * BLOCK];
+for(int from = off; from < end; from += BLOCK)
+{
+int to = Math.min(from + BLOCK, end);
+if(allNormal(src, from, to)) logKernel(src, dst, w, from, to - from);
+else for(int i = from; i < to; i++) dst[i] = RealMath.log(src[i]);
+}
+}
+
+/**
+* Computes the sine of len angles expressed in radians.
+* <p>
+* @param src array with the angles.
+* @param dst array to store the results.
+* @param off index of the first value.
+* @param len number of values.
+*
+*/
+public static void sin(double[] src, double[] dst, int off, int len)
+{
+assert inRange(src, dst, off, len): "RealVectorOps -> sin method: the range [off, off+len) is out of the bounds of the arrays.";
+int end = off + len;
+double[] w = new double[3 * BLOCK];
+for(int from = off; from < end; from += BLOCK)
+{
+int to = Math.min(from + BLOCK, end);
+if(allBelow(src, from, to, TRIG_LIMIT_BITS)) sinKernel(src, dst, w, from, to - from, 0);
+else for(int i = from; i < to; i++) dst[i] = RealMath.sin(src[i]);
+}
+}
+
+/**
+* Computes the cosine of len angles expressed in radians.
+* <p>
+* @param src array with the angles.
+* @param dst array to store the results.
+* @param off index of the first value.
+* @param len number of values.
+*
+*/
+public static void cos(double[] src, double[] dst, int off, int len)
+{
+assert inRange(src, dst, off, len): "RealVectorOps -> cos method: the range [off, off+len) is out of the bounds of the arrays.";
+int end = off + len;
+double[] w = new double[3 * BLOCK];
+for(int from = off; from < end; from += BLOCK)
+{
+int to = Math.min(from + BLOCK, end);
+/* cos(x) = sin(x + pi/2), that is, one quadrant ahead. */
+if(allBelow(src, from, to, TRIG_LIMIT_BITS)) sinKernel(src, dst, w, from, to - from, 1);
+else for(int i = from; i < to; i++) dst[i] = RealMath.cos(src[i]);
+}
+}
+
+/**
+* Computes the sine and the cosine of len angles expressed in radians at once.
+* <p>
+* Every angle is reduced only once.
+* <p>
+* @param src array with the angles.
+* @param sin array to store the sines.
+* @param cos array to store the cosines.
+* @param off index of the first value.
+* @param len number of values.
+*
+*/
+public static void sincos(double[] src, double[] sin, double[] cos, int off, int len)
+{
+assert inRange(src, sin, off, len) && inRange(src, cos, off, len): "RealVectorOps -> sincos method: the range [off, off+len) is out of the bounds of the arrays.";
+int end = off + len;
+double[] w = new double[3 * BLOCK];
+double[] sc = new double[2];
+for(int from = off; from < end; from += BLOCK)
+{
+int to = Math.min(from + BLOCK, end);
+if(allBelow(src, from, to, TRIG_LIMIT_BITS)) sincosKernel(src, sin, cos, w, from, to - from);
+else
+{
+for(int i = from; i < to; i++)
+{
+RealMath.sincos(src[i], sc);
+sin[i] = sc[0];
+cos[i] = sc[1];
+}
+}
+}
+}
+
+/**
+* Computes the square root of len values.
+* <p>
+* @param src array with the values, all of them &gt;= 0.
+* @param dst array to store the results.
+* @param off index of the first value.
+* @param len number of values.
+*
+*/
+public static void sqrt(double[] src, double[] dst, int off, int len)
+{
+assert inRange(src, dst, off, len): "RealVectorOps -> sqrt method: the range [off, off+len) is out of the bounds of the arrays.";
+assert nonNegative(src, off, len): "RealVectorOps -> sqrt method: Bad parameter value. All the values must be >= 0.";
+for(int i = off; i < off + len; i++)
+{
+/* correctly rounded, so it is the same value returned by RealMath.sqrt */
+dst[i] = Math.sqrt(src[i]);
+}
+}
+
+/*
+* private kernel for exp, valid for |x| < 708.
+* x = k*ln(2) + r with k = rint(x/ln(2)), and exp(r) is the same Taylor polynomial used by RealMath, unrolled.
+* The block is first copied to the work buffer, so that the first loop reads and writes only that buffer and has only arithmetic,
+* so it can be vectorized. It stores exp(r) and k + 1.5*2^52 + 1023, where the low bits of the second one hold the biased exponent of 2^k.
+* The second loop moves those bits to the exponent field, which is exact since k stays in the normal range.
+*/
+private static void expKernel(double[] src, double[] dst, double[] w, int from, int count)
+{
+System.arraycopy(src, from, w, 0, count);
+for(int j = 0; j < count; j++)
+{
+double x = w[j];
+/* k rounds to nearest even, as in RealMath */
+double dk = Math.rint(x * RealMath.INV_LN2);
+double r = (x - dk * RealMath.LN2_HI) - dk * RealMath.LN2_LO;
+double p = F13;
+p = p * r + F12;
+p = p * r + F11;
+p = p * r + F10;
+p = p * r + F9;
+p = p * r + F8;
+p = p * r + F7;
+p = p * r + F6;
+p = p * r + F5;
+p = p * r + F4;
+p = p * r + F3;
+p = p * r + F2;
+p = p * r + 1.0;
+p = p * r + 1.0;
+w[j] = p;
+w[j+BLOCK] = dk + EXPONENT_SHIFTER;
+}
+for(int j = 0; j < count; j++)
+{
+dst[from+j] = w[j] * Double.longBitsToDouble(Double.doubleToRawLongBits(w[j+BLOCK]) << 52);
+}
+}
+
+/*
+* private kernel for log, valid for positive normal values.
+* Subtracting the bits of sqrt(2)/2 leaves k in the exponent field, and removing 2^k from x leaves m in [sqrt(2)/2, sqrt(2)),
+* with no branch at all. This first loop works on the bits; the second one has only arithmetic on the work buffer, so it can be vectorized,
+* and computes log(m) as in RealMath, with the series in s^2 unrolled. The results are then copied to the destination.
+*/
+private static void logKernel(double[] src, double[] dst, double[] w, int from, int count)
+{
+for(int j = 0; j < count; j++)
+{
+long bits = Double.doubleToRawLongBits(src[from+j]);
+long t = bits - SQRT1_2_BITS;
+w[j] = (double)(t >> 52);
+w[j+BLOCK] = Double.longBitsToDouble(bits - (t & EXPONENT_MASK));
+}
+for(int j = 0; j < count; j++)
+{
+double dk = w[j];
+double f = w[j+BLOCK] - 1.0;
+double s = f / (2.0 + f);
+double s2 = s * s;
+double R = L11 * s2;
+R = (R + L10) * s2;
+R = (R + L9) * s2;
+R = (R + L8) * s2;
+R = (R + L7) * s2;
+R = (R + L6) * s2;
+R = (R + L5) * s2;
+R = (R + L4) * s2;
+R = (R + L3) * s2;
+R = (R + L2) * s2;
+R = (R + L1) * s2;
+double hfsq = 0.5 * f * f;
+w[j] = dk * RealMath.LN2_HI - ((hfsq - (s * (hfsq + R) + dk * RealMath.LN2_LO)) - f);
+}
+System.arraycopy(w, 0, dst, from, count);
+}
+
+/*
+* private kernel for sin, or for cos when shift = 1, valid for |x| < CODY_WAITE_LIMIT.
+* x = n*pi/2 + y, with pi/2 split in four parts as in RealMath.
+* The first loop, which can be vectorized, stores sin(y), cos(y) and n in the work buffer;
+* the second one picks one of the polynomials and its sign from the quadrant by masking their bits, with no branch.
+*/
+private static void sinKernel(double[] src, double[] dst, double[] w, int from, int count, int shift)
+{
+reduce(src, w, from, count);
+for(int j = 0; j < count; j++)
+{
+long q = (long)w[j+2*BLOCK] + shift;
+long swap = -(q & 1L);
+long bits = (Double.doubleToRawLongBits(w[j]) & ~swap) | (Double.doubleToRawLongBits(w[j+BLOCK]) & swap);
+dst[from+j] = Double.longBitsToDouble(bits ^ ((q & 2L) << 62));
+}
+}
+
+/* private kernel for sincos; the same as sinKernel, storing both values. */
+private static void sincosKernel(double[] src, double[] sin, double[] cos, double[] w, int from, int count)
+{
+reduce(src, w, from, count);
+for(int j = 0; j < count; j++)
+{
+long q = (long)w[j+2*BLOCK];
+long swap = -(q & 1L);
+long s = Double.doubleToRawLongBits(w[j]);
+long c = Double.doubleToRawLongBits(w[j+BLOCK]);
+sin[from+j] = Double.longBitsToDouble(((s & ~swap) | (c & swap)) ^ ((q & 2L) << 62));
+cos[from+j] = Double.longBitsToDouble(((c & ~swap) | (s & swap)) ^ (((q + 1L) & 2L) << 62));
+}
+}
+
+/*
+* private method to reduce x = n*pi/2 + y and store sin(y), cos(y) and n in the work buffer.
+* The block is copied to the buffer first, as in expKernel, so that the loop can be vectorized.
+*/
+private static void reduce(double[] src, double[] w, int from, int count)
+{
+System.arraycopy(src, from, w, 0, count);
+for(int j = 0; j < count; j++)
+{
+double x = w[j];
+/* n rounds to nearest even, as in RealMath; adding 0 turns n = -0 into +0, so that x = -0 gives y = -0 */
+double dn = Math.rint(x * RealMath.INV_PIO2) + 0.0;
+double y = ((x - dn * RealMath.PIO2_1) - dn * RealMath.PIO2_2) - dn * RealMath.PIO2_3;
+y -= dn * RealMath.PIO2_3T;
+double y2 = y * y;
+w[j] = sinPolynomial(y, y2);
+w[j+BLOCK] = cosPolynomial(y2);
+w[j+2*BLOCK] = dn;
+}
+}
+
+/* private method to compute sin(y) for |y| <= pi/4: y(1/1! - y^2(1/3! - y^2(1/5! - ...))) */
+private static double sinPolynomial(double y, double y2)
+{
+double p = F17;
+p = F15 - y2 * p;
+p = F13 - y2 * p;
+p = F11 - y2 * p;
+p = F9 - y2 * p;
+p = F7 - y2 * p;
+p = F5 - y2 * p;
+p = F3 - y2 * p;
+p = 1.0 - y2 * p;
+return y * p;
+}
+
+/* private method to compute cos(y) for |y| <= pi/4: 1/0! - y^2(1/2! - y^2(1/4! - ...)) */
+private static double cosPolynomial(double y2)
+{
+double p = F18;
+p = F16 - y2 * p;
+p = F14 - y2 * p;
+p = F12 - y2 * p;
+p = F10 - y2 * p;
+p = F8 - y2 * p;
+p = F6 - y2 * p;
+p = F4 - y2 * p;
+p = F2 - y2 * p;
+return 1.0 - y2 * p;
+}
+
+/*
+* private method to check that |x| < limit for every x in [from, to); NaN fails.
+* For non-negative doubles, the order of the bits is the order of the values,
+* so |x| < limit if and only if (bits(|x|) - bits(limit)) is negative, and the AND of all of them keeps the sign bit only if every one has it.
+*/
+private static boolean allBelow(double[] src, int from, int to, long limit)
+{
+long acc = -1L;
+for(int i = from; i < to; i++)
+{
+acc &= (Double.doubleToRawLongBits(src[i]) & ABS_MASK) - limit;
+}
+return acc < 0L;
+}
+
+/* private method to check that every x in [from, to) is a positive normal double, in the same way as allBelow. */
+private static boolean allNormal(double[] src, int from, int to)
+{
+long acc = 0L;
+for(int i = from; i < to; i++)
+{
+long bits = Double.doubleToRawLongBits(src[i]);
+acc |= (bits - MIN_NORMAL_BITS) | (INFINITY_BITS - 1L - bits);
+}
+return acc >= 0L;
+}
+
+/* private method to check that no value in the range is negative, for the assertions. */
+private static boolean nonNegative(double[] src, int off, int len)
+{
+for(int i = off; i < off + len; i++)
+{
+if(!(src[i] >= 0.0)) return false;
+}
+return true;
+}
+
+/* private method to check the range [off, off+len) against both arrays, for the assertions. */
+private static boolean inRange(double[] src, double[] dst, int off, int len)
+{
+return off >= 0 && len >= 0 && off + len <= src.length && off + len <= dst.length;
+}
+
+
+private static final int BLOCK = 512;
+private static final long ABS_MASK = 0x7fffffffffffffffL;
+private static final long EXPONENT_MASK = 0xfff0000000000000L;
+private static final long SQRT1_2_BITS = 0x3fe6a09e667f3bcdL;
+private static final long MIN_NORMAL_BITS = 0x0010000000000000L;
+private static final long INFINITY_BITS = 0x7ff0000000000000L;
+/* 1.5*2^52 + 1023: adding it to an integer k in the normal range leaves k + 1023 in the low bits. */
+private static final double EXPONENT_SHIFTER = 6755399441055744.0 + 1023.0;
+/* bits of 708.0; exp(x) and exp(-x) are normal values below it. */
+private static final long EXP_LIMIT_BITS = 0x4086200000000000L;
+/* bits of the limit of the Cody-Waite reduction in RealMath; the reduction constants are also those of RealMath. */
+private static final long TRIG_LIMIT_BITS = Double.doubleToRawLongBits(RealMath.CODY_WAITE_LIMIT);
+/* 1/n! */
+private static final double F2 = HelperFunctions.inverseFactorial(2);
+private static final double F3 = HelperFunctions.inverseFactorial(3);
+private static final double F4 = HelperFunctions.inverseFactorial(4);
+private static final double F5 = HelperFunctions.inverseFactorial(5);
+private static final double F6 = HelperFunctions.inverseFactorial(6);
+private static final double F7 = HelperFunctions.inverseFactorial(7);
+private static final double F8 = HelperFunctions.inverseFactorial(8);
+private static final double F9 = HelperFunctions.inverseFactorial(9);
+private static final double F10 = HelperFunctions.inverseFactorial(10);
+private static final double F11 = HelperFunctions.inverseFactorial(11);
+private static final double F12 = HelperFunctions.inverseFactorial(12);
+private static final double F13 = HelperFunctions.inverseFactorial(13);
+private static final double F14 = HelperFunctions.inverseFactorial(14);
+private static final double F15 = HelperFunctions.inverseFactorial(15);
+private static final double F16 = HelperFunctions.inverseFactorial(16);
+private static final double F17 = HelperFunctions.inverseFactorial(17);
+private static final double F18 = HelperFunctions.inverseFactorial(18);
+/* 2/(2n+1), the coefficients of the series of log(m) in s^2. */
+private static final double L1 = 2.0 / 3.0;
+private static final double L2 = 2.0 / 5.0;
+private static final double L3 = 2.0 / 7.0;
+private static final double L4 = 2.0 / 9.0;
+private static final double L5 = 2.0 / 11.0;
+private static final double L6 = 2.0 / 13.0;
+private static final double L7 = 2.0 / 15.0;
+private static final double L8 = 2.0 / 17.0;
+private static final double L9 = 2.0 / 19.0;
+private static final double L10 = 2.0 / 21.0;
+private static final double L11 = 2.0 / 23.0;
+}
+
+// END
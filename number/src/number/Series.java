@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* Series.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+
+/* Shared series evaluation engine with package scope. */
+final class Series
+{
+
+/*
+* Ratio between two consecutive terms of a series.
+* term(n) = term(n-1) * next(x, n), for n = 1, 2, 3 ...
+*/
+interface Ratio
+{
+double next(double x, int n);
+}
+
+/*
+* Sums a series given its first term and the ratio between consecutive terms.
+* Each term is computed from the previous one, so no powers nor factorials are needed.
+* The loop stops as soon as a new term cannot change the sum any more, or after maxTerms terms.
+*/
+public static double sum(double first, double x, Ratio ratio, int maxTerms)
+{
+return sum(first, x, ratio, maxTerms, null);
+}
+
+/*
+* Same as above, and stores the number of terms added to the sum in terms[0], so the calls can be instrumented.
+* The count goes to an array owned by the caller, so calls from several threads never share it.
+*/
+public static double sum(double first, double x, Ratio ratio, int maxTerms, int[] terms)
+{
+double term = first;
+double sum = first;
+int n = 1;
+while(n < maxTerms)
+{
+term *= ratio.next(x, n);
+double next = sum + term;
+if(next == sum) break;
+sum = next;
+n++;
+}
+if(terms != null) terms[0] = n;
+return sum;
+}
+
+/* private constructor so that this class cannot be instantiated */
+private Series() {}
+}
+
+// END
@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2025 Ismael Mosquera Rivera
+ *
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/*
+* StreamEvaluator.java
+*
+* number-set
+*
+* Author: Ismael Mosquera Rivera
+*/
+
+package number;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+* The <code>StreamEvaluator</code> class applies a function to every value of a file of doubles and writes the results to another file.
+* <p>
+* The files hold raw doubles in little endian order, one after the other, or pairs of them for complex numbers ( real and imaginary parts ).
+* <p>
+* The work is split in three stages which run at the same time on different threads, so that the disk never waits for the processor:
+* <ul>
+* <li>a reader thread reads the input file, block by block, into direct buffers.</li>
+* <li>one or more compute threads apply the function to every block.</li>
+* <li>the calling thread writes every computed block at its place in the output file.</li>
+* </ul>
+* <p>
+* The blocks go from one stage to the next through bounded queues, and they are reused when written,
+* <p>
+* so the memory used does not depend on the size of the file, and no object is made for any value.
+* <p>
+* The output file can be the same as the input one.
+* <p>
+* example:
+* <p>
+* <code>new StreamEvaluator().apply(input, output, RealFunction.EXP);</code>
+* <p>
+* This class uses assertions, so you must be use the '-ea' modifier when executing, in order to enable assertions.
+* <p>
+* example:
+* <p>
+* <code>java -ea MyApp</code>
+*
+*/
+public final class StreamEvaluator
+{
+
+/**
+* Default size of a block, in doubles: 1 MB.
+*
+*/
+public static final int DEFAULT_BLOCK_SIZE = 1 << 17;
+
+/**
+* Default constructor.
+* <p>
+* Uses blocks of the default size, and all the processors but the ones taken by the reader and the writer to compute.
+*
+*/
+public StreamEvaluator()
+{
+this(DEFAULT_BLOCK_SIZE, Math.max(1, Runtime.getRuntime().availableProcessors() - 2));
+}
+
+/**
+* Constructor.
+* <p>
+* @param blockSize number of doubles of every block, even and &gt; 0.
+* @param threads number of compute threads, &gt; 0.
+*
+*/
+public StreamEvaluator(int blockSize, int threads)
+{
+assert (blockSize > 0 && blockSize % 2 == 0): "StreamEvaluator -> constructor: Bad parameter, the block size must be even and > 0.";
+assert (threads > 0): "StreamEvaluator -> constructor: Bad parameter, the number of threads must be > 0.";
+this.blockSize = blockSize;
+this.threads = threads;
+}
+
+/**
+* Applies a real function to every double of a file.
+* <p>
+* @param input path of the input file.
+* @param output path of the output file, which can be the same as the input one.
+* @param f the function.
+* <p>
+* @return the number of values computed.
+* <p>
+* @throws IOException if a file cannot be read or written.
+*
+*/
+public long apply(Path input, Path output, RealFunction f) throws IOException
+{
+return run(input, output, 1, (src, dst, len) -> f.apply(src, dst, 0, len));
+}
+
+/**
+* Applies a function to every double of a file.
+* <p>
+* @param input path of the input file.
+* @param output path of the output file, which can be the same as the input one.
+* @param f the function; it is called from several threads at once.
+* <p>
+* @return the number of values computed.
+* <p>
+* @throws IOException if a file cannot be read or written.
+*
+*/
+public long apply(Path input, Path output, DoubleUnaryOperator f) throws IOException
+{
+return run(input, output, 1, (src, dst, len) ->
+{
+for(int i = 0; i < len; i++) dst[i] = f.applyAsDouble(src[i]);
+});
+}
+
+/**
+* Applies a complex function to every pair of doubles of a file.
+* <p>
+* The function gets every complex number in its first parameter, and stores the result in the second one,
+* <p>
+* for instance <code>(c, r) -&gt; ComplexNumber.reciprocal(c, r)</code>. Both objects are reused for all the values.
+* <p>
+* @param input path of the input file.
+* @param output path of the output file, which can be the same as the input one.
+* @param f the function; it is called from several threads at once, each one with its own objects.
+* <p>
+* @return the number of complex numbers computed.
+* <p>
+* @throws IOException if a file cannot be read or written.
+*
+*/
+public long applyComplex(Path input, Path output, BiConsumer<ComplexNumber, ComplexNumber> f) throws IOException
+{
+return run(input, output, 2, (src, dst, len) ->
+{
+ComplexNumber c = new ComplexNumber();
+ComplexNumber r = new ComplexNumber();
+for(int i = 0; i < len; i += 2)
+{
+c.set(src[i], src[i+1]);
+f.accept(c, r);
+dst[i] = r.getReal();
+dst[i+1] = r.getImag();
+}
+});
+}
+
+
+/*
+* Work done on one block: dst[0..len) from src[0..len).
+*/
+interface Kernel
+{
+void run(double[] src, double[] dst, int len);
+}
+
+/* a block on its way through the stages; count < 0 marks the end of the stream. */
+private static final class Slot
+{
+Slot(int blockSize)
+{
+in = ByteBuffer.allocateDirect(8 * blockSize).order(ByteOrder.LITTLE_ENDIAN);
+out = ByteBuffer.allocateDirect(8 * blockSize).order(ByteOrder.LITTLE_ENDIAN);
+src = new double[blockSize];
+dst = new double[blockSize];
+}
+
+final ByteBuffer in;
+final ByteBuffer out;
+final double[] src;
+final double[] dst;
+long position;
+int count;
+}
+
+/* private method to run the three stages and wait for all of them. */
+private long run(Path input, Path output, int width, Kernel kernel) throws IOException
+{
+try(FileChannel reader = FileChannel.open(input, StandardOpenOption.READ); FileChannel writer = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE))
+{
+long size = reader.size();
+if(size % (8L * width) != 0L) throw new IOException("StreamEvaluator -> apply method: the size of " + input + " is not a whole number of values.");
+int slots = 2 * threads + 2;
+ArrayBlockingQueue<Slot> free = new ArrayBlockingQueue<Slot>(slots);
+ArrayBlockingQueue<Slot> full = new ArrayBlockingQueue<Slot>(slots + threads);
+ArrayBlockingQueue<Slot> done = new ArrayBlockingQueue<Slot>(slots + threads);
+for(int i = 0; i < slots; i++) free.add(new Slot(blockSize));
+AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+Thread read = new Thread(() ->
+{
+try
+{
+for(long position = 0L; position < size; position += 8L * blockSize)
+{
+Slot s = take(free, failure);
+s.in.clear();
+s.in.limit((int)Math.min(8L * blockSize, size - position));
+while(s.in.hasRemaining())
+{
+if(reader.read(s.in, position + s.in.position()) < 0) throw new IOException("StreamEvaluator -> apply method: unexpected end of " + input + ".");
+}
+s.position = position;
+s.count = s.in.limit() / 8;
+full.put(s);
+}
+for(int i = 0; i < threads; i++) full.put(end());
+}
+catch(Throwable t)
+{
+failure.compareAndSet(null, t);
+}
+}, "StreamEvaluator-reader");
+
+Thread[] compute = new Thread[threads];
+for(int k = 0; k < threads; k++)
+{
+compute[k] = new Thread(() ->
+{
+try
+{
+while(true)
+{
+Slot s = take(full, failure);
+if(s.count < 0)
+{
+done.put(s);
+break;
+}
+s.in.flip();
+s.in.asDoubleBuffer().get(s.src, 0, s.count);
+kernel.run(s.src, s.dst, s.count);
+s.out.clear();
+s.out.asDoubleBuffer().put(s.dst, 0, s.count);
+s.out.limit(8 * s.count);
+done.put(s);
+}
+}
+catch(Throwable t)
+{
+failure.compareAndSet(null, t);
+}
+}, "StreamEvaluator-compute-" + k);
+}
+
+read.setDaemon(true);
+read.start();
+for(Thread t : compute)
+{
+t.setDaemon(true);
+t.start();
+}
+try
+{
+int ended = 0;
+while(ended < threads)
+{
+Slot s = take(done, failure);
+if(s.count < 0)
+{
+ended++;
+continue;
+}
+while(s.out.hasRemaining()) writer.write(s.out, s.position + s.out.position());
+free.put(s);
+}
+writer.truncate(size);
+}
+catch(InterruptedException e)
+{
+Thread.currentThread().interrupt();
+throw new IOException("StreamEvaluator -> apply method: interrupted.", e);
+}
+catch(RuntimeException | IOException e)
+{
+failure.compareAndSet(null, e);
+}
+Throwable t = failure.get();
+if(t != null)
+{
+read.interrupt();
+for(Thread c : compute) c.interrupt();
+if(t instanceof IOException) throw (IOException)t;
+if(t instanceof RuntimeException) throw (RuntimeException)t;
+if(t instanceof Error) throw (Error)t;
+throw new IOException("StreamEvaluator -> apply method: interrupted.", t);
+}
+return size / (8L * width);
+}
+}
+
+/* private method to take a slot from a queue, giving up as soon as another stage fails. */
+private static Slot take(ArrayBlockingQueue<Slot> queue, AtomicReference<Throwable> failure) throws InterruptedException
+{
+while(true)
+{
+Slot s = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+if(s != null) return s;
+if(failure.get() != null) throw new IllegalStateException("StreamEvaluator: another stage failed.");
+}
+}
+
+/* private method to make the slot that marks the end of the stream. */
+private static Slot end()
+{
+Slot s = new Slot(0);
+s.count = -1;
+return s;
+}
+
+
+private static final long POLL_MILLIS = 100L;
+
+private final int blockSize;
+private final int threads;
+}
+
+// END